@@ -0,0 +1,56 @@
+package com.example.demo.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@code BenchmarkRunner} class is the entry point of the benchmark jar. It runs {@link FrameBenchmark}
+ * with the GC profiler attached, so that every stage reports its allocation rate next to its time per frame,
+ * and writes the results to {@code frame-benchmark.json} for comparing a baseline against a change.
+ * Standard JMH command line options, such as {@code -p enemyCount=50} or a benchmark name filter,
+ * are passed through.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/benchmarks/src/main/java/com/example/demo/benchmark/BenchmarkRunner.java">BenchmarkRunner.java</a>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * File the results are written to.
+     */
+    private static final String RESULT_FILE = "frame-benchmark.json";
+
+    /**
+     * Private constructor to prevent instantiation of this entry point class.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the frame benchmarks.
+     *
+     * @param args JMH command line options.
+     * @throws RunnerException If the benchmarks fail to run.
+     * @throws CommandLineOptionException If the command line options are invalid.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(FrameBenchmark.class.getSimpleName());
+        }
+        Options options = builder
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE)
+                .build();
+        new Runner(options).run();
+    }
+}
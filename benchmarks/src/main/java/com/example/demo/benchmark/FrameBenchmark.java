@@ -0,0 +1,130 @@
+package com.example.demo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code FrameBenchmark} class measures the per-frame update pipeline of
+ * {@link com.example.demo.level.LevelParent}: each stage on its own and the full frame with all stages in
+ * the order they run in the game. One benchmark operation is one frame, so scores are reported in ns/frame;
+ * run with the GC profiler, as {@link BenchmarkRunner} does, to get the allocation rate per stage as well.
+ * Benchmarks that move actors or fire projectiles end their frame with {@link PipelineState#endFrame()},
+ * which keeps the workload stable.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/benchmarks/src/main/java/com/example/demo/benchmark/FrameBenchmark.java">FrameBenchmark.java</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+
+    /**
+     * Measures moving all actors of all groups.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void updateAllActors(PipelineState state) {
+        state.actorManager.updateAllActors();
+        state.endFrame();
+    }
+
+    /**
+     * Measures letting every enemy decide whether to fire and spawning its projectiles.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void generateEnemyFire(PipelineState state) {
+        state.enemySpawner.generateEnemyFire();
+        state.endFrame();
+    }
+
+    /**
+     * Measures the collision pass between user projectiles and enemies.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void userProjectileCollisions(PipelineState state) {
+        state.collisionHandler.detectCollisions(state.userProjectiles, state.enemyUnits);
+    }
+
+    /**
+     * Measures the collision pass between enemy projectiles and friendly units.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void enemyProjectileCollisions(PipelineState state) {
+        state.collisionHandler.detectCollisions(state.enemyProjectiles, state.friendlyUnits);
+    }
+
+    /**
+     * Measures the collision pass between friendly and enemy planes.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void planeCollisions(PipelineState state) {
+        state.collisionHandler.detectCollisions(state.friendlyUnits, state.enemyUnits);
+    }
+
+    /**
+     * Measures the collision pass between user and enemy projectiles.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void projectileCollisions(PipelineState state) {
+        state.collisionHandler.detectCollisions(state.userProjectiles, state.enemyProjectiles);
+    }
+
+    /**
+     * Measures scanning all groups for destroyed actors.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void removeDestroyedActors(PipelineState state) {
+        state.actorManager.removeDestroyedActors();
+    }
+
+    /**
+     * Measures scanning the projectile groups for projectiles that left the screen.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void removeOutOfBoundsProjectiles(PipelineState state) {
+        state.actorManager.removeOutOfBoundsProjectiles(PipelineState.SCREEN_WIDTH);
+    }
+
+    /**
+     * Measures a full frame with all stages in the order of {@code LevelParent.updateScene()}.
+     *
+     * @param state The world being updated.
+     */
+    @Benchmark
+    public void fullFrame(PipelineState state) {
+        state.actorManager.updateAllActors();
+        state.enemySpawner.generateEnemyFire();
+        state.collisionHandler.detectCollisions(state.userProjectiles, state.enemyUnits);
+        state.collisionHandler.detectCollisions(state.enemyProjectiles, state.friendlyUnits);
+        state.collisionHandler.detectCollisions(state.friendlyUnits, state.enemyUnits);
+        state.collisionHandler.detectCollisions(state.userProjectiles, state.enemyProjectiles);
+        state.actorManager.removeDestroyedActors();
+        state.actorManager.removeOutOfBoundsProjectiles(PipelineState.SCREEN_WIDTH);
+        state.endFrame();
+    }
+}
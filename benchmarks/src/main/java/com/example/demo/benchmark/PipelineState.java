@@ -0,0 +1,231 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.actors.plane.UserPlane;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.UserProjectile;
+import com.example.demo.manager.ActorGroup;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.manager.CollisionHandler;
+import com.example.demo.manager.EnemySpawner;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.ProjectilePool;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@code PipelineState} class builds the game world measured by {@link FrameBenchmark}: the same actor lists,
+ * actor groups and managers that {@link com.example.demo.level.LevelParent} wires together, filled with a
+ * parameterised number of enemies, user projectiles and boss projectiles.
+ * <p>
+ * The world is built in {@link HeadlessMode}, so no JavaFX toolkit is needed. Actors are laid out in separate
+ * bands of the screen so that a frame has no hits, which is the common case and keeps the actor counts
+ * stable between frames. Every {@value #RECYCLE_PERIOD} frames, and after each iteration, actors that drifted far
+ * from their start are moved back and newly fired projectiles are released to the pool, as the game does once they
+ * leave the screen, so every frame sees about the same amount of work. The recycling is done from the benchmark
+ * methods instead of a per-invocation teardown, which JMH cannot time accurately for operations this short, and
+ * spread over the frames it adds only a small share to their scores.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/benchmarks/src/main/java/com/example/demo/benchmark/PipelineState.java">PipelineState.java</a>
+ */
+@State(Scope.Thread)
+public class PipelineState {
+
+    /**
+     * Width of the simulated screen, matching the game window.
+     */
+    static final double SCREEN_WIDTH = 1300;
+
+    /**
+     * Height of the simulated screen, matching the game window.
+     */
+    static final double SCREEN_HEIGHT = 750;
+
+    /**
+     * Horizontal distance an actor may drift from its start before it is moved back.
+     */
+    private static final double RECYCLE_DISTANCE = 300;
+
+    /**
+     * Number of frames between two recyclings of the workload. Short enough that no projectile drifts more than
+     * about {@link #RECYCLE_DISTANCE} past its start or out of its band in between.
+     */
+    static final int RECYCLE_PERIOD = 16;
+
+    /**
+     * Seed of the layout, fixed so that every run measures the same world.
+     */
+    private static final long LAYOUT_SEED = 2024;
+
+    /**
+     * Number of enemy planes on screen.
+     */
+    @Param({"5", "50", "200"})
+    public int enemyCount;
+
+    /**
+     * Number of projectiles fired by the user on screen.
+     */
+    @Param({"10", "100", "500"})
+    public int userProjectileCount;
+
+    /**
+     * Number of boss projectiles on screen.
+     */
+    @Param({"0", "100", "500"})
+    public int bossProjectileCount;
+
+    /**
+     * The root group all actors are attached to.
+     */
+    Group root;
+
+    /**
+     * The player's plane.
+     */
+    UserPlane user;
+
+    /**
+     * Friendly units, holding only the player's plane.
+     */
+    List<ActiveActorDestructible> friendlyUnits;
+
+    /**
+     * Enemy planes.
+     */
+    List<ActiveActorDestructible> enemyUnits;
+
+    /**
+     * Projectiles fired by the user.
+     */
+    List<ActiveActorDestructible> userProjectiles;
+
+    /**
+     * Projectiles fired by enemies and the boss.
+     */
+    List<ActiveActorDestructible> enemyProjectiles;
+
+    /**
+     * Manager updating and removing the actors of all groups.
+     */
+    ActorManager actorManager;
+
+    /**
+     * Handler detecting collisions between the actor lists.
+     */
+    CollisionHandler collisionHandler;
+
+    /**
+     * Spawner generating enemy fire.
+     */
+    EnemySpawner enemySpawner;
+
+    /**
+     * Number of frames run since the workload was last recycled.
+     */
+    private int framesSinceRecycle;
+
+    /**
+     * Builds the world for the current parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessMode.setEnabled(true);
+        GameRandom gameRandom = new GameRandom(LAYOUT_SEED); // Same fire decisions in every trial
+        Random random = new Random(LAYOUT_SEED);
+
+        root = new Group();
+        friendlyUnits = new ArrayList<>();
+        enemyUnits = new ArrayList<>();
+        userProjectiles = new ArrayList<>();
+        enemyProjectiles = new ArrayList<>();
+
+        user = new UserPlane(Integer.MAX_VALUE);
+        add(user, friendlyUnits);
+        // Enemies in the upper right, user projectiles in a band above the user, boss projectiles in the lower half
+        for (int i = 0; i < enemyCount; i++) {
+            add(new EnemyPlane(900 + random.nextDouble() * 300, random.nextDouble() * 180, gameRandom), enemyUnits);
+        }
+        for (int i = 0; i < userProjectileCount; i++) {
+            add(new UserProjectile(100 + random.nextDouble() * 400, 260 + random.nextDouble() * 30), userProjectiles);
+        }
+        for (int i = 0; i < bossProjectileCount; i++) {
+            add(new BossProjectile(500 + random.nextDouble() * 700, 420 + random.nextDouble() * 250), enemyProjectiles);
+        }
+
+        actorManager = new ActorManager(new ActorGroup(friendlyUnits, root), new ActorGroup(enemyUnits, root),
+                new ActorGroup(userProjectiles, root), new ActorGroup(enemyProjectiles, root));
+        collisionHandler = CollisionHandler.getInstance();
+        enemySpawner = new EnemySpawner(enemyUnits, root, enemyProjectiles, SCREEN_WIDTH, SCREEN_HEIGHT, gameRandom);
+    }
+
+    /**
+     * Ends a frame of a benchmark that changes the workload, recycling the workload every {@value #RECYCLE_PERIOD} frames.
+     */
+    void endFrame() {
+        if (++framesSinceRecycle >= RECYCLE_PERIOD) {
+            recycle();
+        }
+    }
+
+    /**
+     * Restores the workload by dropping newly fired projectiles and moving drifted actors back. It also runs after
+     * each iteration, so every iteration starts from the same world.
+     */
+    @TearDown(Level.Iteration)
+    public void recycle() {
+        framesSinceRecycle = 0;
+        while (enemyProjectiles.size() > bossProjectileCount) {
+            ActiveActorDestructible projectile = enemyProjectiles.remove(enemyProjectiles.size() - 1);
+            root.getChildren().remove(projectile);
+            ProjectilePool.getInstance().release(projectile);
+        }
+        recycle(enemyUnits);
+        recycle(userProjectiles);
+        recycle(enemyProjectiles);
+    }
+
+    /**
+     * Switches headless mode off again after the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    /**
+     * Adds an actor to the given list and to the root group.
+     *
+     * @param actor  The actor to add.
+     * @param actors The list tracking the actor.
+     */
+    private void add(ActiveActorDestructible actor, List<ActiveActorDestructible> actors) {
+        actors.add(actor);
+        root.getChildren().add(actor);
+    }
+
+    /**
+     * Moves actors that drifted too far horizontally back to their start position.
+     *
+     * @param actors The actors to check.
+     */
+    private static void recycle(List<ActiveActorDestructible> actors) {
+        for (ActiveActorDestructible actor : actors) {
+            if (Math.abs(actor.getTranslateX()) > RECYCLE_DISTANCE) {
+                actor.setTranslateX(0);
+            }
+        }
+    }
+}
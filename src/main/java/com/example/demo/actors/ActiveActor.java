@@ -1,9 +1,13 @@
 package com.example.demo.actors;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.SpriteMetrics;
+import com.example.demo.manager.TextureAtlas;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
 import javafx.scene.image.ImageView;
+import javafx.scene.transform.Translate;
 
-import java.util.Objects;
 
 /**
  * The {@code ActiveActor} class serves as an abstract base for all dynamic entities in the game that are capable
@@ -24,6 +28,49 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/**
+	 * The absolute X-coordinate of the actor at the start of the current simulation step.
+	 * Renderers use it to interpolate the drawn position between two steps.
+	 */
+	private double previousX;
+
+	/**
+	 * The absolute Y-coordinate of the actor at the start of the current simulation step.
+	 * Renderers use it to interpolate the drawn position between two steps.
+	 */
+	private double previousY;
+
+	/**
+	 * Visual offset from the simulated position to the interpolated position, or {@code null} until it is first needed.
+	 * It is a transform of the node only, so the simulated position and the cached bounds are not affected.
+	 */
+	private Translate renderOffset;
+
+	/**
+	 * Left edge of the cached bounds of the actor in its parent.
+	 */
+	private double boundsMinX;
+
+	/**
+	 * Top edge of the cached bounds of the actor in its parent.
+	 */
+	private double boundsMinY;
+
+	/**
+	 * Right edge of the cached bounds of the actor in its parent.
+	 */
+	private double boundsMaxX;
+
+	/**
+	 * Bottom edge of the cached bounds of the actor in its parent.
+	 */
+	private double boundsMaxY;
+
+	/**
+	 * Whether the position or size of the actor changed since the cached bounds were computed.
+	 */
+	private boolean boundsDirty = true;
+
 	/**
 	 * Constructs an {@code ActiveActor} instance with the specified image, size, and position.
 	 *
@@ -45,20 +92,209 @@ public abstract class ActiveActor extends ImageView {
 		loadImage(imageName, imageHeight);
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
+		savePreviousPosition();
+		trackBounds();
+	}
+
+	/**
+	 * Marks the cached bounds as dirty whenever the layout position, the translation or the size of the actor
+	 * changes, including changes made directly through the setters of the node.
+	 */
+	private void trackBounds() {
+		InvalidationListener invalidateBounds = observable -> boundsDirty = true;
+		layoutXProperty().addListener(invalidateBounds);
+		layoutYProperty().addListener(invalidateBounds);
+		translateXProperty().addListener(invalidateBounds);
+		translateYProperty().addListener(invalidateBounds);
+		layoutBoundsProperty().addListener(invalidateBounds);
 	}
 
 	/**
-	 * Loads the image for the actor and configures its dimensions.
+	 * Loads the image for the actor and configures its dimensions. The sprite is shown through a viewport into the
+	 * {@link TextureAtlas}, so that all actors share one texture.
+	 * In {@link HeadlessMode} the image is not decoded; the actor is sized from the sprite's header instead,
+	 * so that its bounds are the same as with the image loaded.
 	 *
 	 * @param imageName   The name of the image file.
 	 * @param imageHeight The height of the image to be set for the actor.
 	 */
 	private void loadImage(String imageName, int imageHeight) {
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
+		if (HeadlessMode.isEnabled()) {
+			this.setFitWidth(imageHeight * SpriteMetrics.getAspectRatio(IMAGE_LOCATION + imageName));
+			this.setFitHeight(imageHeight);
+			return;
+		}
+		TextureAtlas.getInstance().apply(this, IMAGE_LOCATION + imageName);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
 	}
 
+	/**
+	 * Records the current position as the position at the start of the next simulation step.
+	 * It is called before each step by levels that interpolate their rendering.
+	 */
+	public void savePreviousPosition() {
+		previousX = getLayoutX() + getTranslateX();
+		previousY = getLayoutY() + getTranslateY();
+	}
+
+	/**
+	 * Returns the absolute X-coordinate to draw the actor at, between its previous and its current position.
+	 *
+	 * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1].
+	 * @return The interpolated X-coordinate.
+	 */
+	public double getInterpolatedX(double alpha) {
+		return previousX + (getLayoutX() + getTranslateX() - previousX) * alpha;
+	}
+
+	/**
+	 * Returns the absolute Y-coordinate to draw the actor at, between its previous and its current position.
+	 *
+	 * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1].
+	 * @return The interpolated Y-coordinate.
+	 */
+	public double getInterpolatedY(double alpha) {
+		return previousY + (getLayoutY() + getTranslateY() - previousY) * alpha;
+	}
+
+	/**
+	 * Shows the actor at its interpolated position when it is displayed as a node of the scene graph, by offsetting
+	 * the node from its simulated position. Collisions keep using the simulated position.
+	 *
+	 * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1].
+	 */
+	public void applyRenderOffset(double alpha) {
+		double offsetX = getInterpolatedX(alpha) - getLayoutX() - getTranslateX();
+		double offsetY = getInterpolatedY(alpha) - getLayoutY() - getTranslateY();
+		if (renderOffset == null) {
+			if (offsetX == 0 && offsetY == 0) {
+				return; // Stationary actors never need the transform
+			}
+			renderOffset = new Translate();
+			getTransforms().add(renderOffset);
+		}
+		renderOffset.setX(offsetX);
+		renderOffset.setY(offsetY);
+	}
+
+	/**
+	 * Returns the left edge of the actor in its parent, the same as {@code getBoundsInParent().getMinX()} for an
+	 * untransformed actor but without allocating a new {@link Bounds}.
+	 *
+	 * @return The minimum X-coordinate of the actor.
+	 */
+	public double getBoundsMinX() {
+		refreshBounds();
+		return boundsMinX;
+	}
+
+	/**
+	 * Returns the top edge of the actor in its parent.
+	 *
+	 * @return The minimum Y-coordinate of the actor.
+	 */
+	public double getBoundsMinY() {
+		refreshBounds();
+		return boundsMinY;
+	}
+
+	/**
+	 * Returns the right edge of the actor in its parent.
+	 *
+	 * @return The maximum X-coordinate of the actor.
+	 */
+	public double getBoundsMaxX() {
+		refreshBounds();
+		return boundsMaxX;
+	}
+
+	/**
+	 * Returns the bottom edge of the actor in its parent.
+	 *
+	 * @return The maximum Y-coordinate of the actor.
+	 */
+	public double getBoundsMaxY() {
+		refreshBounds();
+		return boundsMaxY;
+	}
+
+	/**
+	 * Returns the width of the actor.
+	 *
+	 * @return The width of the bounds of the actor.
+	 */
+	public double getBoundsWidth() {
+		refreshBounds();
+		return boundsMaxX - boundsMinX;
+	}
+
+	/**
+	 * Returns the height of the actor.
+	 *
+	 * @return The height of the bounds of the actor.
+	 */
+	public double getBoundsHeight() {
+		refreshBounds();
+		return boundsMaxY - boundsMinY;
+	}
+
+	/**
+	 * Checks whether the bounds of this actor overlap the bounds of another actor. Touching edges count as an
+	 * overlap, matching {@link Bounds#intersects(Bounds)}.
+	 *
+	 * @param other The other actor.
+	 * @return {@code true} if the two actors overlap.
+	 */
+	public boolean intersects(ActiveActor other) {
+		refreshBounds();
+		other.refreshBounds();
+		return other.boundsMaxX >= boundsMinX && other.boundsMaxY >= boundsMinY
+				&& other.boundsMinX <= boundsMaxX && other.boundsMinY <= boundsMaxY;
+	}
+
+	/**
+	 * Returns the part of the actor that can collide with other actors. Subclasses whose image has transparent
+	 * padding override it to return a hitbox declared next to their image.
+	 *
+	 * @return The hitbox of the actor, {@link Hitbox#FULL} by default.
+	 */
+	public Hitbox getHitbox() {
+		return Hitbox.FULL;
+	}
+
+	/**
+	 * Checks whether the hitbox of this actor overlaps the hitbox of another actor. Callers are expected to have
+	 * rejected pairs whose bounds do not overlap, for example with {@link #intersects(ActiveActor)}.
+	 *
+	 * @param other The other actor.
+	 * @return {@code true} if the two hitboxes overlap.
+	 */
+	public boolean collidesWith(ActiveActor other) {
+		refreshBounds();
+		other.refreshBounds();
+		return getHitbox().intersects(boundsMinX, boundsMinY, boundsMaxX - boundsMinX, boundsMaxY - boundsMinY,
+				other.getHitbox(), other.boundsMinX, other.boundsMinY,
+				other.boundsMaxX - other.boundsMinX, other.boundsMaxY - other.boundsMinY);
+	}
+
+	/**
+	 * Recomputes the cached bounds from the position and size of the actor if they changed since the last call.
+	 */
+	private void refreshBounds() {
+		if (!boundsDirty) {
+			return;
+		}
+		Bounds local = getLayoutBounds(); // Cached by the node until the image or its size changes
+		double x = getLayoutX() + getTranslateX();
+		double y = getLayoutY() + getTranslateY();
+		boundsMinX = x + local.getMinX();
+		boundsMinY = y + local.getMinY();
+		boundsMaxX = x + local.getMaxX();
+		boundsMaxY = y + local.getMaxY();
+		boundsDirty = false;
+	}
+
 	/**
 	 * Updates the position of the actor. This method must be implemented by subclasses to define specific movement behavior.
 	 */
@@ -70,6 +70,22 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		this.isDestroyed = true;
 	}
 
+	/**
+	 * Restores the actor to a fresh state at the given position, so that a recycled instance behaves like a
+	 * newly constructed one. The translation is cleared and the actor is no longer destroyed.
+	 *
+	 * @param initialXPos The new initial X-coordinate of the actor.
+	 * @param initialYPos The new initial Y-coordinate of the actor.
+	 */
+	protected void resetState(double initialXPos, double initialYPos) {
+		this.setLayoutX(initialXPos);
+		this.setLayoutY(initialYPos);
+		this.setTranslateX(0);
+		this.setTranslateY(0);
+		this.isDestroyed = false;
+		savePreviousPosition();
+	}
+
 	/**
 	 * Checks if the actor has been destroyed.
 	 *
@@ -0,0 +1,351 @@
+package com.example.demo.actors;
+
+/**
+ * The {@code Hitbox} class describes the part of an actor's image that can collide with other actors.
+ * <p>
+ * Sprites usually have transparent padding around the visible shape, so testing whole image bounds reports
+ * hits where nothing is drawn. A hitbox is declared once per actor type, next to its image, as an inset box,
+ * a circle or a compound of boxes. Its measurements are fractions of the actor's bounds, so the same hitbox
+ * fits the actor at any image height. Collision detection first rejects pairs whose bounds do not overlap,
+ * then tests the hitboxes against each other with plain arithmetic, without allocating.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/actors/Hitbox.java">Hitbox.java</a>
+ */
+public abstract class Hitbox {
+
+	/**
+	 * Hitbox covering the whole bounds of the actor, used by actors whose image has no transparent padding.
+	 */
+	public static final Hitbox FULL = new Box(0, 0, 0, 0);
+
+	/**
+	 * Constructs a {@code Hitbox}. Hitboxes are created through the factory methods.
+	 */
+	private Hitbox() {
+	}
+
+	/**
+	 * Creates a box hitbox inset from the actor's bounds.
+	 *
+	 * @param left   The inset from the left edge, as a fraction of the actor's width.
+	 * @param top    The inset from the top edge, as a fraction of the actor's height.
+	 * @param right  The inset from the right edge, as a fraction of the actor's width.
+	 * @param bottom The inset from the bottom edge, as a fraction of the actor's height.
+	 * @return The box hitbox.
+	 * @throws IllegalArgumentException if an inset is negative or the insets leave no area.
+	 */
+	public static Hitbox box(double left, double top, double right, double bottom) {
+		if (left < 0 || top < 0 || right < 0 || bottom < 0 || left + right >= 1 || top + bottom >= 1) {
+			throw new IllegalArgumentException("Insets must be non-negative and leave a non-empty box.");
+		}
+		return new Box(left, top, right, bottom);
+	}
+
+	/**
+	 * Creates a circle hitbox.
+	 *
+	 * @param centerX The X-coordinate of the center, as a fraction of the actor's width from its left edge.
+	 * @param centerY The Y-coordinate of the center, as a fraction of the actor's height from its top edge.
+	 * @param radius  The radius, as a fraction of the actor's height. Must be positive.
+	 * @return The circle hitbox.
+	 * @throws IllegalArgumentException if the radius is non-positive.
+	 */
+	public static Hitbox circle(double centerX, double centerY, double radius) {
+		if (radius <= 0) {
+			throw new IllegalArgumentException("Radius must be positive.");
+		}
+		return new Circle(centerX, centerY, radius);
+	}
+
+	/**
+	 * Creates a hitbox made of several boxes, for shapes that a single box fits poorly.
+	 *
+	 * @param boxes The boxes, created by {@link #box(double, double, double, double)}.
+	 * @return The compound hitbox, hit when any of its boxes is hit.
+	 * @throws IllegalArgumentException if no box is given or a part is not a box.
+	 */
+	public static Hitbox compound(Hitbox... boxes) {
+		if (boxes.length == 0) {
+			throw new IllegalArgumentException("A compound hitbox needs at least one box.");
+		}
+		Box[] parts = new Box[boxes.length];
+		for (int i = 0; i < boxes.length; i++) {
+			if (!(boxes[i] instanceof Box)) {
+				throw new IllegalArgumentException("A compound hitbox can only be made of boxes.");
+			}
+			parts[i] = (Box) boxes[i];
+		}
+		return new Compound(parts);
+	}
+
+	/**
+	 * Checks whether this hitbox, placed on an actor's bounds, overlaps another hitbox placed on another actor's bounds.
+	 * Touching edges count as an overlap.
+	 *
+	 * @param minX        The left edge of the bounds of this hitbox's actor.
+	 * @param minY        The top edge of the bounds of this hitbox's actor.
+	 * @param width       The width of the bounds of this hitbox's actor.
+	 * @param height      The height of the bounds of this hitbox's actor.
+	 * @param other       The other hitbox.
+	 * @param otherMinX   The left edge of the bounds of the other actor.
+	 * @param otherMinY   The top edge of the bounds of the other actor.
+	 * @param otherWidth  The width of the bounds of the other actor.
+	 * @param otherHeight The height of the bounds of the other actor.
+	 * @return {@code true} if the hitboxes overlap.
+	 */
+	public abstract boolean intersects(double minX, double minY, double width, double height, Hitbox other,
+									   double otherMinX, double otherMinY, double otherWidth, double otherHeight);
+
+	/**
+	 * Checks whether this hitbox, placed on an actor's bounds, overlaps a box given in scene coordinates.
+	 *
+	 * @param minX    The left edge of the bounds of this hitbox's actor.
+	 * @param minY    The top edge of the bounds of this hitbox's actor.
+	 * @param width   The width of the bounds of this hitbox's actor.
+	 * @param height  The height of the bounds of this hitbox's actor.
+	 * @param boxMinX The left edge of the box.
+	 * @param boxMinY The top edge of the box.
+	 * @param boxMaxX The right edge of the box.
+	 * @param boxMaxY The bottom edge of the box.
+	 * @return {@code true} if the hitbox overlaps the box.
+	 */
+	abstract boolean intersectsBox(double minX, double minY, double width, double height,
+								   double boxMinX, double boxMinY, double boxMaxX, double boxMaxY);
+
+	/**
+	 * Checks whether this hitbox, placed on an actor's bounds, overlaps a circle given in scene coordinates.
+	 *
+	 * @param minX    The left edge of the bounds of this hitbox's actor.
+	 * @param minY    The top edge of the bounds of this hitbox's actor.
+	 * @param width   The width of the bounds of this hitbox's actor.
+	 * @param height  The height of the bounds of this hitbox's actor.
+	 * @param centerX The X-coordinate of the center of the circle.
+	 * @param centerY The Y-coordinate of the center of the circle.
+	 * @param radius  The radius of the circle.
+	 * @return {@code true} if the hitbox overlaps the circle.
+	 */
+	abstract boolean intersectsCircle(double minX, double minY, double width, double height,
+									  double centerX, double centerY, double radius);
+
+	/**
+	 * Checks whether a box and a circle overlap, by measuring the distance from the center of the circle to the
+	 * closest point of the box.
+	 *
+	 * @param boxMinX The left edge of the box.
+	 * @param boxMinY The top edge of the box.
+	 * @param boxMaxX The right edge of the box.
+	 * @param boxMaxY The bottom edge of the box.
+	 * @param centerX The X-coordinate of the center of the circle.
+	 * @param centerY The Y-coordinate of the center of the circle.
+	 * @param radius  The radius of the circle.
+	 * @return {@code true} if the box and the circle overlap.
+	 */
+	private static boolean boxIntersectsCircle(double boxMinX, double boxMinY, double boxMaxX, double boxMaxY,
+											   double centerX, double centerY, double radius) {
+		double dx = centerX - Math.max(boxMinX, Math.min(centerX, boxMaxX));
+		double dy = centerY - Math.max(boxMinY, Math.min(centerY, boxMaxY));
+		return dx * dx + dy * dy <= radius * radius;
+	}
+
+	/**
+	 * A box inset from the actor's bounds.
+	 */
+	private static final class Box extends Hitbox {
+
+		/**
+		 * Inset from the left edge, as a fraction of the width.
+		 */
+		private final double left;
+
+		/**
+		 * Inset from the top edge, as a fraction of the height.
+		 */
+		private final double top;
+
+		/**
+		 * Inset from the right edge, as a fraction of the width.
+		 */
+		private final double right;
+
+		/**
+		 * Inset from the bottom edge, as a fraction of the height.
+		 */
+		private final double bottom;
+
+		/**
+		 * Constructs a box hitbox.
+		 *
+		 * @param left   Inset from the left edge, as a fraction of the width.
+		 * @param top    Inset from the top edge, as a fraction of the height.
+		 * @param right  Inset from the right edge, as a fraction of the width.
+		 * @param bottom Inset from the bottom edge, as a fraction of the height.
+		 */
+		private Box(double left, double top, double right, double bottom) {
+			this.left = left;
+			this.top = top;
+			this.right = right;
+			this.bottom = bottom;
+		}
+
+		/**
+		 * Places the box on the actor's bounds and tests it against the other hitbox.
+		 */
+		@Override
+		public boolean intersects(double minX, double minY, double width, double height, Hitbox other,
+								  double otherMinX, double otherMinY, double otherWidth, double otherHeight) {
+			return other.intersectsBox(otherMinX, otherMinY, otherWidth, otherHeight,
+					minX + width * left, minY + height * top,
+					minX + width * (1 - right), minY + height * (1 - bottom));
+		}
+
+		/**
+		 * Tests the placed box against another box.
+		 */
+		@Override
+		boolean intersectsBox(double minX, double minY, double width, double height,
+							  double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+			return boxMaxX >= minX + width * left && boxMaxY >= minY + height * top
+					&& boxMinX <= minX + width * (1 - right) && boxMinY <= minY + height * (1 - bottom);
+		}
+
+		/**
+		 * Tests the placed box against a circle.
+		 */
+		@Override
+		boolean intersectsCircle(double minX, double minY, double width, double height,
+								 double centerX, double centerY, double radius) {
+			return boxIntersectsCircle(minX + width * left, minY + height * top,
+					minX + width * (1 - right), minY + height * (1 - bottom), centerX, centerY, radius);
+		}
+	}
+
+	/**
+	 * A circle placed relative to the actor's bounds.
+	 */
+	private static final class Circle extends Hitbox {
+
+		/**
+		 * X-coordinate of the center, as a fraction of the width.
+		 */
+		private final double centerX;
+
+		/**
+		 * Y-coordinate of the center, as a fraction of the height.
+		 */
+		private final double centerY;
+
+		/**
+		 * Radius, as a fraction of the height.
+		 */
+		private final double radius;
+
+		/**
+		 * Constructs a circle hitbox.
+		 *
+		 * @param centerX X-coordinate of the center, as a fraction of the width.
+		 * @param centerY Y-coordinate of the center, as a fraction of the height.
+		 * @param radius  Radius, as a fraction of the height.
+		 */
+		private Circle(double centerX, double centerY, double radius) {
+			this.centerX = centerX;
+			this.centerY = centerY;
+			this.radius = radius;
+		}
+
+		/**
+		 * Places the circle on the actor's bounds and tests it against the other hitbox.
+		 */
+		@Override
+		public boolean intersects(double minX, double minY, double width, double height, Hitbox other,
+								  double otherMinX, double otherMinY, double otherWidth, double otherHeight) {
+			return other.intersectsCircle(otherMinX, otherMinY, otherWidth, otherHeight,
+					minX + width * centerX, minY + height * centerY, height * radius);
+		}
+
+		/**
+		 * Tests the placed circle against a box.
+		 */
+		@Override
+		boolean intersectsBox(double minX, double minY, double width, double height,
+							  double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+			return boxIntersectsCircle(boxMinX, boxMinY, boxMaxX, boxMaxY,
+					minX + width * centerX, minY + height * centerY, height * radius);
+		}
+
+		/**
+		 * Tests the placed circle against another circle, comparing squared distances without a square root.
+		 */
+		@Override
+		boolean intersectsCircle(double minX, double minY, double width, double height,
+								 double centerX, double centerY, double radius) {
+			double dx = centerX - (minX + width * this.centerX);
+			double dy = centerY - (minY + height * this.centerY);
+			double reach = radius + height * this.radius;
+			return dx * dx + dy * dy <= reach * reach;
+		}
+	}
+
+	/**
+	 * Several boxes, hit when any of them is hit.
+	 */
+	private static final class Compound extends Hitbox {
+
+		/**
+		 * The boxes making up the hitbox.
+		 */
+		private final Box[] boxes;
+
+		/**
+		 * Constructs a compound hitbox.
+		 *
+		 * @param boxes The boxes making up the hitbox.
+		 */
+		private Compound(Box[] boxes) {
+			this.boxes = boxes;
+		}
+
+		/**
+		 * Tests each box in turn against the other hitbox.
+		 */
+		@Override
+		public boolean intersects(double minX, double minY, double width, double height, Hitbox other,
+								  double otherMinX, double otherMinY, double otherWidth, double otherHeight) {
+			for (Box box : boxes) {
+				if (box.intersects(minX, minY, width, height, other, otherMinX, otherMinY, otherWidth, otherHeight)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Tests each box in turn against a box.
+		 */
+		@Override
+		boolean intersectsBox(double minX, double minY, double width, double height,
+							  double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+			for (Box box : boxes) {
+				if (box.intersectsBox(minX, minY, width, height, boxMinX, boxMinY, boxMaxX, boxMaxY)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Tests each box in turn against a circle.
+		 */
+		@Override
+		boolean intersectsCircle(double minX, double minY, double width, double height,
+								 double centerX, double centerY, double radius) {
+			for (Box box : boxes) {
+				if (box.intersectsCircle(minX, minY, width, height, centerX, centerY, radius)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -1,8 +1,10 @@
 package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.Hitbox;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.manager.FirePatternManager;
+import com.example.demo.manager.GameRandom;
 import com.example.demo.manager.HealthBarManager;
 import com.example.demo.manager.ShieldManager;
 import javafx.scene.Group;
@@ -49,6 +51,15 @@ public class Boss extends FighterPlane {
 	 */
 	private static final int IMAGE_HEIGHT = 60;
 
+	/**
+	 * Hitbox of the boss plane: the fuselage plus the tail fin above it and the wing below it, leaving out the
+	 * transparent corners of the image.
+	 */
+	private static final Hitbox HITBOX = Hitbox.compound(
+			Hitbox.box(0.08, 0.3, 0.02, 0.3),
+			Hitbox.box(0.5, 0.1, 0.1, 0.7),
+			Hitbox.box(0.02, 0.7, 0.28, 0.1));
+
 	/**
 	 * Vertical velocity for the boss's movement.
 	 */
@@ -99,6 +110,11 @@ public class Boss extends FighterPlane {
 	 */
 	private int indexOfCurrentMove;
 
+	/**
+	 * Source of randomness for the movement and fire decisions, the generator of the level the boss belongs to.
+	 */
+	private final GameRandom random;
+
 	/**
 	 * {@link ShieldManager} manages the shield functionality of the Boss.
 	 */
@@ -117,20 +133,33 @@ public class Boss extends FighterPlane {
 	/**
 	 * Constructs a {@code Boss} instance with its initial position and shield manager.
 	 *
-	 * @param root The {@code Group} representing the scene graph root where the boss and its shield will be added.
+	 * @param root   The {@code Group} representing the scene graph root where the boss and its shield will be added.
+	 * @param random The source of randomness for the boss, its shield and its fire patterns.
 	 */
-	public Boss(Group root) {
+	public Boss(Group root, GameRandom random) {
+		this(root, root, random);
+	}
+
+	/**
+	 * Constructs a {@code Boss} instance whose shield and health bar are shown in separate layers of the scene.
+	 *
+	 * @param effectsRoot The {@code Group} the shield is added to.
+	 * @param hudRoot     The {@code Group} the health bar is added to.
+	 * @param random      The source of randomness for the boss, its shield and its fire patterns.
+	 */
+	public Boss(Group effectsRoot, Group hudRoot, GameRandom random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.random = random;
 		this.movePattern = new ArrayList<>();
 		this.consecutiveMovesInSameDirection = 0;
 		this.indexOfCurrentMove = 0;
-		this.shieldManager = new ShieldManager(root, INITIAL_X_POSITION, INITIAL_Y_POSITION);
+		this.shieldManager = new ShieldManager(effectsRoot, INITIAL_X_POSITION, INITIAL_Y_POSITION, random);
 
 		// Initialize the health bar manager
 		this.healthBarManager = new HealthBarManager(400, 10); // Top-center position
-		root.getChildren().add(healthBarManager.getContainer());
+		hudRoot.getChildren().add(healthBarManager.getContainer());
 		healthBarManager.showHealthBar(); // Ensure the health bar is visible initially
-		this.firePatternManager = new FirePatternManager(PROJECTILE_Y_POSITION_OFFSET);
+		this.firePatternManager = new FirePatternManager(PROJECTILE_Y_POSITION_OFFSET, random);
 
 		initializeMovePattern();
 	}
@@ -206,7 +235,7 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Initializes the movement pattern for the boss.
-	 * The pattern alternates between upward, downward, and stationary movements.
+	 * The pattern alternates between upward, downward, and stationary movements, and is shuffled to randomize the sequence.
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
@@ -214,7 +243,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(STATIONARY_MOVE );
 		}
-		Collections.shuffle(movePattern);
+		random.shuffle(movePattern);
 	}
 
 	/**
@@ -228,7 +257,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			random.shuffle(movePattern);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -244,7 +273,7 @@ public class Boss extends FighterPlane {
 	 * @return {@code true} if the boss fires a projectile; {@code false} otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.chance(BOSS_FIRE_RATE);
 	}
 
 	/**
@@ -264,4 +293,15 @@ public class Boss extends FighterPlane {
 	public HealthBarManager getHealthBarManager() {
 		return healthBarManager;
 	}
+
+	/**
+	 * Returns the hitbox of the boss plane, which leaves out the transparent corners of its image.
+	 * This method overrides the {@link com.example.demo.actors.ActiveActor#getHitbox()} method
+	 *
+	 * @return The hitbox of the boss plane.
+	 */
+	@Override
+	public Hitbox getHitbox() {
+		return HITBOX;
+	}
 }
@@ -2,6 +2,8 @@ package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.ProjectilePool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,6 +58,10 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	private static final double FIRE_RATE = 0.01 / VELOCITY_CHANGE;
 
+	/**
+	 * Source of randomness for the fire decisions, the generator of the level the plane belongs to.
+	 */
+	private final GameRandom random;
 
 	/**
 	 * Constructs an {@code EnemyPlane} with default health.
@@ -63,9 +69,10 @@ public class EnemyPlane extends FighterPlane {
 	 *
 	 * @param initialXPos the initial x-coordinate of the enemy plane
 	 * @param initialYPos the initial y-coordinate of the enemy plane
+	 * @param random the source of randomness for the plane's fire decisions
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+	public EnemyPlane(double initialXPos, double initialYPos, GameRandom random) {
+		this(initialXPos, initialYPos, INITIAL_HEALTH, IMAGE_NAME, random);
 	}
 
 	/**
@@ -76,10 +83,12 @@ public class EnemyPlane extends FighterPlane {
 	 * @param initialYPos the initial y-coordinate of the enemy plane, specifying where on the screen it appears vertically.
 	 * @param health the health level with which the enemy plane starts, indicating how much damage it can take before being destroyed.
 	 * @param imageName the file name of the image representing this enemy plane, allowing for visual variety.
+	 * @param random the source of randomness for the plane's fire decisions.
 	 */
 
-	public EnemyPlane(double initialXPos, double initialYPos, int health, String imageName) {
+	public EnemyPlane(double initialXPos, double initialYPos, int health, String imageName, GameRandom random) {
 		super(imageName, IMAGE_HEIGHT, initialXPos, initialYPos, health);
+		this.random = random;
 	}
 
 	/**
@@ -102,10 +111,10 @@ public class EnemyPlane extends FighterPlane {
 	@Override
 	public List<ActiveActorDestructible> fireProjectile() {
 		List<ActiveActorDestructible> projectiles = new ArrayList<>();
-		if (Math.random() < FIRE_RATE) {
+		if (random.chance(FIRE_RATE)) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			projectiles.add(new EnemyProjectile(projectileXPosition, projectileYPosition));
+			projectiles.add(ProjectilePool.getInstance().acquireEnemyProjectile(projectileXPosition, projectileYPosition));
 		}
 		return projectiles;
 	}
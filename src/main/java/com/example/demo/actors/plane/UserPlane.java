@@ -3,6 +3,7 @@ package com.example.demo.actors.plane;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.projectile.Projectile;
 import com.example.demo.actors.projectile.UserProjectile;
+import com.example.demo.manager.ProjectilePool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -127,7 +128,7 @@ public class UserPlane extends FighterPlane {
 
 	/**
 	 * Fires a projectile from the user plane. This method is invoked in response to player input, such as pressing the fire button.
-	 * It creates a {@link UserProjectile} positioned to initiate from the front of the plane, simulating weapon fire.
+	 * It takes a {@link UserProjectile} from the {@link ProjectilePool}, positioned to initiate from the front of the plane, simulating weapon fire.
 	 *This method overrides the {@link FighterPlane#fireProjectile()} method
 	 *
 	 * @return A list containing the newly created {@link UserProjectile}, or an empty list if no projectile was fired.
@@ -136,7 +137,7 @@ public class UserPlane extends FighterPlane {
 	@Override
 	public List<ActiveActorDestructible> fireProjectile() {
 		List<ActiveActorDestructible> projectiles = new ArrayList<>();
-		projectiles.add(new UserProjectile(getProjectileXPosition(PROJECTILE_X_POSITION), getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET)));
+		projectiles.add(ProjectilePool.getInstance().acquireUserProjectile(getProjectileXPosition(PROJECTILE_X_POSITION), getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET)));
 		return projectiles;
 	}
 
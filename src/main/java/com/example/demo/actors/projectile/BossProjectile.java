@@ -1,5 +1,7 @@
 package com.example.demo.actors.projectile;
 
+import com.example.demo.actors.Hitbox;
+
 import static com.example.demo.level.LevelParent.VELOCITY_CHANGE;
 
 /**
@@ -19,6 +21,10 @@ public class BossProjectile extends Projectile {
 	 * The display height of the boss's projectile image.
 	 */
 	private static final int IMAGE_HEIGHT = 75;
+	/**
+	 * Hitbox of the fireball: a circle around its head, leaving out the flame trailing to the upper right.
+	 */
+	private static final Hitbox HITBOX = Hitbox.circle(0.22, 0.7, 0.3);
 	/**
 	 * Default horizontal velocity of the boss's projectile.
 	 */
@@ -26,11 +32,11 @@ public class BossProjectile extends Projectile {
 	/**
 	 * The horizontal velocity of the projectile, allowing for dynamic movement modifications.
 	 */
-	private final double xVelocity;
+	private double xVelocity;
 	/**
 	 * The vertical velocity of the projectile, allowing for dynamic movement modifications.
 	 */
-	private final double yVelocity;
+	private double yVelocity;
 
 	/**
 	 * Constructs a {@code BossProjectile} with the specified initial position.
@@ -60,6 +66,20 @@ public class BossProjectile extends Projectile {
 		this.yVelocity = yVelocity;
 	}
 
+	/**
+	 * Prepares a recycled projectile to be fired again from the given position with the given velocities.
+	 *
+	 * @param initialXPos The X-coordinate the projectile is fired from.
+	 * @param initialYPos The Y-coordinate the projectile is fired from.
+	 * @param xVelocity The horizontal velocity of the projectile.
+	 * @param yVelocity The vertical velocity of the projectile.
+	 */
+	public void reset(double initialXPos, double initialYPos, int xVelocity, int yVelocity) {
+		reset(initialXPos, initialYPos);
+		this.xVelocity = xVelocity;
+		this.yVelocity = yVelocity;
+	}
+
 	/**
 	 * Updates the position of the projectile by applying horizontal and vertical velocities.
 	 * This method overrides the {@link Projectile#updatePosition()} to specify the movement behavior,
@@ -86,6 +106,7 @@ public class BossProjectile extends Projectile {
 	 *
 	 * @return The horizontal velocity of the projectile.
 	 */
+	@Override
 	public double getXVelocity() {
 		return xVelocity;
 	}
@@ -96,7 +117,19 @@ public class BossProjectile extends Projectile {
 	 *
 	 * @return The vertical velocity of the projectile.
 	 */
+	@Override
 	public double getYVelocity() {
 		return yVelocity;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the hitbox of the fireball, the head of the flame only.
+	 * This method overrides the {@link com.example.demo.actors.ActiveActor#getHitbox()} method
+	 *
+	 * @return The hitbox of the fireball.
+	 */
+	@Override
+	public Hitbox getHitbox() {
+		return HITBOX;
+	}
+}
@@ -54,4 +54,26 @@ public class EnemyProjectile extends Projectile {
 	public void updateActor() {
 		updatePosition();
 	}
+
+	/**
+	 * Returns the horizontal velocity of the projectile, which is constant and points to the left.
+	 * This method overrides the {@link Projectile#getXVelocity()} method.
+	 *
+	 * @return The horizontal velocity of the projectile.
+	 */
+	@Override
+	public double getXVelocity() {
+		return HORIZONTAL_VELOCITY;
+	}
+
+	/**
+	 * Returns the vertical velocity of the projectile. The projectile only travels horizontally.
+	 * This method overrides the {@link Projectile#getYVelocity()} method.
+	 *
+	 * @return Always {@code 0}.
+	 */
+	@Override
+	public double getYVelocity() {
+		return 0;
+	}
 }
@@ -13,6 +13,11 @@ import com.example.demo.actors.plane.FighterPlane;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+	/**
+	 * Whether the projectile is waiting in the {@link com.example.demo.manager.ProjectilePool} to be fired again.
+	 */
+	private boolean pooled;
+
 	/**
 	 * Constructs a {@code Projectile} instance with the specified image, size, and initial position.
 	 *
@@ -35,6 +40,36 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy();
 	}
 
+	/**
+	 * Prepares a recycled projectile to be fired again from the given position.
+	 * It is used by the {@link com.example.demo.manager.ProjectilePool} instead of constructing a new projectile.
+	 *
+	 * @param initialXPos The X-coordinate the projectile is fired from.
+	 * @param initialYPos The Y-coordinate the projectile is fired from.
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		resetState(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Checks whether the projectile is idle in the {@link com.example.demo.manager.ProjectilePool}.
+	 *
+	 * @return {@code true} if the projectile has been released to the pool and not acquired since.
+	 */
+	public boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * Marks the projectile as idle in the {@link com.example.demo.manager.ProjectilePool} or as in play.
+	 * It is set by the pool only, so that releasing a projectile twice can be detected without searching the pool.
+	 *
+	 * @param pooled {@code true} when the projectile enters the pool, {@code false} when it leaves it.
+	 */
+	public void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
+
 	/**
 	 * Updates the position of the projectile. This method must be implemented
 	 * by subclasses to define the specific movement behavior of the projectile.
@@ -42,4 +77,18 @@ public abstract class Projectile extends ActiveActorDestructible {
 	 */
 	@Override
 	public abstract void updatePosition();
+
+	/**
+	 * Returns the horizontal distance the projectile moves in one simulation step.
+	 *
+	 * @return The horizontal velocity of the projectile.
+	 */
+	public abstract double getXVelocity();
+
+	/**
+	 * Returns the vertical distance the projectile moves in one simulation step.
+	 *
+	 * @return The vertical velocity of the projectile.
+	 */
+	public abstract double getYVelocity();
 }
@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.level.LevelRegistry;
 import javafx.stage.Stage;
 
 /**
@@ -23,6 +24,12 @@ public class Controller {
 	 */
 	private final LevelController levelController;
 
+	/**
+	 * The controller of the game being played. Restarting the game creates a new controller, which disposes of
+	 * this one so that the levels of the previous game do not stay reachable.
+	 */
+	private static Controller active;
+
 	/**
 	 * Constructs a {@code Controller} with a specified {@link Stage}.
 	 * This constructor initializes the stage and level controllers, setting up
@@ -31,7 +38,17 @@ public class Controller {
 	 * @param stage The primary stage of the application, used to display the game's UI.
 	 */
 	public Controller(Stage stage) {
-		this.stageController = new StageController(stage);
+		this(new StageController(stage));
+	}
+
+	/**
+	 * Constructs a {@code Controller} showing the game through the given stage controller, for example one that
+	 * stands in for the stage when the game runs without the JavaFX toolkit.
+	 *
+	 * @param stageController The controller of the stage the game is shown on.
+	 */
+	public Controller(StageController stageController) {
+		this.stageController = stageController;
 		this.levelController = new LevelController(stageController);
 	}
 
@@ -43,7 +60,39 @@ public class Controller {
 	 * @throws Exception If an error occurs during the initial level loading.
 	 */
 	public void launchGame() throws Exception {
+		launchGame(LevelRegistry.getInstance().getStartLevel());
+	}
+
+	/**
+	 * Launches the game from the given level, for example the level a lost game is retried from.
+	 *
+	 * @param levelName The name of the level in the {@link LevelRegistry}.
+	 * @throws Exception If an error occurs during the level loading.
+	 */
+	public void launchGame(String levelName) throws Exception {
+		synchronized (Controller.class) {
+			if (active != null && active != this) {
+				active.dispose();
+			}
+			active = this;
+		}
 		stageController.showStage();
-		levelController.goToLevel(LevelController.LEVEL_ONE_CLASS_NAME);
+		levelController.goToLevel(levelName);
+	}
+
+	/**
+	 * Disposes of the controller, and with it the current level and the level prepared in the background.
+	 */
+	public void dispose() {
+		levelController.dispose();
+	}
+
+	/**
+	 * Returns the controller of the levels of this game.
+	 *
+	 * @return The {@link LevelController} of the game.
+	 */
+	public LevelController getLevelController() {
+		return levelController;
 	}
 }
@@ -1,11 +1,12 @@
 package com.example.demo.controller;
 
+import com.example.demo.manager.GameLogger;
 import javafx.scene.control.Alert;
 
 /**
  * The {@code ExceptionHandler} class provides a centralized mechanism for handling exceptions
  * throughout the application. It displays an alert with the error information and logs the exception
- * to the standard error stream.
+ * through the {@link GameLogger}.
  * <p>
  * This class is designed to simplify error handling in the application by providing a uniform approach
  * to reporting and logging exceptions. It can be especially useful in a user interface context where
@@ -17,7 +18,12 @@ import javafx.scene.control.Alert;
 public class ExceptionHandler {
 
     /**
-     * Handles exceptions by displaying an alert with the type of exception and printing the stack trace.
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(ExceptionHandler.class);
+
+    /**
+     * Handles exceptions by displaying an alert with the type of exception and logging its stack trace.
      * This method is static, allowing it to be called from anywhere in the application without needing
      * an instance of {@code ExceptionHandler}.
      * <p>
@@ -30,6 +36,6 @@ public class ExceptionHandler {
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setContentText(e.getClass().toString());
         alert.show();
-        e.printStackTrace();
+        LOGGER.error("Unhandled exception", e);
     }
 }
@@ -1,15 +1,17 @@
 package com.example.demo.controller;
 
 import com.example.demo.level.LevelParent;
+import com.example.demo.level.LevelPreloader;
+import com.example.demo.level.LevelRegistry;
+import com.example.demo.manager.InputRecorder;
 import com.example.demo.menu.PauseMenu;
+import javafx.beans.value.ChangeListener;
 import javafx.scene.Scene;
 
-import java.lang.reflect.Constructor;
-
 /**
  * The {@code LevelController} class is responsible for managing the game levels within the application.
- * It facilitates the dynamic loading and transitioning between different game levels using reflection,
- * ensuring smooth gameplay transitions. Additionally, it manages interactions with the pause menu,
+ * It facilitates the dynamic loading and transitioning between different game levels through the
+ * {@link LevelRegistry}, ensuring smooth gameplay transitions. Additionally, it manages interactions with the pause menu,
  * handling game pausing and resumption seamlessly.
  *
  * <p>
@@ -17,12 +19,6 @@ import java.lang.reflect.Constructor;
  */
 public class LevelController {
 
-    /**
-     * The fully qualified name of the class for the first level in the game.
-     * This is used as a reference point for starting the game and dynamic level loading.
-     */
-    public static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.level.LevelOne";
-
     /**
      * The controller for managing the main stage and scenes of the application.
      * It is used for setting the scene during level transitions.
@@ -40,6 +36,26 @@ public class LevelController {
      */
     private LevelParent currentLevel;
 
+    /**
+     * Prepares the level following the current one in the background, created with the first level.
+     */
+    private LevelPreloader levelPreloader;
+
+    /**
+     * Listener moving on to the next level when the current level asks for it. The same listener is attached to
+     * each level in turn and detached from it when the level is left, so that a left level keeps no reference
+     * to the controller.
+     */
+    private final ChangeListener<String> nextLevelListener = (observable, oldValue, newValue) -> {
+        if (newValue != null && !newValue.isEmpty()) {
+            try {
+                goToLevel(newValue);
+            } catch (Exception e) {
+                handleException(e);
+            }
+        }
+    };
+
     /**
      * Constructs a {@code LevelController} with a reference to the {@link StageController}.
      * This controller is used to manage stage transitions and scene setups throughout the game.
@@ -52,34 +68,66 @@ public class LevelController {
     }
 
     /**
-     * Loads and transitions to a game level specified by its class name. This method utilizes reflection
-     * to instantiate level classes dynamically based on their names, facilitating flexible level transitions.
+     * Loads and transitions to a game level specified by its name in the {@link LevelRegistry}, which creates
+     * the level through its registered factory, facilitating flexible level transitions. The level is taken from
+     * the {@link LevelPreloader} if it has been prepared while the previous level was played, and the level
+     * following it starts being prepared as soon as it is running. The previous level is disposed of.
      *
      * @param className The fully qualified class name of the level to load.
-     * @throws Exception If the level cannot be instantiated, typically due to reflection errors such as
-     *                   a missing class or a lack of an appropriate constructor.
+     * @throws IllegalArgumentException if the level is not registered in the {@link LevelRegistry}.
      */
-    public void goToLevel(String className) throws Exception {
-        Class<?> myClass = Class.forName(className);
-        Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-        currentLevel = (LevelParent) constructor.newInstance(stageController.getStageHeight(), stageController.getStageWidth());
+    public void goToLevel(String className) {
+        if (LevelRegistry.getInstance().getStartLevel().equals(className)) {
+            InputRecorder.getInstance().restartRecording(); // Only the latest run is kept
+        }
+        if (levelPreloader == null) {
+            levelPreloader = new LevelPreloader(stageController.getStageHeight(), stageController.getStageWidth());
+        }
+        releaseCurrentLevel();
+        currentLevel = levelPreloader.take(className);
 
         Scene scene = currentLevel.initializeScene();
         stageController.setScene(scene);
         currentLevel.startGame();
+        levelPreloader.preload(currentLevel.getNextLevelName());
 
         pauseMenu = new PauseMenu(stageController.getStage(), scene, this::resumeGame, currentLevel);
         currentLevel.setPauseMenu(pauseMenu);
 
-        currentLevel.nextLevelProperty().addListener((observable, oldValue, newValue) -> {
-            if (newValue != null && !newValue.isEmpty()) {
-                try {
-                    goToLevel(newValue);
-                } catch (Exception e) {
-                    handleException(e);
-                }
-            }
-        });
+        currentLevel.nextLevelProperty().addListener(nextLevelListener);
+    }
+
+    /**
+     * Disposes of the controller when the game is restarted: the current level is disposed of and the level
+     * prepared in the background is discarded.
+     */
+    public void dispose() {
+        releaseCurrentLevel();
+        if (levelPreloader != null) {
+            levelPreloader.clear();
+        }
+    }
+
+    /**
+     * Detaches the controller from the current level and disposes of the level and its pause menu, if there is one.
+     */
+    private void releaseCurrentLevel() {
+        if (currentLevel == null) {
+            return;
+        }
+        currentLevel.nextLevelProperty().removeListener(nextLevelListener);
+        currentLevel.dispose();
+        currentLevel = null;
+        pauseMenu = null;
+    }
+
+    /**
+     * Returns the level currently played.
+     *
+     * @return The current level, or {@code null} if no level has been loaded or the controller has been disposed of.
+     */
+    public LevelParent getCurrentLevel() {
+        return currentLevel;
     }
 
     /**
@@ -1,7 +1,16 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 
+import com.example.demo.level.LevelRegistry;
+import com.example.demo.manager.AudioManager;
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.ImageCache;
+import com.example.demo.manager.InputRecorder;
+import com.example.demo.manager.InputRecording;
+import com.example.demo.manager.TextureAtlas;
 import com.example.demo.menu.StartMenu;
 import javafx.application.Application;
 import javafx.stage.Screen;
@@ -14,6 +23,12 @@ import javafx.stage.Stage;
  * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/controller/Main.java">Main.java</a>
  */
 public class Main extends Application {
+
+	/**
+	 * Logger of the class.
+	 */
+	private static final GameLogger LOGGER = GameLogger.getLogger(Main.class);
+
 	/**
 	 * The width of the game window in pixels. This defines the fixed width that the application window will use.
 	 */
@@ -29,10 +44,33 @@ public class Main extends Application {
 	 */
 	private static final String TITLE = "Sky Battle";
 
+	/**
+	 * System property naming a file to record the input of the game to, for example to attach it to a bug report.
+	 * The latest run is written to the file when the application exits.
+	 */
+	private static final String RECORD_INPUT_PROPERTY = "skybattle.recordInput";
+
+	/**
+	 * Maximum time in milliseconds to wait for pending log messages when the application stops.
+	 */
+	private static final long LOG_FLUSH_TIMEOUT_MILLIS = 1000;
+
+	/**
+	 * Images used during gameplay, decoded in the background while the start menu is shown
+	 * so that levels never wait for an image to be decoded. The sprites are packed into the
+	 * {@link TextureAtlas}, which is built in the background as well.
+	 */
+	private static final String[] GAME_IMAGES = {
+			"/com/example/demo/images/background1.jpg",
+			"/com/example/demo/images/background2.jpg",
+			"/com/example/demo/images/background_boss.jpg"
+	};
+
 	/**
 	 * Starts the JavaFX application by setting up the primary stage and displaying the start menu.
 	 * This method configures the stage properties such as title, size, and initializes
-	 * the start menu as the initial scene of the application.
+	 * the start menu as the initial scene of the application. It also starts preloading the game images
+	 * and decodes the sound effects played during gameplay.
 	 *
 	 * @param stage The primary stage for the game window, provided by JavaFX during application launch.
 	 * @throws ClassNotFoundException        If a class needed during initialization is not found.
@@ -51,10 +89,36 @@ public class Main extends Application {
 		stage.setResizable(false); // Prevent resizing of the game window
 		stage.setHeight(SCREEN_HEIGHT); // Set the height of the game window
 		stage.setWidth(SCREEN_WIDTH); // Set the width of the game window
+		LevelRegistry levels = LevelRegistry.getInstance(); // Fails here on a broken level graph, not when a level ends
+		ImageCache.getInstance().preload(GAME_IMAGES);
+		TextureAtlas.getInstance().preload();
+		AudioManager.getInstance().preloadSoundEffects();
+		if (System.getProperty(RECORD_INPUT_PROPERTY) != null) {
+			InputRecorder.getInstance().startRecording(System.nanoTime(), levels.getStartLevel());
+		}
 		StartMenu startMenu = new StartMenu(stage);
 		startMenu.show();
 	}
 
+	/**
+	 * Stops the application, writing the input recording to the file given by the
+	 * {@code skybattle.recordInput} system property if the input was recorded, and waiting briefly
+	 * for the pending log messages to be written.
+	 */
+	@Override
+	public void stop() {
+		InputRecording recording = InputRecorder.getInstance().stop();
+		String recordFile = System.getProperty(RECORD_INPUT_PROPERTY);
+		if (recording != null && recordFile != null) {
+			try {
+				recording.write(Path.of(recordFile));
+			} catch (IOException e) {
+				LOGGER.error("Failed to write input recording to " + recordFile, e);
+			}
+		}
+		GameLogger.flush(LOG_FLUSH_TIMEOUT_MILLIS);
+	}
+
 	/**
 	 * The main method that launches the JavaFX application.
 	 *
@@ -0,0 +1,240 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.InputRecorder;
+import com.example.demo.manager.InputRecording;
+
+/**
+ * The {@code HeadlessSimulation} class runs game levels in {@link HeadlessMode}, without a display and
+ * without the JavaFX toolkit. Levels are stepped as fast as the simulation allows instead of in real time,
+ * which makes it possible to play thousands of frames per second for balance testing and regression runs.
+ * <p>
+ * Levels are loaded by their class name in the same way as in the
+ * {@link com.example.demo.controller.LevelController}, and level transitions are followed until the game
+ * is won or lost or the frame budget is used up. Recorded input can be replayed the same way, which reproduces
+ * a recorded run exactly and gives benchmarks an identical workload on every run.
+ * <p>
+ * A simulation enables {@link HeadlessMode} while it is open and restores the previous mode and run seed when it is
+ * closed, so it is meant to be used in a try-with-resources statement.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/level/HeadlessSimulation.java">HeadlessSimulation.java</a>
+ */
+public class HeadlessSimulation implements AutoCloseable {
+
+    /**
+     * The height of the simulated game area.
+     */
+    private final double screenHeight;
+
+    /**
+     * The width of the simulated game area.
+     */
+    private final double screenWidth;
+
+    /**
+     * Whether {@link HeadlessMode} was enabled before this simulation was opened, restored by {@link #close()}.
+     */
+    private final boolean previousHeadlessMode;
+
+    /**
+     * The run seed of the {@link GameRandom} before this simulation was opened, restored by {@link #close()}, as seeded
+     * runs and replays change it.
+     */
+    private final long previousRunSeed;
+
+    /**
+     * Whether the simulation has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * The level currently being simulated.
+     */
+    private LevelParent currentLevel;
+
+    /**
+     * Class name of the level to switch to after the current step, or {@code null} if there is no transition pending.
+     */
+    private String pendingLevel;
+
+    /**
+     * Constructs a {@code HeadlessSimulation} for a game area of the given size and enables {@link HeadlessMode}
+     * until the simulation is closed.
+     *
+     * @param screenHeight The height of the simulated game area.
+     * @param screenWidth  The width of the simulated game area.
+     */
+    public HeadlessSimulation(double screenHeight, double screenWidth) {
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.previousHeadlessMode = HeadlessMode.isEnabled();
+        this.previousRunSeed = GameRandom.getInstance().getRunSeed();
+        HeadlessMode.setEnabled(true);
+    }
+
+    /**
+     * Constructs a {@code HeadlessSimulation} that plays a reproducible run from the given seed.
+     * Two simulations with the same seed and the same input play out identically.
+     *
+     * @param screenHeight The height of the simulated game area.
+     * @param screenWidth  The width of the simulated game area.
+     * @param seed         The run seed of the {@link GameRandom}.
+     */
+    public HeadlessSimulation(double screenHeight, double screenWidth, long seed) {
+        this(screenHeight, screenWidth);
+        GameRandom.getInstance().setRunSeed(seed);
+    }
+
+    /**
+     * Runs the game from the given level until it is won or lost, or until the given number of frames has been simulated.
+     *
+     * @param levelClassName The fully qualified class name of the level to start from.
+     * @param maxFrames      The maximum number of simulation steps to run.
+     * @return The {@link Result} of the run.
+     * @throws IllegalArgumentException if a level is not registered in the {@link LevelRegistry}.
+     * @throws IllegalStateException if the simulation has been closed.
+     */
+    public Result run(String levelClassName, long maxFrames) {
+        if (closed) {
+            throw new IllegalStateException("Headless simulation already closed.");
+        }
+        loadLevel(levelClassName);
+        long frames = 0;
+        while (frames < maxFrames && currentLevel.getOutcome() == null) {
+            currentLevel.stepGame();
+            frames++;
+            if (pendingLevel != null) {
+                loadLevel(pendingLevel);
+            }
+        }
+        return new Result(frames, currentLevel.getClass().getName(), currentLevel.getOutcome());
+    }
+
+    /**
+     * Plays an input recording back from its start level, with the seed it was recorded with, until the game
+     * is won or lost or the recording ends. The run plays out exactly as it did when it was recorded.
+     *
+     * @param recording The recording to play.
+     * @return The {@link Result} of the run.
+     * @throws IllegalArgumentException if a level is not registered in the {@link LevelRegistry}.
+     */
+    public Result replay(InputRecording recording) {
+        InputRecorder.getInstance().startReplay(recording);
+        try {
+            return run(recording.getStartLevel(), recording.size());
+        } finally {
+            InputRecorder.getInstance().stop();
+        }
+    }
+
+    /**
+     * Disposes of the current level and restores the {@link HeadlessMode} and the run seed of the {@link GameRandom}
+     * that were set before the simulation was opened. Closing a closed simulation has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (currentLevel != null) {
+            currentLevel.dispose();
+        }
+        HeadlessMode.setEnabled(previousHeadlessMode);
+        GameRandom.getInstance().setRunSeed(previousRunSeed);
+    }
+
+    /**
+     * Returns the level currently being simulated.
+     *
+     * @return The current {@link LevelParent}, or {@code null} if no run has been started.
+     */
+    public LevelParent getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Creates and starts the level with the given class name, listening for its transition to the next level.
+     * The level simulated before is disposed of.
+     *
+     * @param className The fully qualified class name of the level to load.
+     * @throws IllegalArgumentException if the level is not registered in the {@link LevelRegistry}.
+     */
+    private void loadLevel(String className) {
+        pendingLevel = null;
+        if (currentLevel != null) {
+            currentLevel.dispose();
+        }
+        currentLevel = LevelRegistry.getInstance().create(className, screenHeight, screenWidth);
+        currentLevel.initializeScene();
+        currentLevel.startGame();
+        currentLevel.nextLevelProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null && !newValue.isEmpty()) {
+                pendingLevel = newValue;
+            }
+        });
+    }
+
+    /**
+     * The {@code Result} class holds the summary of a headless simulation run.
+     */
+    public static final class Result {
+
+        /**
+         * The number of simulation steps that were run.
+         */
+        private final long frames;
+
+        /**
+         * The class name of the level the run ended in.
+         */
+        private final String finalLevel;
+
+        /**
+         * The outcome of the game, or {@code null} if the frame budget ran out first.
+         */
+        private final LevelParent.Outcome outcome;
+
+        /**
+         * Constructs a {@code Result} with the given values.
+         *
+         * @param frames     The number of simulation steps that were run.
+         * @param finalLevel The class name of the level the run ended in.
+         * @param outcome    The outcome of the game, or {@code null} if it has not ended.
+         */
+        private Result(long frames, String finalLevel, LevelParent.Outcome outcome) {
+            this.frames = frames;
+            this.finalLevel = finalLevel;
+            this.outcome = outcome;
+        }
+
+        /**
+         * Returns the number of simulation steps that were run.
+         *
+         * @return The number of frames.
+         */
+        public long getFrames() {
+            return frames;
+        }
+
+        /**
+         * Returns the class name of the level the run ended in.
+         *
+         * @return The fully qualified class name of the final level.
+         */
+        public String getFinalLevel() {
+            return finalLevel;
+        }
+
+        /**
+         * Returns the outcome of the game.
+         *
+         * @return The {@link LevelParent.Outcome}, or {@code null} if the frame budget ran out before the game ended.
+         */
+        public LevelParent.Outcome getOutcome() {
+            return outcome;
+        }
+    }
+}
@@ -36,12 +36,6 @@ public class LevelBoss extends LevelParent {
 	 */
 	private LevelViewLevelBoss levelView;
 
-	/**
-	 * The fully qualified class name of the next level to transition to after completing this boss level.
-	 */
-	private static final String NEXT_LEVEL = "com.example.demo.level.LevelFinalBoss";
-
-
 	/**
 	 * Constructs a {@code LevelBoss} instance with the specified screen dimensions and initializes the environment.
 	 * Sets up the boss battle by positioning the boss and configuring the initial settings for the player and the boss.
@@ -51,7 +45,7 @@ public class LevelBoss extends LevelParent {
 	 */
 	public LevelBoss(double screenHeight, double screenWidth) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		boss = new Boss(getRoot());
+		boss = new Boss(getLayers().getEffectsLayer(), getLayers().getHudLayer(), getRandom());
 	}
 
 	/**
@@ -60,7 +54,7 @@ public class LevelBoss extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getLayers().getFriendlyLayer().getChildren().add(getUser());
 	}
 
 	/**
@@ -73,7 +67,7 @@ public class LevelBoss extends LevelParent {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (boss.isDestroyed()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
 		}
 	}
 
@@ -96,7 +90,7 @@ public class LevelBoss extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelBoss(getRoot(), PLAYER_INITIAL_HEALTH);
+		levelView = new LevelViewLevelBoss(getLayers().getHudLayer(), PLAYER_INITIAL_HEALTH);
 		return levelView;
 	}
 }
@@ -1,14 +1,13 @@
 package com.example.demo.level;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.Boss;
 import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.manager.WaveScheduler;
 import com.example.demo.view.LevelView;
 import com.example.demo.view.LevelViewLevelBoss;
+import com.example.demo.view.RenderMode;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.Map;
 
 /**
  * The {@code LevelFinalBoss} class represents the final boss level in the game,
@@ -29,15 +28,10 @@ public class LevelFinalBoss extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background_boss.jpg";
 
     /**
-     * The path to the background image used for the final boss level. This image sets the visual
-     * theme and atmosphere appropriate for a climactic battle.
-     */
-    private static final int TOTAL_ENEMIES = 3;
-
-    /**
-     * The probability of spawning a regular enemy in any given update frame, ensuring dynamic gameplay.
+     * The wave script spawning the regular enemy planes escorting the boss, including how many of them
+     * are allowed on screen at once.
      */
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+    private static final String WAVE_SCRIPT_NAME = "/com/example/demo/waves/level_final_boss.txt";
 
     /**
      * The initial health with which the player starts the final boss level, setting the difficulty level.
@@ -59,6 +53,11 @@ public class LevelFinalBoss extends LevelParent {
      */
     private LevelViewLevelBoss levelView;
 
+    /**
+     * Spawns the regular enemy planes of the level from its wave script.
+     */
+    private final WaveScheduler waves;
+
     /**
      * Constructs a {@code LevelFinalBoss} instance with specified screen dimensions.
      * Initializes the game environment specific to the final boss level, setting up the player
@@ -69,7 +68,9 @@ public class LevelFinalBoss extends LevelParent {
      */
     public LevelFinalBoss(double screenHeight, double screenWidth) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-        boss = new Boss(getRoot()); // Initialize the boss here and manage its lifecycle
+        boss = new Boss(getLayers().getEffectsLayer(), getLayers().getHudLayer(), getRandom()); // Initialize the boss here and manage its lifecycle
+        waves = WaveScheduler.load(WAVE_SCRIPT_NAME, Map.of("basic", (x, y) -> new EnemyPlane(x, y, getRandom())),
+                getScreenWidth(), getEnemyMaximumYPosition(), getRandom());
     }
 
     /**
@@ -78,33 +79,27 @@ public class LevelFinalBoss extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getLayers().getFriendlyLayer().getChildren().add(getUser());
     }
 
     /**
      * Manages the spawning of the boss and regular enemy planes. The boss is only spawned once.
-     * Regular enemies are spawned based on a defined probability until
-     * the total number of enemies on screen reaches the pre-set limit.
+     * Regular enemies are spawned by the wave script, which keeps their number on screen,
+     * not counting the boss, within its limit.
      * This method override the {@link LevelParent#spawnEnemyUnits()} method.
      */
     @Override
     protected void spawnEnemyUnits() {
         // Spawn the boss if it has not been added yet and is not destroyed
         if (!bossSpawned || (bossSpawned && boss.isDestroyed())) {
-            boss = new Boss(getRoot()); // Reinstantiate the boss if needed
+            boss = new Boss(getLayers().getEffectsLayer(), getLayers().getHudLayer(), getRandom()); // Reinstantiate the boss if needed
             addEnemyUnit(boss);
             bossSpawned = true;
         }
 
         // Regular enemy management
         int currentNumberOfEnemies = getCurrentNumberOfEnemies() - (bossSpawned && !boss.isDestroyed() ? 1 : 0);
-        while (currentNumberOfEnemies < TOTAL_ENEMIES) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                addEnemyUnit(new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition));
-                currentNumberOfEnemies++;
-            }
-        }
+        waves.update(currentNumberOfEnemies, this::addEnemyUnit);
     }
 
     /**
@@ -130,7 +125,19 @@ public class LevelFinalBoss extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelBoss(getRoot(), PLAYER_INITIAL_HEALTH);
+        levelView = new LevelViewLevelBoss(getLayers().getHudLayer(), PLAYER_INITIAL_HEALTH);
         return levelView;
     }
+
+    /**
+     * Draws the actors of the final boss level onto a canvas, as the boss and the enemy planes together
+     * fill the screen with far more projectiles than the other levels.
+     * This method override the {@link LevelParent#getRenderMode()} method.
+     *
+     * @return {@link RenderMode#CANVAS}.
+     */
+    @Override
+    protected RenderMode getRenderMode() {
+        return RenderMode.CANVAS;
+    }
 }
@@ -1,15 +1,17 @@
 package com.example.demo.level;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.manager.WaveScheduler;
 import com.example.demo.view.LevelView;
 
+import java.util.Map;
+
 /**
  * The {@code LevelOne} class represents the first level of the game.
  * It defines specific behaviors for spawning enemies, game-over conditions,
  * and the transition to the next level. This class extends {@link LevelParent}
- * and customizes the level-specific settings and mechanics, including enemy
- * spawning probabilities, initial player health, and background settings.
+ * and customizes the level-specific settings and mechanics, including the enemy
+ * waves, initial player health, and background settings.
  *
  * <p>
  * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/level/LevelOne.java">LevelOne.java</a>
@@ -22,16 +24,9 @@ public class LevelOne extends LevelParent {
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
 	/**
-	 * The fully qualified class name of the next level to transition to after completing Level One.
-	 * This is used to dynamically load Level Two when the player meets the level advancement criteria.
-	 */
-	private static final String NEXT_LEVEL = "com.example.demo.level.LevelTwo";
-
-	/**
-	 * The total number of enemies that can be simultaneously present on the screen in Level One.
-	 * This constant is used to control the game difficulty by limiting the number of active enemies.
+	 * The wave script spawning the enemies of Level One, including the number of enemies allowed on screen at once.
 	 */
-	private static final int TOTAL_ENEMIES = 5;
+	private static final String WAVE_SCRIPT_NAME = "/com/example/demo/waves/level_one.txt";
 
 	/**
 	 * The number of kills the player needs to achieve to advance from Level One to Level Two.
@@ -39,18 +34,17 @@ public class LevelOne extends LevelParent {
 	 */
 	private static final int KILLS_TO_ADVANCE = 10;
 
-	/**
-	 * The probability of an enemy spawning in any given frame, expressed as a fraction of 1.
-	 * This probability factor controls the rate at which enemies appear, influencing the level's pacing and difficulty.
-	 */
-	private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
-
 	/**
 	 * The initial health with which the player starts Level One.
 	 * This value is crucial for balancing the game's difficulty, particularly in terms of how forgiving the level is towards player mistakes.
 	 */
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
+	/**
+	 * Spawns the enemies of the level from its wave script.
+	 */
+	private final WaveScheduler waves;
+
 	/**
 	 * Constructs a {@code LevelOne} instance with the specified screen dimensions.
 	 * Initializes the level with a specific background image and sets the initial health
@@ -61,6 +55,8 @@ public class LevelOne extends LevelParent {
 	 */
 	public LevelOne(double screenHeight, double screenWidth) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		waves = WaveScheduler.load(WAVE_SCRIPT_NAME, Map.of("basic", (x, y) -> new EnemyPlane(x, y, getRandom())),
+				getScreenWidth(), getEnemyMaximumYPosition(), getRandom());
 	}
 
 	/**
@@ -74,7 +70,7 @@ public class LevelOne extends LevelParent {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (userHasReachedKillTarget()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
 		}
 	}
 
@@ -86,25 +82,18 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getLayers().getFriendlyLayer().getChildren().add(getUser());
 	}
 
 	/**
-	 * Dynamically spawns enemy units based on the defined probability and the difference
-	 * between the total enemies allowed and those currently active. Ensures the level
-	 * maintains a consistent challenge by replenishing enemy units.
+	 * Spawns the enemy units whose wave events are due, as long as the number of enemies on screen
+	 * stays within the limit of the wave script. Ensures the level maintains a consistent challenge
+	 * by replenishing enemy units wave after wave.
 	 * This method override the {@link LevelParent#spawnEnemyUnits()}
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
-		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-				addEnemyUnit(newEnemy);
-			}
-		}
+		waves.update(getCurrentNumberOfEnemies(), this::addEnemyUnit);
 	}
 
 	/**
@@ -115,7 +104,7 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+		return new LevelView(getLayers().getHudLayer(), PLAYER_INITIAL_HEALTH);
 	}
 
 	/**
@@ -3,19 +3,24 @@ package com.example.demo.level;
 import java.util.*;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
 import com.example.demo.manager.*;
 import com.example.demo.menu.LoseMenu;
 import com.example.demo.menu.PauseMenu;
 import com.example.demo.menu.WinMenu;
+import com.example.demo.view.CanvasRenderer;
 import com.example.demo.view.LevelView;
+import com.example.demo.view.NodeInterpolator;
+import com.example.demo.view.RenderMode;
+import com.example.demo.view.SceneLayers;
 import com.example.demo.actors.plane.UserPlane;
-import javafx.animation.*;
+import javafx.animation.Animation;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
-import javafx.util.Duration;
 
 /**
  * The {@code LevelParent} class serves as an abstract base for all game levels in the Sky Battle game.
@@ -34,20 +39,15 @@ public abstract class LevelParent {
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 
 	/**
-	 * Target frames per second at which the game attempts to run.
+	 * Number of fixed simulation steps per second, independent of the display refresh rate.
 	 */
 	private static final int TARGET_FPS = 60;
 
 	/**
-	 * Velocity change factor derived from the target FPS to adjust movement speeds dynamically.
+	 * Velocity change factor derived from the simulation rate to adjust movement speeds per step.
 	 */
 	public static final double VELOCITY_CHANGE = (double) TARGET_FPS / 20;
 
-	/**
-	 * Delay in milliseconds per frame, calculated from the target FPS, used in the game loop.
-	 */
-	private static final int MILLISECOND_DELAY = (1000 / TARGET_FPS);
-
 	/**
 	 * The height of the screen or game window where the level is displayed.
 	 */
@@ -63,15 +63,41 @@ public abstract class LevelParent {
 	 */
 	private final double enemyMaximumYPosition;
 
+	/**
+	 * Resource path of the image drawn for projectiles fired by enemy planes.
+	 */
+	private static final String ENEMY_PROJECTILE_IMAGE = "/com/example/demo/images/enemyFire.png";
+
+	/**
+	 * Resource path of the image drawn for projectiles fired by the boss.
+	 */
+	private static final String BOSS_PROJECTILE_IMAGE = "/com/example/demo/images/fireball.png";
+
 	/**
 	 * The root group for all graphical objects in the level, including actors and projectiles.
 	 */
 	private final Group root;
 
 	/**
-	 * Timeline used for the game loop, controlling periodic updates such as movement and collisions.
+	 * The layers of the scene, one group per category of nodes. The actor layers are kept outside the scene
+	 * when actors are drawn by the {@link CanvasRenderer}.
+	 */
+	private final SceneLayers layers;
+
+	/**
+	 * Renderer drawing the actors onto a canvas, or {@code null} when actors are drawn as scene graph nodes.
+	 */
+	private final CanvasRenderer canvasRenderer;
+
+	/**
+	 * Interpolates the actors shown as scene graph nodes, or {@code null} when they are drawn onto a canvas or not shown at all.
+	 */
+	private final NodeInterpolator nodeInterpolator;
+
+	/**
+	 * Fixed-step game loop, controlling periodic updates such as movement and collisions.
 	 */
-	private final Timeline timeline;
+	private final GameLoop gameLoop;
 
 	/**
 	 * Player-controlled plane character.
@@ -79,9 +105,10 @@ public abstract class LevelParent {
 	private final UserPlane user;
 
 	/**
-	 * Scene containing all the visual elements of the level.
+	 * Scene containing all the visual elements of the level. It is created by {@link #initializeScene()} on the JavaFX
+	 * application thread, and stays {@code null} before that and in {@link HeadlessMode}.
 	 */
-	private final Scene scene;
+	private Scene scene;
 
 	/**
 	 * Background image view displayed in the game level.
@@ -108,6 +135,21 @@ public abstract class LevelParent {
 	 */
 	private final List<ActiveActorDestructible> enemyProjectiles;
 
+	/**
+	 * Projectiles fired by enemy planes, kept as plain data in {@link RenderMode#CANVAS}, or {@code null} otherwise.
+	 */
+	private final ProjectileStore enemyProjectileStore;
+
+	/**
+	 * Projectiles fired by the boss, kept as plain data in {@link RenderMode#CANVAS}, or {@code null} otherwise.
+	 */
+	private final ProjectileStore bossProjectileStore;
+
+	/**
+	 * Source of randomness for the level, derived from the run seed and the level's class name when the level is built.
+	 */
+	private final GameRandom random;
+
 	/**
 	 * Manages all actors within the level, handling interactions and state updates.
 	 */
@@ -118,11 +160,21 @@ public abstract class LevelParent {
 	 */
 	private final CollisionHandler collisionHandler;
 
+	/**
+	 * Shows the explosions of destroyed enemies, advanced once per simulation step.
+	 */
+	private final ExplosionEffectManager explosionEffects;
+
 	/**
 	 * Manages user input to control the player's plane and interact with the game.
 	 */
 	private final InputHandler inputHandler;
 
+	/**
+	 * Measures the time spent in each stage of the simulation step, shown by the performance overlay.
+	 */
+	private final PerformanceMonitor performanceMonitor;
+
 	/**
 	 * Responsible for spawning enemy units in the level.
 	 */
@@ -148,6 +200,31 @@ public abstract class LevelParent {
 	 */
 	private final StringProperty nextLevelProperty = new SimpleStringProperty();
 
+	/**
+	 * Outcome of the game once it has been won or lost, or {@code null} while it is still being played.
+	 */
+	private Outcome outcome;
+
+	/**
+	 * Whether the level has been disposed of and must not be shown again.
+	 */
+	private boolean disposed;
+
+	/**
+	 * The possible outcomes of a game ending in this level.
+	 */
+	public enum Outcome {
+		/**
+		 * The player completed the final objective.
+		 */
+		WON,
+
+		/**
+		 * The player's plane was destroyed.
+		 */
+		LOST
+	}
+
 	/**
 	 * Constructs a new instance of {@code LevelParent}, setting up the game level with the specified background
 	 * image, screen dimensions, and initial health for the player's plane. This constructor initializes all
@@ -166,39 +243,81 @@ public abstract class LevelParent {
 	 * Initializes various collections for managing actors within the game level, such as user plane and enemy units,
 	 * as well as projectile lists for both the player and enemies. Sets up the background image view and adds it to the
 	 * scene's root group. Instantiates the various managers for actor management, collision detection, input handling,
-	 * and enemy spawning. Finally, it adds the player's plane as a friendly unit and initializes the game timeline for
-	 * continual game updates.
+	 * and enemy spawning. Finally, it adds the player's plane as a friendly unit and creates the fixed-step game loop
+	 * for continual game updates.
+	 * <p>
+	 * The constructor does not create the {@link Scene}, so that a level can be built on a background thread while the
+	 * previous level is still playing; that is left to {@link #initializeScene()}. The level draws its random numbers
+	 * from its own {@link GameRandom}, so building it leaves those of the playing level alone.
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
+		this.random = GameRandom.getInstance().forLevel(getClass().getName());
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.canvasRenderer = getRenderMode() == RenderMode.CANVAS && !HeadlessMode.isEnabled()
+				? new CanvasRenderer(screenWidth, screenHeight)
+				: null;
+		this.nodeInterpolator = getRenderMode() == RenderMode.NODES && !HeadlessMode.isEnabled()
+				? new NodeInterpolator()
+				: null;
+		this.layers = new SceneLayers(root, canvasRenderer == null);
+		this.gameLoop = new GameLoop(TARGET_FPS, GameLoop.DEFAULT_MAX_STEPS_PER_PULSE, this::updateScene, this::renderScene);
 		this.user = new UserPlane(playerInitialHealth);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
+		// Canvas levels have no nodes to show enemy fire, so it is simulated as plain data, headless or not
+		this.enemyProjectileStore = getRenderMode() == RenderMode.CANVAS ? new ProjectileStore() : null;
+		this.bossProjectileStore = getRenderMode() == RenderMode.CANVAS ? new ProjectileStore() : null;
 
-		this.background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(backgroundImageName)).toExternalForm()));
+		this.background = HeadlessMode.isEnabled()
+				? new ImageView()
+				: new ImageView(ImageCache.getInstance().getImage(backgroundImageName));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
 		this.levelView = instantiateLevelView();
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
 
 		// Initialize ActorGroups and pass them to ActorManager
-		ActorGroup friendlyGroup = new ActorGroup(friendlyUnits, root);
-		ActorGroup enemyGroup = new ActorGroup(enemyUnits, root);
-		ActorGroup userProjectileGroup = new ActorGroup(userProjectiles, root);
-		ActorGroup enemyProjectileGroup = new ActorGroup(enemyProjectiles, root);
+		ActorGroup friendlyGroup = new ActorGroup(friendlyUnits, layers.getFriendlyLayer());
+		ActorGroup enemyGroup = new ActorGroup(enemyUnits, layers.getEnemyLayer());
+		ActorGroup userProjectileGroup = new ActorGroup(userProjectiles, layers.getProjectileLayer());
+		ActorGroup enemyProjectileGroup = new ActorGroup(enemyProjectiles, layers.getProjectileLayer());
 
 		this.actorManager = new ActorManager(friendlyGroup, enemyGroup, userProjectileGroup, enemyProjectileGroup);
 		this.collisionHandler = CollisionHandler.getInstance();
-		this.inputHandler = new InputHandler(user, root, userProjectiles, this::pauseGame);
-		this.enemySpawner = new EnemySpawner(enemyUnits, root, enemyProjectiles);
+		this.explosionEffects = new ExplosionEffectManager(layers.getEffectsLayer(), TARGET_FPS);
+		this.performanceMonitor = new PerformanceMonitor();
+		this.inputHandler = new InputHandler(user, layers.getProjectileLayer(), userProjectiles, this::pauseGame, this::togglePerformanceOverlay);
+		this.enemySpawner = new EnemySpawner(enemyUnits, layers.getEnemyLayer(), enemyProjectiles,
+				layers.getProjectileLayer(), screenWidth, screenHeight, random);
 
 		friendlyUnits.add(user);
+		performanceMonitor.addCounter("Friendly", friendlyUnits::size);
+		performanceMonitor.addCounter("Enemies", enemyUnits::size);
+		performanceMonitor.addCounter("User shots", userProjectiles::size);
+		performanceMonitor.addCounter("Enemy shots", enemyProjectiles::size);
+		if (enemyProjectileStore != null) {
+			performanceMonitor.addCounter("Stored shots", () -> enemyProjectileStore.size() + bossProjectileStore.size());
+			enemySpawner.setProjectileStore(EnemyProjectile.class, enemyProjectileStore);
+			enemySpawner.setProjectileStore(BossProjectile.class, bossProjectileStore);
+		}
+		if (canvasRenderer != null) {
+			canvasRenderer.addLayer(friendlyUnits);
+			canvasRenderer.addLayer(enemyUnits);
+			canvasRenderer.addLayer(userProjectiles);
+			canvasRenderer.addLayer(enemyProjectiles);
+			TextureAtlas atlas = TextureAtlas.getInstance();
+			canvasRenderer.addProjectileLayer(enemyProjectileStore, atlas.getImage(ENEMY_PROJECTILE_IMAGE), atlas.getRegion(ENEMY_PROJECTILE_IMAGE));
+			canvasRenderer.addProjectileLayer(bossProjectileStore, atlas.getImage(BOSS_PROJECTILE_IMAGE), atlas.getRegion(BOSS_PROJECTILE_IMAGE));
+		}
+		if (nodeInterpolator != null) {
+			nodeInterpolator.addLayer(friendlyUnits);
+			nodeInterpolator.addLayer(enemyUnits);
+			nodeInterpolator.addLayer(userProjectiles);
+			nodeInterpolator.addLayer(enemyProjectiles);
+		}
 	}
 
 	/**
@@ -231,13 +350,47 @@ public abstract class LevelParent {
 	protected abstract LevelView instantiateLevelView();
 
 	/**
-	 * Initializes the scene for the level. This method sets up the background, initializes
-	 * friendly units specific to the level, and displays the heart (health) display. It is typically
-	 * called once when the level is being set up.
+	 * Returns how the actors of the level are drawn. Levels with many actors on screen can override this
+	 * method to draw them onto a canvas. The method is called during construction and must not depend on
+	 * the state of the subclass. In {@link HeadlessMode} nothing is drawn and the mode is ignored.
 	 *
-	 * @return The fully initialized {@link Scene} with all visual elements prepared, ready to be displayed.
+	 * @return {@link RenderMode#NODES} by default.
+	 */
+	protected RenderMode getRenderMode() {
+		return RenderMode.NODES;
+	}
+
+	/**
+	 * Returns the name of the level that follows this one in the {@link LevelRegistry}, so that it can be prepared
+	 * in the background while this level is being played.
+	 *
+	 * @return The fully qualified class name of the next level, or {@code null} if the game ends with this level.
+	 */
+	public String getNextLevelName() {
+		return LevelRegistry.getInstance().getNextLevel(getClass().getName());
+	}
+
+	/**
+	 * Returns the name of the level a game lost in this level is retried from, as linked in the {@link LevelRegistry}.
+	 *
+	 * @return The fully qualified class name of the retry level.
+	 */
+	public String getRetryLevelName() {
+		return LevelRegistry.getInstance().getRetryLevel(getClass().getName());
+	}
+
+	/**
+	 * Initializes the scene for the level. This method creates the scene, sets up the background, initializes
+	 * friendly units specific to the level, and displays the heart (health) display. It is called once, on the JavaFX
+	 * application thread, when the level is about to be shown.
+	 *
+	 * @return The fully initialized {@link Scene} with all visual elements prepared, ready to be displayed,
+	 *         or {@code null} in {@link HeadlessMode}.
 	 */
 	public Scene initializeScene() {
+		if (!HeadlessMode.isEnabled()) {
+			scene = new Scene(root, screenWidth, screenHeight);
+		}
 		initializeBackground();
 		initializeFriendlyUnits();
 		levelView.showHeartDisplay();
@@ -246,34 +399,67 @@ public abstract class LevelParent {
 
 	/**
 	 * Starts the game loop for the level. This method is called to begin gameplay,
-	 * focusing the game's background and initiating the timeline which controls game updates.
+	 * focusing the game's background and starting the game loop which controls game updates.
 	 * It ensures that game logic continues from where it left off or starts afresh as needed.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
+		gameLoop.play();
+	}
+
+	/**
+	 * Advances a running level by exactly one simulation step. This method is used in {@link HeadlessMode},
+	 * where there are no display pulses, to drive the level manually as fast as the simulation allows.
+	 * It has no effect once the game loop has been paused or stopped, for example after the game has ended.
+	 */
+	public void stepGame() {
+		if (gameLoop.getStatus() == Animation.Status.RUNNING) {
+			gameLoop.step();
+		}
 	}
 
 	/**
 	 * Transitions to another level specified by the class name. This method stops the current game's
-	 * timeline, cleans up the current level's resources, and sets the property for the next level, triggering
+	 * loop, cleans up the current level's resources, and sets the property for the next level, triggering
 	 * the level transition.
 	 *
-	 * @param levelName The fully qualified class name of the next level to load, which must be a subclass of {@link LevelParent}.
-	 *                  This name is used to dynamically load and instantiate the next level.
+	 * @param levelName The name of the next level to load, under which it is registered in the {@link LevelRegistry}.
 	 */
 	public void goToNextLevel(String levelName) {
-		stopTimeline(); // Stop the timeline before transitioning to the next level
+		stopGameLoop(); // Stop the game loop before transitioning to the next level
 		cleanUp();
 		nextLevelProperty.set(levelName);
 	}
 
 	/**
-	 * Updates the game state for each frame in the game loop. This method is responsible for performing
+	 * Transitions to the level that follows this one in the {@link LevelRegistry}.
+	 */
+	protected void goToNextLevel() {
+		goToNextLevel(getNextLevelName());
+	}
+
+	/**
+	 * Transitions to the level a named branch of this level leads to in the {@link LevelRegistry}, for levels
+	 * that can be left in more than one way.
+	 *
+	 * @param branch The name of the branch.
+	 * @throws IllegalArgumentException if this level has no such branch.
+	 */
+	protected void goToBranch(String branch) {
+		String target = LevelRegistry.getInstance().getBranch(getClass().getName(), branch);
+		if (target == null) {
+			throw new IllegalArgumentException("Level " + getClass().getName() + " has no branch " + branch);
+		}
+		goToNextLevel(target);
+	}
+
+	/**
+	 * Advances the game state by one fixed simulation step. This method is responsible for performing
 	 * various game logic operations such as spawning new enemy units, updating the state of all actors,
 	 * generating enemy fire, managing collisions, and checking game over conditions.
 	 * <p>
 	 * Specific tasks performed by this method include:
+	 * - Processing user input.
 	 * - Spawning enemy units as needed.
 	 * - Updating the state and positions of all actors in the game.
 	 * - Generating projectiles fired by enemies.
@@ -281,40 +467,106 @@ public abstract class LevelParent {
 	 * - Removing any actors that have been destroyed.
 	 * - Updating the level view and kill counts.
 	 * - Removing projectiles that are out of bounds.
-	 * - Processing user input.
+	 * - Sending the sound effects triggered during the step to the audio worker.
 	 * <p>
-	 * This method is invoked repeatedly by the game loop to ensure continuous and smooth gameplay.
+	 * This method is invoked by the {@link GameLoop} exactly {@code TARGET_FPS} times per second of game time,
+	 * however often the display refreshes, so that gameplay stays deterministic under load. While the
+	 * performance overlay is shown, the time of each stage is recorded by the {@link PerformanceMonitor}.
 	 */
 	private void updateScene() {
+		performanceMonitor.beginStep();
+		if (canvasRenderer != null) {
+			canvasRenderer.savePreviousPositions();
+		} else if (nodeInterpolator != null) {
+			nodeInterpolator.savePreviousPositions();
+		}
+		inputHandler.update(); // Input applies to the whole step, whenever the keys changed since the last one
+		performanceMonitor.mark(PerformanceMonitor.Stage.INPUT);
 		spawnEnemyUnits();
+		performanceMonitor.mark(PerformanceMonitor.Stage.SPAWN);
 		actorManager.updateAllActors();
+		updateProjectileStores();
+		explosionEffects.update();
+		performanceMonitor.mark(PerformanceMonitor.Stage.UPDATE);
 		enemySpawner.generateEnemyFire();
+		performanceMonitor.mark(PerformanceMonitor.Stage.FIRE);
 		updateNumberOfEnemies();
 		handleEnemyPenetration();
+		performanceMonitor.mark(PerformanceMonitor.Stage.UPDATE);
 		handleUserProjectileCollisions();
+		performanceMonitor.mark(PerformanceMonitor.Stage.USER_PROJECTILE_COLLISIONS);
 		handleEnemyProjectileCollisions();
+		performanceMonitor.mark(PerformanceMonitor.Stage.ENEMY_PROJECTILE_COLLISIONS);
 		handlePlaneCollisions();
+		performanceMonitor.mark(PerformanceMonitor.Stage.PLANE_COLLISIONS);
 		handleProjectileCollision();
+		performanceMonitor.mark(PerformanceMonitor.Stage.PROJECTILE_COLLISIONS);
 		actorManager.removeDestroyedActors();
 		updateKillCount();
-		updateLevelView();
 		checkIfGameOver();
 		actorManager.removeOutOfBoundsProjectiles(1300);
-		inputHandler.update();
+		removeOutOfBoundsStoredProjectiles(1300);
+		AudioManager.getInstance().flushSoundEffects(); // Sounds of this step are played off the game loop thread
+		performanceMonitor.mark(PerformanceMonitor.Stage.CLEANUP);
+		performanceMonitor.endStep();
+	}
+
+	/**
+	 * Moves the projectiles kept in projectile stores, if the level uses them.
+	 */
+	private void updateProjectileStores() {
+		if (enemyProjectileStore != null) {
+			enemyProjectileStore.update();
+			bossProjectileStore.update();
+		}
+	}
+
+	/**
+	 * Removes projectiles kept in projectile stores that have left the screen, if the level uses them.
+	 *
+	 * @param screenWidth The width of the game screen.
+	 */
+	private void removeOutOfBoundsStoredProjectiles(double screenWidth) {
+		if (enemyProjectileStore != null) {
+			enemyProjectileStore.removeOutOfBounds(screenWidth);
+			bossProjectileStore.removeOutOfBounds(screenWidth);
+		}
+	}
+
+	/**
+	 * Renders the level after the simulation steps of a display pulse. This method is invoked by the
+	 * {@link GameLoop} once per pulse, after any due simulation steps have run. Actors are shown interpolated
+	 * between the previous and the current simulation step: levels drawing onto a canvas draw them here, and
+	 * levels showing them as nodes offset the nodes to their interpolated positions.
+	 *
+	 * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1).
+	 */
+	private void renderScene(double alpha) {
+		if (canvasRenderer != null) {
+			canvasRenderer.render(alpha);
+		} else if (nodeInterpolator != null) {
+			nodeInterpolator.render(alpha);
+		}
+		updateLevelView();
+		levelView.updatePerformanceOverlay();
+	}
+
+	/**
+	 * Shows or hides the performance overlay of the level. It is toggled by pressing {@code F3}.
+	 */
+	public void togglePerformanceOverlay() {
+		if (!HeadlessMode.isEnabled()) {
+			levelView.togglePerformanceOverlay(performanceMonitor);
+		}
 	}
 
 	/**
-	 * Initializes the game loop timeline. This method sets up a {@link Timeline} that calls {@code updateScene()}
-	 * continuously at intervals defined by {@code MILLISECOND_DELAY}. This continuous cycle is crucial for game
-	 * mechanics such as movement, collision detection, and other time-sensitive updates.
+	 * Returns the performance monitor of the level.
 	 *
-	 * The timeline is set to run indefinitely, ensuring the game loop continues until explicitly stopped, typically
-	 * when the game is paused, the level is completed, or the application is closed.
+	 * @return the {@link PerformanceMonitor} timing the simulation steps of the level.
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	public PerformanceMonitor getPerformanceMonitor() {
+		return performanceMonitor;
 	}
 
 	/**
@@ -328,7 +580,10 @@ public abstract class LevelParent {
 		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(inputHandler.getOnKeyPressedHandler());
 		background.setOnKeyReleased(inputHandler.getOnKeyReleasedHandler());
-		root.getChildren().add(background);
+		layers.setBackground(background);
+		if (canvasRenderer != null) {
+			layers.setActorCanvas(canvasRenderer.getCanvas()); // Actors are drawn right above the background
+		}
 	}
 
 	/**
@@ -345,7 +600,11 @@ public abstract class LevelParent {
 	 * This method checks for interactions and applies effects for these collisions, such as explosion effect and sound effect.
 	 */
 	private void handleUserProjectileCollisions() {
-		collisionHandler.detectCollisionsWithEffect(userProjectiles, enemyUnits, root);
+		if (HeadlessMode.isEnabled()) {
+			collisionHandler.detectCollisions(userProjectiles, enemyUnits);
+		} else {
+			collisionHandler.detectCollisionsWithEffect(userProjectiles, enemyUnits, explosionEffects);
+		}
 	}
 
 	/**
@@ -355,6 +614,10 @@ public abstract class LevelParent {
 	 */
 	private void handleEnemyProjectileCollisions() {
 		collisionHandler.detectCollisions(enemyProjectiles, friendlyUnits);
+		if (enemyProjectileStore != null) {
+			enemyProjectileStore.collide(friendlyUnits);
+			bossProjectileStore.collide(friendlyUnits);
+		}
 	}
 
 	/**
@@ -362,6 +625,10 @@ public abstract class LevelParent {
 	 */
 	private void handleProjectileCollision() {
 		collisionHandler.detectCollisions(userProjectiles, enemyProjectiles);
+		if (enemyProjectileStore != null) {
+			enemyProjectileStore.collide(userProjectiles);
+			bossProjectileStore.collide(userProjectiles);
+		}
 	}
 
 	/**
@@ -409,42 +676,83 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Handles the actions to be performed when the game is won. This method stops the game timeline,
+	 * Handles the actions to be performed when the game is won. This method stops the game loop,
 	 * cleans up the current level, and displays the win menu to the player.
 	 * It is called when the win condition for the level is met.
 	 */
 	protected void winGame() {
-		stopTimeline(); // Stop the timeline when the game is won
+		stopGameLoop(); // Stop the game loop when the game is won
 		cleanUp();
-		new WinMenu(scene).show();
+		outcome = Outcome.WON;
+		if (!HeadlessMode.isEnabled()) {
+			new WinMenu(scene).show();
+		}
 	}
 
 	/**
 	 * Handles the actions to be performed when the game is lost. Similar to winGame, this method
-	 * stops the game timeline, cleans up the level, and shows the lose menu to the player.
+	 * stops the game loop, cleans up the level, and shows the lose menu to the player.
 	 * It is called when the lose condition for the level is met.
 	 */
 	protected void loseGame() {
-		stopTimeline(); // Stop the timeline when the game is lost
+		stopGameLoop(); // Stop the game loop when the game is lost
 		cleanUp();
-		new LoseMenu(scene).show();
+		outcome = Outcome.LOST;
+		if (!HeadlessMode.isEnabled()) {
+			new LoseMenu(scene, getRetryLevelName()).show();
+		}
 	}
 
 	/**
-	 * Cleans up the level by stopping the timeline and clearing all game entities from the scene.
+	 * Cleans up the level by stopping the game loop and clearing all game entities from the scene.
 	 * This method ensures that no residual game elements remain that could affect future gameplay
 	 * or resource management. It is called typically when transitioning between levels or restarting
 	 * the game.
 	 */
 	public void cleanUp() {
-		stopTimeline();
+		stopGameLoop();
 		friendlyUnits.clear();
 		enemyUnits.clear();
 		userProjectiles.clear();
 		enemyProjectiles.clear();
+		if (enemyProjectileStore != null) {
+			enemyProjectileStore.clear();
+			bossProjectileStore.clear();
+		}
+		explosionEffects.clear();
+		layers.clear();
 		root.getChildren().clear();
 	}
 
+	/**
+	 * Releases everything that could keep the level reachable once it has been left: the level is cleaned up,
+	 * the key handlers linking its scene to its input handler are removed, and its pause menu is disposed of.
+	 * The owner of the level calls this method when it switches to another level or restarts the game, after
+	 * detaching its own listeners from the level. Calling it again has no effect.
+	 */
+	public void dispose() {
+		if (disposed) {
+			return;
+		}
+		disposed = true;
+		cleanUp();
+		background.setOnKeyPressed(null);
+		background.setOnKeyReleased(null);
+		if (pauseMenu != null) {
+			pauseMenu.dispose();
+			pauseMenu = null;
+		}
+	}
+
+	/**
+	 * Tells whether the level has been disposed of.
+	 *
+	 * @return {@code true} once {@link #dispose()} has been called.
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
 	/**
 	 * Retrieves the player's plane object. This method provides access to the player's plane, allowing
 	 * other parts of the game to interact with or query the player's status, such as health or position.
@@ -465,6 +773,26 @@ public abstract class LevelParent {
 		return root;
 	}
 
+	/**
+	 * Retrieves the layers of the scene, so that levels can add nodes to the layer of their category,
+	 * such as the user plane to the friendly layer or a health bar to the HUD layer.
+	 *
+	 * @return the {@link SceneLayers} of the level.
+	 */
+	protected SceneLayers getLayers() {
+		return layers;
+	}
+
+	/**
+	 * Returns the source of randomness of the level. All random decisions of the level should be drawn from it,
+	 * so that a run can be reproduced from its seed.
+	 *
+	 * @return the {@link GameRandom} of the level.
+	 */
+	protected GameRandom getRandom() {
+		return random;
+	}
+
 	/**
 	 * Returns the current number of enemy units active in the level. This can be used to monitor the
 	 * game's difficulty or progression.
@@ -532,6 +860,15 @@ public abstract class LevelParent {
 		return nextLevelProperty;
 	}
 
+	/**
+	 * Returns the outcome of the game if it has ended in this level.
+	 *
+	 * @return {@link Outcome#WON} or {@link Outcome#LOST} once the game is over, or {@code null} while it is still being played.
+	 */
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
 	/**
 	 * Sets the pause menu to be used within the level. This allows dynamic updates or replacements of
 	 * the pause menu during the game.
@@ -543,13 +880,13 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Pauses the gameplay by stopping the game's timeline and displaying the pause menu. This method
+	 * Pauses the gameplay by pausing the game loop and displaying the pause menu. This method
 	 * is typically called when the player initiates a game pause, such as by pressing a pause ESCAPE.
 	 * It ensures that all game actions are halted and the game state is preserved during the pause.
 	 */
 	public void pauseGame() {
-		if (timeline != null) {
-			timeline.pause();
+		if (gameLoop != null) {
+			gameLoop.pause();
 		}
 		if (pauseMenu != null) {
 			pauseMenu.show();
@@ -557,24 +894,24 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Resumes the game from a paused state by restarting the timeline. This method is called when the
+	 * Resumes the game from a paused state by restarting the game loop. This method is called when the
 	 * player chooses to continue playing after a pause. It ensures that the game picks up exactly where
-	 * it left off without any changes to the game state.
+	 * it left off without any changes to the game state, and that the time spent paused is not simulated.
 	 */
 	public void resumeGame() {
-		if (timeline != null) {
-			timeline.play();
+		if (gameLoop != null) {
+			gameLoop.play();
 		}
 	}
 
 	/**
-	 * Stops the game's timeline. This method is typically called when the game is ending, either due to
+	 * Stops the game loop. This method is typically called when the game is ending, either due to
 	 * a game over condition or when transitioning to a different level or scene. It ensures that all
 	 * game actions are completely halted and that no further updates will occur.
 	 */
-	private void stopTimeline() {
-		if (timeline != null) {
-			timeline.stop();
+	private void stopGameLoop() {
+		if (gameLoop != null) {
+			gameLoop.stop();
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.TextureAtlas;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code LevelPreloader} class prepares the next level on a background thread while the current level is played.
+ * <p>
+ * Building a level decodes its sprites, creates its actors, managers and views and lays out its scene graph, which
+ * used to happen on the JavaFX application thread at the moment the previous level ended and showed as a hitch
+ * during the transition. The preloader instead warms the texture atlas and constructs the next level in the background
+ * as soon as the current level starts. At transition time the prepared level is swapped in atomically; its scene is
+ * then created on the application thread by {@link LevelParent#initializeScene()}. Each level draws its random numbers
+ * from its own {@link GameRandom}, so building it in the background leaves those of the playing level alone.
+ * If the preparation has not finished yet, the transition waits for it, and if it failed, was prepared for another
+ * level or was seeded from a run seed that has changed since, the level is built on the spot as before. Levels are
+ * created through the {@link LevelRegistry}. A prepared level that is not taken is disposed of as soon as it is built.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/level/LevelPreloader.java">LevelPreloader.java</a>
+ */
+public class LevelPreloader {
+
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(LevelPreloader.class);
+
+    /**
+     * The height of the game area the levels are built for.
+     */
+    private final double screenHeight;
+
+    /**
+     * The width of the game area the levels are built for.
+     */
+    private final double screenWidth;
+
+    /**
+     * Runs the preparations in the background.
+     */
+    private final Executor executor;
+
+    /**
+     * The level being prepared or ready to be taken, or {@code null} if there is none.
+     */
+    private final AtomicReference<Preparation> preparation = new AtomicReference<>();
+
+    /**
+     * Constructs a {@code LevelPreloader} preparing each level on its own daemon thread.
+     *
+     * @param screenHeight The height of the game area.
+     * @param screenWidth  The width of the game area.
+     */
+    public LevelPreloader(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, task -> {
+            Thread thread = new Thread(task, "level-preloader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Constructs a {@code LevelPreloader} running the preparations on the given executor, used for testing.
+     *
+     * @param screenHeight The height of the game area.
+     * @param screenWidth  The width of the game area.
+     * @param executor     Runs the preparations.
+     */
+    LevelPreloader(double screenHeight, double screenWidth, Executor executor) {
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts preparing the level with the given class name in the background. A preparation for another level
+     * that has not been taken yet is discarded.
+     *
+     * @param className The fully qualified class name of the level, or {@code null} to only discard the previous preparation.
+     */
+    public void preload(String className) {
+        if (className == null) {
+            clear();
+            return;
+        }
+        FutureTask<LevelParent> task = new PreparationTask(() -> {
+            if (!HeadlessMode.isEnabled()) {
+                TextureAtlas.getInstance().build(); // Normally done already at startup; a no-op then
+            }
+            return instantiate(className);
+        });
+        discard(preparation.getAndSet(new Preparation(className, task)));
+        executor.execute(task);
+    }
+
+    /**
+     * Returns the level with the given class name, taking the prepared level if it matches and building the level
+     * on the calling thread otherwise. Waits for a matching preparation that is still running. A prepared level whose
+     * random numbers derive from another run seed than the current one is disposed of and rebuilt, so that the run
+     * stays reproducible.
+     *
+     * @param className The fully qualified class name of the level.
+     * @return The level, with its scene not initialized yet.
+     * @throws IllegalArgumentException if the level is not registered in the {@link LevelRegistry}.
+     */
+    public LevelParent take(String className) {
+        Preparation prepared = preparation.getAndSet(null);
+        if (prepared != null && prepared.className.equals(className)) {
+            try {
+                LevelParent level = prepared.task.get();
+                if (level.getRandom().getRunSeed() == GameRandom.getInstance().getRunSeed()) {
+                    return level;
+                }
+                level.dispose();
+            } catch (ExecutionException | CancellationException e) {
+                LOGGER.warn("Preloading " + className + " failed, building it on the spot: " + e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            discard(prepared);
+        }
+        return instantiate(className);
+    }
+
+    /**
+     * Tells whether the level with the given class name has been prepared and can be taken without waiting.
+     *
+     * @param className The fully qualified class name of the level.
+     * @return {@code true} if the level is ready.
+     */
+    public boolean isReady(String className) {
+        Preparation prepared = preparation.get();
+        return prepared != null && prepared.className.equals(className) && prepared.task.isDone();
+    }
+
+    /**
+     * Discards the current preparation, if any.
+     */
+    public void clear() {
+        discard(preparation.getAndSet(null));
+    }
+
+    /**
+     * Creates a level through its factory in the {@link LevelRegistry}.
+     *
+     * @param className The fully qualified class name of the level.
+     * @return The new level.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    private LevelParent instantiate(String className) {
+        return LevelRegistry.getInstance().create(className, screenHeight, screenWidth);
+    }
+
+    /**
+     * Cancels a preparation that will not be taken. A level that has already been built is disposed of, and a level
+     * still being built is left to finish and is then disposed of by its {@link PreparationTask}.
+     *
+     * @param prepared The preparation, or {@code null}.
+     */
+    private static void discard(Preparation prepared) {
+        if (prepared == null || prepared.task.cancel(false)) {
+            return;
+        }
+        try {
+            prepared.task.get().dispose(); // Done already, so this does not wait
+        } catch (ExecutionException | CancellationException e) {
+            // No level was built
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The {@code PreparationTask} class builds a level in the background and disposes of it if the preparation has
+     * been discarded while the level was being built, as cancelling the task cannot stop the construction.
+     */
+    private static final class PreparationTask extends FutureTask<LevelParent> {
+
+        /**
+         * Constructs a {@code PreparationTask} running the given construction.
+         *
+         * @param construction Builds the level.
+         */
+        private PreparationTask(Callable<LevelParent> construction) {
+            super(construction);
+        }
+
+        /**
+         * Sets the built level as the result of the task, or disposes of it if the task has been cancelled meanwhile.
+         *
+         * @param level The built level.
+         */
+        @Override
+        protected void set(LevelParent level) {
+            super.set(level);
+            if (isCancelled()) {
+                level.dispose();
+            }
+        }
+    }
+
+    /**
+     * The {@code Preparation} class pairs a level class name with the task building the level.
+     */
+    private static final class Preparation {
+
+        /**
+         * The fully qualified class name of the level.
+         */
+        private final String className;
+
+        /**
+         * The task building the level.
+         */
+        private final FutureTask<LevelParent> task;
+
+        /**
+         * Constructs a {@code Preparation}.
+         *
+         * @param className The fully qualified class name of the level.
+         * @param task      The task building the level.
+         */
+        private Preparation(String className, FutureTask<LevelParent> task) {
+            this.className = className;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.GameLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code LevelRegistry} class is a singleton holding the levels of the game and the graph linking them.
+ * <p>
+ * Each level is registered under its name, the fully qualified name of its class, together with a
+ * {@link LevelFactory} creating it and its links: the level that follows it, the level a lost game is retried from,
+ * and any number of named branches to other levels. The registry is built and validated once at startup, so that a
+ * link to a level that does not exist fails when the game boots instead of when a level ends. Levels are then
+ * created through their factories, without looking classes or constructors up by reflection on every transition.
+ * </p>
+ * <p>
+ * The graph itself is the table in {@link #createDefault()}; adding a level or changing the order of the levels only
+ * takes a new row there.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/level/LevelRegistry.java">LevelRegistry.java</a>
+ */
+public class LevelRegistry {
+
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(LevelRegistry.class);
+
+    /**
+     * The single instance of {@code LevelRegistry}.
+     */
+    private static LevelRegistry instance;
+
+    /**
+     * The registered levels keyed by their name, in registration order.
+     */
+    private final Map<String, Entry> levels = new LinkedHashMap<>();
+
+    /**
+     * The name of the level a new game starts with.
+     */
+    private final String startLevel;
+
+    /**
+     * Creates a level for a game area of the given size.
+     */
+    @FunctionalInterface
+    public interface LevelFactory {
+
+        /**
+         * Creates a new level.
+         *
+         * @param screenHeight The height of the game area.
+         * @param screenWidth  The width of the game area.
+         * @return The new level, with its scene not initialized yet.
+         */
+        LevelParent create(double screenHeight, double screenWidth);
+    }
+
+    /**
+     * Constructs an empty {@code LevelRegistry}, used by {@link #createDefault()} and for testing.
+     *
+     * @param startLevel The name of the level a new game starts with.
+     */
+    LevelRegistry(String startLevel) {
+        this.startLevel = startLevel;
+    }
+
+    /**
+     * Provides access to the single instance of {@code LevelRegistry}, building and validating the level graph
+     * the first time it is called.
+     *
+     * @return The single instance of {@code LevelRegistry}.
+     * @throws IllegalStateException if the level graph has broken links.
+     */
+    public static LevelRegistry getInstance() {
+        if (instance == null) {
+            synchronized (LevelRegistry.class) {
+                if (instance == null) {
+                    LevelRegistry registry = createDefault();
+                    registry.validate();
+                    instance = registry;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Builds the level graph of the game. A lost game is retried from the first level.
+     *
+     * @return The registry of the levels of the game.
+     */
+    static LevelRegistry createDefault() {
+        String levelOne = LevelOne.class.getName();
+        String levelTwo = LevelTwo.class.getName();
+        String levelBoss = LevelBoss.class.getName();
+        String levelFinalBoss = LevelFinalBoss.class.getName();
+
+        LevelRegistry registry = new LevelRegistry(levelOne);
+        //                name            factory               next            retry
+        registry.register(levelOne,       LevelOne::new,        levelTwo,       levelOne);
+        registry.register(levelTwo,       LevelTwo::new,        levelBoss,      levelOne);
+        registry.register(levelBoss,      LevelBoss::new,       levelFinalBoss, levelOne);
+        registry.register(levelFinalBoss, LevelFinalBoss::new,  null,           levelOne);
+        return registry;
+    }
+
+    /**
+     * Registers a level. Its links are only checked by {@link #validate()}, so levels may link to levels
+     * registered after them.
+     *
+     * @param name    The name of the level.
+     * @param factory Creates the level.
+     * @param next    The name of the level that follows it, or {@code null} if the game ends with it.
+     * @param retry   The name of the level a game lost in it is retried from.
+     * @return This registry, for chaining.
+     * @throws IllegalArgumentException if a level with the same name has already been registered.
+     */
+    LevelRegistry register(String name, LevelFactory factory, String next, String retry) {
+        if (levels.containsKey(name)) {
+            throw new IllegalArgumentException("Level registered twice: " + name);
+        }
+        levels.put(name, new Entry(factory, next, retry));
+        return this;
+    }
+
+    /**
+     * Adds a named branch from a registered level to another level.
+     *
+     * @param name   The name of the level the branch starts from.
+     * @param branch The name of the branch, for example {@code "secret"}.
+     * @param target The name of the level the branch leads to.
+     * @return This registry, for chaining.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    LevelRegistry addBranch(String name, String branch, String target) {
+        entry(name).branches.put(branch, target);
+        return this;
+    }
+
+    /**
+     * Checks that the start level and every link of every level name a registered level.
+     *
+     * @throws IllegalStateException listing all broken links, if there are any.
+     */
+    public void validate() {
+        List<String> broken = new ArrayList<>();
+        if (!levels.containsKey(startLevel)) {
+            broken.add("start -> " + startLevel);
+        }
+        for (Map.Entry<String, Entry> level : levels.entrySet()) {
+            Entry entry = level.getValue();
+            checkLink(level.getKey(), "next", entry.next, true, broken);
+            checkLink(level.getKey(), "retry", entry.retry, false, broken);
+            for (Map.Entry<String, String> branch : entry.branches.entrySet()) {
+                checkLink(level.getKey(), "branch " + branch.getKey(), branch.getValue(), false, broken);
+            }
+        }
+        if (!broken.isEmpty()) {
+            throw new IllegalStateException("Broken links in the level graph: " + String.join(", ", broken));
+        }
+        LOGGER.info("Level graph validated: " + levels.size() + " levels starting with " + startLevel + ".");
+    }
+
+    /**
+     * Returns the name of the level a new game starts with.
+     *
+     * @return The name of the start level.
+     */
+    public String getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Tells whether a level is registered under the given name.
+     *
+     * @param name The name of the level.
+     * @return {@code true} if the level is registered.
+     */
+    public boolean contains(String name) {
+        return levels.containsKey(name);
+    }
+
+    /**
+     * Creates a registered level through its factory.
+     *
+     * @param name         The name of the level.
+     * @param screenHeight The height of the game area.
+     * @param screenWidth  The width of the game area.
+     * @return The new level, with its scene not initialized yet.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    public LevelParent create(String name, double screenHeight, double screenWidth) {
+        return entry(name).factory.create(screenHeight, screenWidth);
+    }
+
+    /**
+     * Returns the name of the level that follows a level.
+     *
+     * @param name The name of the level.
+     * @return The name of the next level, or {@code null} if the game ends with the level.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    public String getNextLevel(String name) {
+        return entry(name).next;
+    }
+
+    /**
+     * Returns the name of the level a game lost in a level is retried from.
+     *
+     * @param name The name of the level.
+     * @return The name of the retry level.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    public String getRetryLevel(String name) {
+        return entry(name).retry;
+    }
+
+    /**
+     * Returns the name of the level a named branch of a level leads to.
+     *
+     * @param name   The name of the level.
+     * @param branch The name of the branch.
+     * @return The name of the target level, or {@code null} if the level has no such branch.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    public String getBranch(String name, String branch) {
+        return entry(name).branches.get(branch);
+    }
+
+    /**
+     * Returns the entry of a registered level.
+     *
+     * @param name The name of the level.
+     * @return The entry of the level.
+     * @throws IllegalArgumentException if the level is not registered.
+     */
+    private Entry entry(String name) {
+        Entry entry = levels.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown level: " + name);
+        }
+        return entry;
+    }
+
+    /**
+     * Records a link that does not lead to a registered level.
+     *
+     * @param from     The name of the level the link starts from.
+     * @param kind     The kind of link, for example {@code "next"}.
+     * @param target   The name of the level the link leads to.
+     * @param optional Whether the link may be absent.
+     * @param broken   Receives the description of a broken link.
+     */
+    private void checkLink(String from, String kind, String target, boolean optional, List<String> broken) {
+        if (target == null ? !optional : !levels.containsKey(target)) {
+            broken.add(from + " " + kind + " -> " + target);
+        }
+    }
+
+    /**
+     * The {@code Entry} class holds the factory and the links of a registered level.
+     */
+    private static final class Entry {
+
+        /**
+         * Creates the level.
+         */
+        private final LevelFactory factory;
+
+        /**
+         * The name of the level that follows, or {@code null} if the game ends with this level.
+         */
+        private final String next;
+
+        /**
+         * The name of the level a game lost in this level is retried from.
+         */
+        private final String retry;
+
+        /**
+         * The named branches to other levels.
+         */
+        private final Map<String, String> branches = new HashMap<>();
+
+        /**
+         * Constructs an {@code Entry}.
+         *
+         * @param factory Creates the level.
+         * @param next    The name of the next level, or {@code null}.
+         * @param retry   The name of the retry level.
+         */
+        private Entry(LevelFactory factory, String next, String retry) {
+            this.factory = factory;
+            this.next = next;
+            this.retry = retry;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.demo.level;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.manager.WaveScheduler;
 import com.example.demo.view.LevelView;
 
+import java.util.Map;
+
 /**
  * The {@code LevelTwo} class represents the second level of the game, featuring more challenging enemies
  * with increased health. This class extends {@link LevelParent} and defines level-specific behaviors and
@@ -19,20 +21,15 @@ public class LevelTwo extends LevelParent {
      */
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
-    /**
-     * The fully qualified class name of the next level to transition to after completing Level Two.
-     */
-    private static final String NEXT_LEVEL = "com.example.demo.level.LevelBoss";
-
     /**
      * The image file name for enemy planes in Level Two.
      */
     private static final String IMAGE_NAME = "enemyplane2.png";
 
     /**
-     * The total number of enemies that can be simultaneously present on the screen in Level Two.
+     * The wave script spawning the enemies of Level Two, including the number of enemies allowed on screen at once.
      */
-    private static final int TOTAL_ENEMIES = 7;
+    private static final String WAVE_SCRIPT_NAME = "/com/example/demo/waves/level_two.txt";
 
     /**
      * The number of kills the player needs to achieve to advance from Level Two to the next level.
@@ -40,15 +37,14 @@ public class LevelTwo extends LevelParent {
     private static final int KILLS_TO_ADVANCE = 15;
 
     /**
-     * The probability of an enemy spawning in any given frame, expressed as a fraction of 1.
-     * This probability factor controls the rate at which enemies appear, influencing the level's pacing and difficulty.
+     * The initial health with which the player starts Level Two.
      */
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.25;
+    private static final int PLAYER_INITIAL_HEALTH = 5;
 
     /**
-     * The initial health with which the player starts Level Two.
+     * Spawns the enemies of the level from its wave script.
      */
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private final WaveScheduler waves;
 
     /**
      * Constructs a {@code LevelTwo} instance with specified screen dimensions, setting up the initial
@@ -59,6 +55,8 @@ public class LevelTwo extends LevelParent {
      */
     public LevelTwo(double screenHeight, double screenWidth) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        waves = WaveScheduler.load(WAVE_SCRIPT_NAME, Map.of("heavy", (x, y) -> new EnemyPlane(x, y, 2, IMAGE_NAME, getRandom())), // Health is 2
+                getScreenWidth(), getEnemyMaximumYPosition(), getRandom());
     }
 
     /**
@@ -72,7 +70,7 @@ public class LevelTwo extends LevelParent {
         if (userIsDestroyed()) {
             loseGame();
         } else if (userHasReachedKillTarget()) {
-            goToNextLevel(NEXT_LEVEL);
+            goToNextLevel();
         }
     }
 
@@ -83,25 +81,18 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getLayers().getFriendlyLayer().getChildren().add(getUser());
     }
 
     /**
-     * Dynamically spawns enemy units during the game based on a defined probability, which is higher
-     * than in Level One. This method ensures a progressive challenge by introducing enemies with more
-     * health and adjusting their spawn rate and total number.
+     * Spawns the enemy units whose wave events are due. The waves of Level Two are larger and denser
+     * than those of Level One. This method ensures a progressive challenge by introducing enemies with more
+     * health in bigger formations and allowing more of them on screen.
      * This method override the {@link LevelParent#spawnEnemyUnits()} method.
      */
     @Override
     protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                EnemyPlane newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 2, IMAGE_NAME); // Health is 2
-                addEnemyUnit(newEnemy);
-            }
-        }
+        waves.update(getCurrentNumberOfEnemies(), this::addEnemyUnit);
     }
 
     /**
@@ -112,7 +103,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+        return new LevelView(getLayers().getHudLayer(), PLAYER_INITIAL_HEALTH);
     }
 
     /**
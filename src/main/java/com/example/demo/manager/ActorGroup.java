@@ -16,6 +16,11 @@ import java.util.List;
  */
 public class ActorGroup implements GameComponent {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(ActorGroup.class);
+
     /**
      * A list of actors that this group manages. Each actor is an instance of {@code ActiveActorDestructible},
      * which contains logic for its own update and render methods, and tracks its destruction state.
@@ -28,6 +33,11 @@ public class ActorGroup implements GameComponent {
      */
     private final Group root;
 
+    /**
+     * Batch used when the group removes its actors on its own, reused across calls.
+     */
+    private final ActorRemovalBatch removalBatch = new ActorRemovalBatch();
+
     /**
      * Constructs an {@code ActorGroup} with the specified list of actors and the root group.
      *
@@ -50,35 +60,79 @@ public class ActorGroup implements GameComponent {
 
     /**
      * Removes destroyed actors from the list and the scene graph.
-     * This method helps free resources by removing actors marked as destroyed.
+     * This method helps free resources by removing actors marked as destroyed; destroyed projectiles
+     * are released to the {@link ProjectilePool} to be fired again. Groups managed together should use
+     * {@link #collectDestroyed(ActorRemovalBatch)} instead, so that their actors are detached in one batch.
      */
     @Override
     public void removeDestroyed() {
-        // Remove destroyed actors from the list and the scene graph
-        actors.removeIf(ActiveActorDestructible::isDestroyed);
-        root.getChildren().removeIf(node -> node instanceof ActiveActorDestructible && ((ActiveActorDestructible) node).isDestroyed());
+        collectDestroyed(removalBatch);
+        removalBatch.flush();
     }
 
     /**
      * Removes actors that are completely out of the screen bounds.
+     * Projectiles removed this way are released to the {@link ProjectilePool}.
      *
      * @param screenWidth The width of the game screen used to determine the out-of-bounds condition.
      */
     @Override
     public void removeOutOfBounds(double screenWidth) {
-        actors.removeIf(actor -> {
-            double x = actor.getLayoutX() + actor.getTranslateX();
-            double width = actor.getBoundsInParent().getWidth();
-            boolean outOfBounds = (x < -width || x > screenWidth);
-
-            // If the actor is out of bounds, remove it from the scene graph
-            if (outOfBounds) {
-                root.getChildren().remove(actor);
-                System.out.println("Actor removed from the screen.");
+        collectOutOfBounds(screenWidth, removalBatch);
+        removalBatch.flush();
+    }
+
+    /**
+     * Removes destroyed actors from the list and adds them to a removal batch, which detaches them from the
+     * scene graph and releases them when it is flushed. Only the list of the group is scanned.
+     *
+     * @param batch The batch collecting the removed actors.
+     */
+    public void collectDestroyed(ActorRemovalBatch batch) {
+        int kept = 0;
+        int size = actors.size();
+        for (int i = 0; i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                batch.add(actor);
+            } else {
+                actors.set(kept++, actor);
             }
+        }
+        truncate(kept);
+    }
 
-            return outOfBounds;
-        });
+    /**
+     * Removes actors that are completely out of the screen bounds from the list and adds them to a removal
+     * batch, which detaches them from the scene graph and releases them when it is flushed.
+     *
+     * @param screenWidth The width of the game screen used to determine the out-of-bounds condition.
+     * @param batch       The batch collecting the removed actors.
+     */
+    public void collectOutOfBounds(double screenWidth, ActorRemovalBatch batch) {
+        int kept = 0;
+        int size = actors.size();
+        for (int i = 0; i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            double x = actor.getAbsoluteX();
+            double width = actor.getBoundsWidth();
+            if (x < -width || x > screenWidth) {
+                batch.add(actor);
+                LOGGER.debug("Actor removed from the screen.");
+            } else {
+                actors.set(kept++, actor);
+            }
+        }
+        truncate(kept);
+    }
+
+    /**
+     * Returns the root group the actors of this group are added to.
+     *
+     * @return The root {@code Group}.
+     */
+    public Group getRoot() {
+        return root;
     }
 
     /**
@@ -89,4 +143,15 @@ public class ActorGroup implements GameComponent {
     public List<ActiveActorDestructible> getActors() {
         return actors;
     }
+
+    /**
+     * Drops the actors past the given length from the list, after the kept actors have been moved to its front.
+     *
+     * @param length The number of actors to keep.
+     */
+    private void truncate(int length) {
+        if (length < actors.size()) {
+            actors.subList(length, actors.size()).clear();
+        }
+    }
 }
@@ -48,6 +48,11 @@ public class ActorManager {
      */
     private final ActorGroup enemyProjectileGroup;
 
+    /**
+     * Collects the actors removed from all groups during a cleanup, so that they leave the scene graph together.
+     */
+    private final ActorRemovalBatch removalBatch = new ActorRemovalBatch();
+
     /**
      * Constructs an {@code ActorManager} with the specified actor groups.
      *
@@ -79,12 +84,15 @@ public class ActorManager {
     /**
      * Removes all destroyed actors from each actor group, freeing up resources.
      * This method helps prevent memory leaks by ensuring destroyed actors are removed from the scene.
+     * The destroyed actors of all groups are detached from the scene graph in one batch, and not at all
+     * if nothing was destroyed.
      */
     public void removeDestroyedActors() {
-        friendlyGroup.removeDestroyed();
-        enemyGroup.removeDestroyed();
-        userProjectileGroup.removeDestroyed();
-        enemyProjectileGroup.removeDestroyed();
+        friendlyGroup.collectDestroyed(removalBatch);
+        enemyGroup.collectDestroyed(removalBatch);
+        userProjectileGroup.collectDestroyed(removalBatch);
+        enemyProjectileGroup.collectDestroyed(removalBatch);
+        removalBatch.flush();
     }
 
     /**
@@ -94,7 +102,8 @@ public class ActorManager {
      * @param screenWidth The width of the game screen used to determine out-of-bounds condition.
      */
     public void removeOutOfBoundsProjectiles(double screenWidth) {
-        userProjectileGroup.removeOutOfBounds(screenWidth);
-        enemyProjectileGroup.removeOutOfBounds(screenWidth);
+        userProjectileGroup.collectOutOfBounds(screenWidth, removalBatch);
+        enemyProjectileGroup.collectOutOfBounds(screenWidth, removalBatch);
+        removalBatch.flush();
     }
 }
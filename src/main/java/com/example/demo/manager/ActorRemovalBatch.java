@@ -0,0 +1,104 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code ActorRemovalBatch} class collects the actors removed from their {@link ActorGroup}s during a
+ * simulation step and detaches them from the scene graph together.
+ * <p>
+ * Removing actors one at a time, or filtering the whole child list of the root group for destroyed actors,
+ * costs a scan of every node of the scene, including the background and the HUD, and a change event for each
+ * removal. The batch instead removes all collected actors from each parent group with a single
+ * {@code removeAll}, which scans the children once against a set of the removed actors and fires one change
+ * event. A batch with nothing collected does not touch the scene at all, so the cost of cleanup follows the
+ * number of removed actors rather than the size of the scene. Once detached, removed projectiles are released to
+ * the {@link ProjectilePool}.
+ * </p>
+ * <p>
+ * The collections of the batch are reused from step to step, so a batch allocates nothing once warmed up.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/ActorRemovalBatch.java">ActorRemovalBatch.java</a>
+ */
+public class ActorRemovalBatch {
+
+    /**
+     * The actors removed since the last flush, in removal order.
+     */
+    private final List<ActiveActorDestructible> removedActors = new ArrayList<>();
+
+    /**
+     * The removed actors of the parent group being flushed, for constant-time lookups during {@code removeAll}.
+     */
+    private final Set<ActiveActorDestructible> removedFromParent = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Adds an actor that has been removed from its group.
+     *
+     * @param actor The removed actor.
+     */
+    public void add(ActiveActorDestructible actor) {
+        removedActors.add(actor);
+    }
+
+    /**
+     * Returns the number of actors collected since the last flush.
+     *
+     * @return The number of removed actors waiting to be detached.
+     */
+    public int size() {
+        return removedActors.size();
+    }
+
+    /**
+     * Detaches all collected actors from the scene graph, one batched removal per parent group, and releases
+     * them to the {@link ProjectilePool}. The batch is empty afterwards.
+     *
+     * @throws IllegalStateException if an actor is attached to a parent other than a {@link Group}.
+     */
+    public void flush() {
+        if (removedActors.isEmpty()) {
+            return;
+        }
+        Parent parent;
+        while ((parent = findAttachedParent()) != null) { // Actors normally share one parent, so this runs once
+            if (!(parent instanceof Group)) {
+                throw new IllegalStateException("Actors must be attached to a Group.");
+            }
+            for (ActiveActorDestructible actor : removedActors) {
+                if (actor.getParent() == parent) {
+                    removedFromParent.add(actor);
+                }
+            }
+            ((Group) parent).getChildren().removeAll(removedFromParent);
+            removedFromParent.clear();
+        }
+        for (ActiveActorDestructible actor : removedActors) {
+            ProjectilePool.getInstance().release(actor);
+        }
+        removedActors.clear();
+    }
+
+    /**
+     * Finds the parent of the first collected actor that is still attached to the scene graph.
+     *
+     * @return The parent, or {@code null} if no collected actor is attached.
+     */
+    private Parent findAttachedParent() {
+        for (ActiveActorDestructible actor : removedActors) {
+            if (actor.getParent() != null) {
+                return actor.getParent();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.demo.manager;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code AsyncLogAppender} class writes the messages of the {@link GameLogger} to a stream on a background
+ * thread, so that the thread logging a message never waits for the console.
+ * <p>
+ * Messages are handed to a dedicated writer thread through a bounded ring buffer. If the writer falls so far
+ * behind that the buffer is full, new messages are dropped and counted rather than stalling the caller, in the
+ * same way as the {@link AudioDispatcher} drops sounds. The writer is a daemon thread started by the first
+ * message, and {@link #flush(long)} lets the game wait for the pending messages before it exits.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/AsyncLogAppender.java">AsyncLogAppender.java</a>
+ */
+public class AsyncLogAppender {
+
+    /**
+     * Default number of messages that can wait for the writer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Format of the time stamp at the start of every line.
+     */
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * The stream the messages are written to.
+     */
+    private final PrintStream out;
+
+    /**
+     * Messages waiting for the writer.
+     */
+    private final BlockingQueue<Entry> entries;
+
+    /**
+     * Number of accepted messages that have not been written yet.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Number of messages dropped because the buffer was full.
+     */
+    private final AtomicInteger droppedMessages = new AtomicInteger();
+
+    /**
+     * The writer thread, or {@code null} until the first message is appended. Volatile so that appending
+     * only locks while the writer is being started.
+     */
+    private volatile Thread writer;
+
+    /**
+     * A message waiting to be written, with the details captured on the logging thread.
+     */
+    private static final class Entry {
+
+        /**
+         * The level of the message.
+         */
+        private final GameLogger.Level level;
+
+        /**
+         * The name of the logger.
+         */
+        private final String loggerName;
+
+        /**
+         * The name of the thread that logged the message.
+         */
+        private final String threadName;
+
+        /**
+         * The time the message was logged, in milliseconds since the epoch.
+         */
+        private final long timeMillis;
+
+        /**
+         * The message.
+         */
+        private final String message;
+
+        /**
+         * The exception logged with the message, or {@code null}.
+         */
+        private final Throwable throwable;
+
+        /**
+         * Constructs an {@code Entry}.
+         *
+         * @param level      The level of the message.
+         * @param loggerName The name of the logger.
+         * @param threadName The name of the thread that logged the message.
+         * @param timeMillis The time the message was logged, in milliseconds since the epoch.
+         * @param message    The message.
+         * @param throwable  The exception logged with the message, or {@code null}.
+         */
+        private Entry(GameLogger.Level level, String loggerName, String threadName, long timeMillis,
+                      String message, Throwable throwable) {
+            this.level = level;
+            this.loggerName = loggerName;
+            this.threadName = threadName;
+            this.timeMillis = timeMillis;
+            this.message = message;
+            this.throwable = throwable;
+        }
+    }
+
+    /**
+     * Constructs an {@code AsyncLogAppender} writing to the given stream.
+     *
+     * @param out      The stream to write to.
+     * @param capacity The number of messages that can wait for the writer. Must be positive.
+     * @throws IllegalArgumentException if the capacity is non-positive.
+     */
+    public AsyncLogAppender(PrintStream out, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.out = out;
+        this.entries = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Queues a message to be written. Returns immediately, dropping the message if the buffer is full.
+     *
+     * @param level      The level of the message.
+     * @param loggerName The name of the logger.
+     * @param message    The message.
+     * @param throwable  The exception logged with the message, or {@code null}.
+     */
+    public void append(GameLogger.Level level, String loggerName, String message, Throwable throwable) {
+        if (writer == null) {
+            startWriter();
+        }
+        Entry entry = new Entry(level, loggerName, Thread.currentThread().getName(),
+                System.currentTimeMillis(), message, throwable);
+        pending.incrementAndGet();
+        if (!entries.offer(entry)) {
+            pending.decrementAndGet();
+            droppedMessages.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until all queued messages have been written, or until the timeout expires.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return {@code true} if all messages were written in time.
+     */
+    public boolean flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        out.flush();
+        return true;
+    }
+
+    /**
+     * Returns the number of messages dropped because the writer fell behind.
+     *
+     * @return The number of dropped messages.
+     */
+    public int getDroppedMessageCount() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Stops the writer thread. Messages that have not been written yet are discarded. A later message starts a new writer.
+     */
+    public synchronized void shutdown() {
+        if (writer != null) {
+            writer.interrupt();
+            writer = null;
+        }
+        pending.addAndGet(-entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Starts the writer thread unless it is already running.
+     */
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::runWriter, "log-appender");
+        writer.setDaemon(true); // Never keep the application alive
+        writer.start();
+    }
+
+    /**
+     * Writes the queued messages until the writer is interrupted.
+     */
+    private void runWriter() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Entry entry = entries.take();
+                write(entry);
+                pending.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes a single message as one line, followed by the stack trace of its exception if any.
+     *
+     * @param entry The message to write.
+     */
+    private void write(Entry entry) {
+        out.println(TIME_FORMAT.format(Instant.ofEpochMilli(entry.timeMillis)) + ' '
+                + entry.level + " [" + entry.threadName + "] "
+                + entry.loggerName + " - " + entry.message);
+        if (entry.throwable != null) {
+            entry.throwable.printStackTrace(out);
+        }
+    }
+}
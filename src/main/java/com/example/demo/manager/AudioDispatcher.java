@@ -0,0 +1,163 @@
+package com.example.demo.manager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The {@code AudioDispatcher} class moves the playback of sound effects off the game loop thread.
+ * <p>
+ * Triggering a {@link SoundCue} only sets its bit in the set of cues of the current frame, so a cue triggered
+ * several times in the same frame, such as a burst of explosions, is played once. At the end of the frame,
+ * {@link #flush()} hands the set to a dedicated audio worker through a bounded queue, and the worker plays
+ * each cue. If the worker falls so far behind that the queue is full, the frame's sounds are dropped rather
+ * than stalling the game loop.
+ * </p>
+ * <p>
+ * The worker is a daemon thread started by the first flush that has sounds to play.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/AudioDispatcher.java">AudioDispatcher.java</a>
+ */
+public class AudioDispatcher {
+
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(AudioDispatcher.class);
+
+    /**
+     * Number of frames of sounds that can wait for the worker.
+     */
+    private static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * All cues, cached to avoid copying the array on every frame.
+     */
+    private static final SoundCue[] CUES = SoundCue.values();
+
+    /**
+     * Plays a single cue on the worker thread.
+     */
+    private final Consumer<SoundCue> player;
+
+    /**
+     * Cues triggered during the current frame, one bit per cue.
+     */
+    private final AtomicInteger pendingCues = new AtomicInteger();
+
+    /**
+     * Sets of cues of finished frames waiting to be played, as bit masks.
+     */
+    private final BlockingQueue<Integer> frames = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * Number of frames whose sounds were dropped because the queue was full.
+     */
+    private final AtomicInteger droppedFrames = new AtomicInteger();
+
+    /**
+     * The worker thread, or {@code null} until the first sounds are flushed.
+     */
+    private Thread worker;
+
+    /**
+     * Constructs an {@code AudioDispatcher} that plays cues with the given player.
+     *
+     * @param player The action playing a cue, called on the audio worker thread.
+     */
+    public AudioDispatcher(Consumer<SoundCue> player) {
+        this.player = player;
+    }
+
+    /**
+     * Adds a cue to the sounds of the current frame. Triggering the same cue again before the next
+     * {@link #flush()} has no further effect.
+     *
+     * @param cue The cue to play.
+     */
+    public void trigger(SoundCue cue) {
+        int mask = cue.mask();
+        pendingCues.accumulateAndGet(mask, (pending, bit) -> pending | bit);
+    }
+
+    /**
+     * Ends the current frame and sends the cues triggered during it to the audio worker.
+     * This method should be called once at the end of every simulation step.
+     */
+    public void flush() {
+        int cues = pendingCues.getAndSet(0);
+        if (cues == 0) {
+            return;
+        }
+        startWorker();
+        if (!frames.offer(cues)) {
+            droppedFrames.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of frames whose sounds were dropped because the audio worker fell behind.
+     *
+     * @return The number of dropped frames.
+     */
+    public int getDroppedFrameCount() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Stops the audio worker. Sounds that have not been played yet are discarded. A later flush starts a new worker.
+     */
+    public synchronized void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+        frames.clear();
+    }
+
+    /**
+     * Starts the audio worker unless it is already running.
+     */
+    private synchronized void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::runWorker, "audio-dispatcher");
+        worker.setDaemon(true); // Never keep the application alive
+        worker.start();
+    }
+
+    /**
+     * Plays the cues of each flushed frame until the worker is interrupted.
+     */
+    private void runWorker() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                int cues = frames.take();
+                for (SoundCue cue : CUES) {
+                    if ((cues & cue.mask()) != 0) {
+                        play(cue);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Plays a single cue, keeping the worker alive if playback fails.
+     *
+     * @param cue The cue to play.
+     */
+    private void play(SoundCue cue) {
+        try {
+            player.accept(cue);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to play " + cue, e);
+        }
+    }
+}
@@ -15,6 +15,11 @@ import java.net.URL;
  */
 public class AudioManager {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(AudioManager.class);
+
 
     /**
      * The single instance of AudioManager, implementing the Singleton pattern to ensure it is the only one created.
@@ -27,21 +32,21 @@ public class AudioManager {
     private MediaPlayer backgroundMusicPlayer;
 
     /**
-     * MediaPlayer used to play explosion sound effects across the application.
+     * Preloaded voices used to play explosion sound effects across the application.
      */
-    private MediaPlayer soundEffectPlayer;
+    private volatile SoundEffect explosionEffect;
     /**
-     * MediaPlayer used to play button click sound effects across the application.
+     * Preloaded voices used to play button click sound effects across the application.
      */
-    private MediaPlayer clickSoundPlayer;
+    private volatile SoundEffect clickEffect;
     /**
-     * MediaPlayer used to play user shoot sound effects across the application.
+     * Preloaded voices used to play user shoot sound effects across the application.
      */
-    private MediaPlayer userShootPlayer;
+    private volatile SoundEffect userShootEffect;
     /**
-     * MediaPlayer used to boss user shoot sound effects across the application.
+     * Preloaded voices used to play boss shoot sound effects across the application.
      */
-    private MediaPlayer bossShootPlayer;
+    private volatile SoundEffect bossShootEffect;
     /**
      * MediaPlayer used to play win menu sound effects across the application.
      */
@@ -51,20 +56,65 @@ public class AudioManager {
      */
     private MediaPlayer loseEffectPlayer;
     /**
-     * MediaPlayer used to play shield activate sound effects across the application.
+     * Preloaded voices used to play shield activate sound effects across the application.
      */
-    private MediaPlayer shieldEffectPlayer;
+    private volatile SoundEffect shieldEffect;
 
     /**
      * Flag to indicate whether all sounds should be muted or not.
      */
-    private boolean isMuted = false;
+    private volatile boolean isMuted = false;
+
+    /**
+     * Sends gameplay sound effects to the audio worker, so that they are played off the game loop thread.
+     */
+    private final AudioDispatcher dispatcher = new AudioDispatcher(this::playCue);
 
     /**
      * Path to the default background music file.
      */
     private static final String BACKGROUND_MUSIC = "/com/example/demo/sounds/bg.mp3";
 
+    /**
+     * Path to the explosion sound effect file.
+     */
+    private static final String EXPLOSION_EFFECT = "/com/example/demo/sounds/explosion.mp3";
+
+    /**
+     * Path to the button click sound effect file.
+     */
+    private static final String BUTTON_CLICK_EFFECT = "/com/example/demo/sounds/click.mp3";
+
+    /**
+     * Path to the user shoot sound effect file.
+     */
+    private static final String USER_SHOOT_EFFECT = "/com/example/demo/sounds/userShoot.mp3";
+
+    /**
+     * Path to the boss shoot sound effect file.
+     */
+    private static final String BOSS_SHOOT_EFFECT = "/com/example/demo/sounds/bossShoot.mp3";
+
+    /**
+     * Path to the shield activate sound effect file.
+     */
+    private static final String SHIELD_EFFECT = "/com/example/demo/sounds/shield.mp3";
+
+    /**
+     * Number of explosions that can be heard at once, enough for a volley of hits in the same moment.
+     */
+    private static final int EXPLOSION_VOICES = 8;
+
+    /**
+     * Number of shots that can be heard at once for the user and for the boss.
+     */
+    private static final int SHOOT_VOICES = 4;
+
+    /**
+     * Number of voices for effects that rarely overlap, such as clicks and the shield.
+     */
+    private static final int SINGLE_EVENT_VOICES = 2;
+
     /**
      * The volume level for background music.
      * This field controls the volume for all background music within the application,
@@ -150,7 +200,7 @@ public class AudioManager {
 
         URL resource = getClass().getResource(BACKGROUND_MUSIC);
         if (resource == null) {
-            System.err.println("Error: Audio file not found at " + BACKGROUND_MUSIC);
+            LOGGER.error("Audio file not found at " + BACKGROUND_MUSIC);
             return;
         }
 
@@ -198,7 +248,7 @@ public class AudioManager {
         musicVolume = volume;
         if (backgroundMusicPlayer != null) {
             backgroundMusicPlayer.setVolume(volume);
-            System.out.println("BGM volume:" + volume);
+            LOGGER.debug(() -> "BGM volume: " + volume);
         }
     }
 
@@ -209,7 +259,7 @@ public class AudioManager {
      */
     public void setExplosionEffectsVolume(double volume) {
         explosionEffectVolume = volume;
-            System.out.println("Explosion volume:" + volume);
+        LOGGER.debug(() -> "Explosion volume: " + volume);
     }
 
     /**
@@ -219,7 +269,7 @@ public class AudioManager {
      */
     public void setClickEffectVolume(double volume) {
         clickEffectVolume = volume;
-            System.out.println("Click volume:" + volume);
+        LOGGER.debug(() -> "Click volume: " + volume);
     }
 
     /**
@@ -229,7 +279,7 @@ public class AudioManager {
      */
     public void setUserShootEffectVolume(double volume) {
         userShootEffectVolume = volume;
-        System.out.println("User Shoot volume:" + volume);
+        LOGGER.debug(() -> "User shoot volume: " + volume);
     }
 
     /**
@@ -239,7 +289,7 @@ public class AudioManager {
      */
     public void setBossShootEffectVolume(double volume) {
         bossShootEffectVolume = volume;
-        System.out.println("Boss Shoot volume:" + volume);
+        LOGGER.debug(() -> "Boss shoot volume: " + volume);
     }
 
     /**
@@ -249,7 +299,7 @@ public class AudioManager {
      */
     public void setWinEffectVolume(double volume) {
         winEffectVolume = volume;
-        System.out.println("Win Effect volume:" + volume);
+        LOGGER.debug(() -> "Win effect volume: " + volume);
     }
 
     /**
@@ -259,7 +309,7 @@ public class AudioManager {
      */
     public void setLoseEffectVolume(double volume) {
         loseEffectVolume = volume;
-        System.out.println("Win Effect volume:" + volume);
+        LOGGER.debug(() -> "Lose effect volume: " + volume);
     }
 
     /**
@@ -269,7 +319,7 @@ public class AudioManager {
      */
     public void setShieldEffectVolume(double volume) {
         shieldEffectVolume = volume;
-        System.out.println("Shield Effect volume:" + volume);
+        LOGGER.debug(() -> "Shield effect volume: " + volume);
     }
 
     /**
@@ -352,9 +402,7 @@ public class AudioManager {
         if (backgroundMusicPlayer != null) {
             backgroundMusicPlayer.setMute(true);
         }
-        if (soundEffectPlayer != null) {
-            soundEffectPlayer.setMute(true);
-        }
+        stopSoundEffects();
     }
 
     /**
@@ -365,9 +413,6 @@ public class AudioManager {
         if (backgroundMusicPlayer != null) {
             backgroundMusicPlayer.setMute(false);
         }
-        if (soundEffectPlayer != null) {
-            soundEffectPlayer.setMute(false);
-        }
     }
 
     /**
@@ -378,12 +423,35 @@ public class AudioManager {
         return isMuted;
     }
 
+    /**
+     * Decodes the voices of all sound effects played during gameplay, so that the first shot or explosion
+     * does not wait for its sound to load. Effects that are already loaded are left untouched.
+     * This method should be called once at startup; otherwise the audio worker loads the effects when first needed.
+     */
+    public synchronized void preloadSoundEffects() {
+        if (explosionEffect == null) {
+            explosionEffect = loadEffect(EXPLOSION_EFFECT, EXPLOSION_VOICES);
+        }
+        if (clickEffect == null) {
+            clickEffect = loadEffect(BUTTON_CLICK_EFFECT, SINGLE_EVENT_VOICES);
+        }
+        if (userShootEffect == null) {
+            userShootEffect = loadEffect(USER_SHOOT_EFFECT, SHOOT_VOICES);
+        }
+        if (bossShootEffect == null) {
+            bossShootEffect = loadEffect(BOSS_SHOOT_EFFECT, SHOOT_VOICES);
+        }
+        if (shieldEffect == null) {
+            shieldEffect = loadEffect(SHIELD_EFFECT, SINGLE_EVENT_VOICES);
+        }
+    }
+
     /**
      * Stops currently playing explosion sound effects.
      */
     public void stopSoundEffect() {
-        if (soundEffectPlayer != null) {
-            soundEffectPlayer.stop();
+        if (explosionEffect != null) {
+            explosionEffect.stop();
         }
     }
 
@@ -391,8 +459,8 @@ public class AudioManager {
      * Stops currently playing user shooting sound effects.
      */
     public void stopUserShootEffect() {
-        if (userShootPlayer != null) {
-            userShootPlayer.stop();
+        if (userShootEffect != null) {
+            userShootEffect.stop();
         }
     }
 
@@ -400,29 +468,28 @@ public class AudioManager {
      * Stops currently playing boss shooting sound effects.
      */
     public void stopBossShootEffect() {
-        if (bossShootPlayer != null) {
-            bossShootPlayer.stop();
+        if (bossShootEffect != null) {
+            bossShootEffect.stop();
         }
     }
 
     /**
-     * Plays a specific sound effect.
+     * Sends the sound effects triggered since the last call to the audio worker, playing each effect once
+     * however often it was triggered. This method should be called at the end of every simulation step.
      */
-    public void playExplosionEffect() {
-        stopSoundEffect(); // Stop the current sound effect if it's playing
+    public void flushSoundEffects() {
+        dispatcher.flush();
+    }
 
-        String SOUND_EFFECT_PATH = "/com/example/demo/sounds/explosion.mp3";
-        URL resource = getClass().getResource(SOUND_EFFECT_PATH);
-        if (resource == null) {
-            System.err.println("Error: Sound effect file not found at " + SOUND_EFFECT_PATH);
-            return;
+    /**
+     * Plays a specific sound effect. The sound is queued and played by the audio worker after the current
+     * simulation step, see {@link #flushSoundEffects()}.
+     */
+    public void playExplosionEffect() {
+        if (HeadlessMode.isEnabled()) {
+            return; // No audio output without the JavaFX toolkit
         }
-
-        Media soundEffect = new Media(resource.toString());
-        soundEffectPlayer = new MediaPlayer(soundEffect);
-        soundEffectPlayer.setVolume(explosionEffectVolume); // Use stored volume
-        if (isMuted) soundEffectPlayer.setMute(true);
-        soundEffectPlayer.play();
+        dispatcher.trigger(SoundCue.EXPLOSION);
     }
 
     /**
@@ -430,56 +497,30 @@ public class AudioManager {
      */
 
     public void playButtonClickEffect() {
-        String BUTTON_CLICK_EFFECT = "/com/example/demo/sounds/click.mp3";
-        URL resource = getClass().getResource(BUTTON_CLICK_EFFECT);
-        if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + BUTTON_CLICK_EFFECT);
-            return;
-        }
-
-        Media clickSound = new Media(resource.toString());
-        clickSoundPlayer = new MediaPlayer(clickSound);
-        clickSoundPlayer.setVolume(clickEffectVolume); // Use stored volume
-        if (isMuted) clickSoundPlayer.setMute(true);
-        clickSoundPlayer.play();
+        preloadSoundEffects();
+        playEffect(clickEffect, clickEffectVolume);
     }
 
     /**
-     * Plays the user fire projectile sound effect.
+     * Plays the user fire projectile sound effect. The sound is queued and played by the audio worker
+     * after the current simulation step.
      */
     public void playUserShootEffect() {
-        stopUserShootEffect();
-        String USER_SHOOT_EFFECT = "/com/example/demo/sounds/userShoot.mp3";
-        URL resource = getClass().getResource(USER_SHOOT_EFFECT);
-        if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + USER_SHOOT_EFFECT);
+        if (HeadlessMode.isEnabled()) {
             return;
         }
-
-        Media userShoot = new Media(resource.toString());
-        userShootPlayer = new MediaPlayer(userShoot);
-        userShootPlayer.setVolume(userShootEffectVolume); // Use stored volume
-        if (isMuted) userShootPlayer.setMute(true);
-        userShootPlayer.play();
+        dispatcher.trigger(SoundCue.USER_SHOOT);
     }
 
     /**
-     * Plays the boss fire projectile sound effect.
+     * Plays the boss fire projectile sound effect. The sound is queued and played by the audio worker
+     * after the current simulation step.
      */
     public void playBossShootEffect() {
-        stopBossShootEffect();
-        String BOSS_SHOOT_EFFECT = "/com/example/demo/sounds/bossShoot.mp3";
-        URL resource = getClass().getResource(BOSS_SHOOT_EFFECT);
-        if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + BOSS_SHOOT_EFFECT);
+        if (HeadlessMode.isEnabled()) {
             return;
         }
-
-        Media bossShoot = new Media(resource.toString());
-        bossShootPlayer = new MediaPlayer(bossShoot);
-        bossShootPlayer.setVolume(bossShootEffectVolume); // Use stored volume
-        if (isMuted) bossShootPlayer.setMute(true);
-        bossShootPlayer.play();
+        dispatcher.trigger(SoundCue.BOSS_SHOOT);
     }
 
     /**
@@ -490,7 +531,7 @@ public class AudioManager {
         String WIN_EFFECT = "/com/example/demo/sounds/win.mp3";
         URL resource = getClass().getResource(WIN_EFFECT);
         if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + WIN_EFFECT);
+            LOGGER.error("Win sound file not found at " + WIN_EFFECT);
             return;
         }
 
@@ -509,7 +550,7 @@ public class AudioManager {
         String LOSE_EFFECT = "/com/example/demo/sounds/lose.mp3";
         URL resource = getClass().getResource(LOSE_EFFECT);
         if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + LOSE_EFFECT);
+            LOGGER.error("Lose sound file not found at " + LOSE_EFFECT);
             return;
         }
 
@@ -521,20 +562,78 @@ public class AudioManager {
     }
 
     /**
-     * Plays the game lose sound effect.
+     * Plays the shield activate sound effect. The sound is queued and played by the audio worker
+     * after the current simulation step.
      */
     public void playShieldEffect() {
-        String SHIELD_EFFECT = "/com/example/demo/sounds/shield.mp3";
-        URL resource = getClass().getResource(SHIELD_EFFECT);
-        if (resource == null) {
-            System.err.println("Error: Button click sound file not found at " + SHIELD_EFFECT);
+        if (HeadlessMode.isEnabled()) {
             return;
         }
+        dispatcher.trigger(SoundCue.SHIELD);
+    }
+
+    /**
+     * Plays a gameplay sound effect on the audio worker thread.
+     *
+     * @param cue The sound effect to play.
+     */
+    private void playCue(SoundCue cue) {
+        preloadSoundEffects();
+        switch (cue) {
+            case EXPLOSION:
+                playEffect(explosionEffect, explosionEffectVolume);
+                break;
+            case USER_SHOOT:
+                playEffect(userShootEffect, userShootEffectVolume);
+                break;
+            case BOSS_SHOOT:
+                playEffect(bossShootEffect, bossShootEffectVolume);
+                break;
+            case SHIELD:
+                playEffect(shieldEffect, shieldEffectVolume);
+                break;
+        }
+    }
 
-        Media shieldEffect = new Media(resource.toString());
-        shieldEffectPlayer = new MediaPlayer(shieldEffect);
-        shieldEffectPlayer.setVolume(shieldEffectVolume); // Use stored volume
-        if (isMuted) shieldEffectPlayer.setMute(true);
-        shieldEffectPlayer.play();
+    /**
+     * Stops every voice of the preloaded sound effects.
+     */
+    private void stopSoundEffects() {
+        stopSoundEffect();
+        stopUserShootEffect();
+        stopBossShootEffect();
+        if (clickEffect != null) {
+            clickEffect.stop();
+        }
+        if (shieldEffect != null) {
+            shieldEffect.stop();
+        }
+    }
+
+    /**
+     * Plays a preloaded sound effect unless the audio is muted.
+     *
+     * @param effect The effect to play, or {@code null} if it could not be loaded.
+     * @param volume The volume to play at.
+     */
+    private void playEffect(SoundEffect effect, double volume) {
+        if (effect != null && !isMuted) {
+            effect.play(volume);
+        }
+    }
+
+    /**
+     * Loads the voices of a sound effect.
+     *
+     * @param resourcePath The absolute resource path of the sound.
+     * @param voiceCount   The number of voices to load.
+     * @return The loaded {@link SoundEffect}, or {@code null} if the sound file does not exist.
+     */
+    private SoundEffect loadEffect(String resourcePath, int voiceCount) {
+        if (getClass().getResource(resourcePath) == null) {
+            LOGGER.error("Sound effect file not found at " + resourcePath);
+            return null;
+        }
+        return new SoundEffect(resourcePath, voiceCount);
     }
-}
+}
\ No newline at end of file
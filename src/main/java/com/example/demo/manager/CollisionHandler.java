@@ -1,7 +1,6 @@
 package com.example.demo.manager;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import javafx.scene.Group;
 
 import java.util.List;
 
@@ -23,6 +22,11 @@ public class CollisionHandler {
      */
     private static CollisionHandler instance;
 
+    /**
+     * Broad phase grid reused by every detection pass to avoid testing every pair of actors.
+     */
+    private final SpatialGrid grid;
+
     /**
      * Private constructor to prevent instantiation from outside the class.
      * <p>
@@ -30,7 +34,7 @@ public class CollisionHandler {
      * </p>
      */
     private CollisionHandler() {
-        // Initialization logic (if any)
+        grid = new SpatialGrid();
     }
 
     /**
@@ -63,16 +67,7 @@ public class CollisionHandler {
      * @param list2 The second list of {@code ActiveActorDestructible} objects (e.g., enemy units).
      */
     public void detectCollisions(List<ActiveActorDestructible> list1, List<ActiveActorDestructible> list2) {
-        for (ActiveActorDestructible actor1 : list1) {
-            for (ActiveActorDestructible actor2 : list2) {
-                // Check if the bounding boxes of the two actors intersect
-                if (actor1.getBoundsInParent().intersects(actor2.getBoundsInParent())) {
-                    // Apply damage to both actors upon collision
-                    actor1.takeDamage();
-                    actor2.takeDamage();
-                }
-            }
-        }
+        detect(list1, list2, null);
     }
 
     /**
@@ -82,24 +77,57 @@ public class CollisionHandler {
      *
      * @param list1 The first list of {@code ActiveActorDestructible} objects.
      * @param list2 The second list of {@code ActiveActorDestructible} objects.
-     * @param root The root group where visual effects should be added.
+     * @param explosionEffects The manager showing an explosion where an actor is destroyed.
+     */
+    public void detectCollisionsWithEffect(List<ActiveActorDestructible> list1, List<ActiveActorDestructible> list2,
+                                           ExplosionEffectManager explosionEffects) {
+        detect(list1, list2, explosionEffects);
+    }
+
+    /**
+     * Runs the broad phase and the narrow phase for two lists of actors.
+     * <p>
+     * The actors of the second list are binned into the {@link SpatialGrid} by their bounds, computed once
+     * per actor, and each actor of the first list is only tested against the actors whose bounds overlap its own.
+     * The narrow phase then tests the {@link com.example.demo.actors.Hitbox}es of those pairs, so the transparent
+     * padding of the images does not cause hits. Pairs are visited in the same order as a nested loop over both
+     * lists, so damage and effects are applied exactly as before.
+     * </p>
+     *
+     * @param list1            The first list of {@code ActiveActorDestructible} objects.
+     * @param list2            The second list of {@code ActiveActorDestructible} objects.
+     * @param explosionEffects The manager showing explosions, or {@code null} for no effects.
      */
-    public void detectCollisionsWithEffect(List<ActiveActorDestructible> list1, List<ActiveActorDestructible> list2, Group root) {
+    private void detect(List<ActiveActorDestructible> list1, List<ActiveActorDestructible> list2,
+                        ExplosionEffectManager explosionEffects) {
+        if (list1.isEmpty() || list2.isEmpty()) {
+            return;
+        }
+        grid.clear();
+        for (ActiveActorDestructible actor2 : list2) {
+            grid.insert(actor2.getBoundsMinX(), actor2.getBoundsMinY(), actor2.getBoundsMaxX(), actor2.getBoundsMaxY());
+        }
+
         for (ActiveActorDestructible actor1 : list1) {
-            for (ActiveActorDestructible actor2 : list2) {
-                if (actor1.getBoundsInParent().intersects(actor2.getBoundsInParent())) {
-                    actor1.takeDamage();
-                    actor2.takeDamage();
+            int candidateCount = grid.query(actor1.getBoundsMinX(), actor1.getBoundsMinY(),
+                    actor1.getBoundsMaxX(), actor1.getBoundsMaxY());
+            for (int i = 0; i < candidateCount; i++) {
+                ActiveActorDestructible actor2 = list2.get(grid.getCandidate(i));
+                if (!actor1.collidesWith(actor2)) {
+                    continue;
+                }
+                // Apply damage to both actors upon collision
+                actor1.takeDamage();
+                actor2.takeDamage();
 
-                    if (actor2.isDestroyed()) {
-                        // Play sound effect
-                        AudioManager.getInstance().playExplosionEffect();
+                if (explosionEffects != null && actor2.isDestroyed()) {
+                    // Play sound effect
+                    AudioManager.getInstance().playExplosionEffect();
 
-                        // Render explosion effect at actor2's position
-                        double x = actor2.getAbsoluteX();
-                        double y = actor2.getAbsoluteY();
-                        new ExplosionEffectManager(x, y, root);
-                    }
+                    // Render explosion effect at actor2's position
+                    double x = actor2.getAbsoluteX();
+                    double y = actor2.getAbsoluteY();
+                    explosionEffects.spawn(x, y);
                 }
             }
         }
@@ -2,9 +2,12 @@ package com.example.demo.manager;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.FighterPlane;
+import com.example.demo.actors.projectile.Projectile;
 import javafx.scene.Group;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The {@code EnemySpawner} is responsible for managing the spawning and positioning of enemy units in the game.
@@ -15,6 +18,11 @@ import java.util.List;
  */
 public class EnemySpawner {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(EnemySpawner.class);
+
     /**
      * List of all active enemy units currently in the game.
      */
@@ -25,11 +33,36 @@ public class EnemySpawner {
      */
     private final Group root;
 
+    /**
+     * The group enemy projectiles are added to, which is the root group unless projectiles have a layer of their own.
+     */
+    private final Group projectileRoot;
+
     /**
      * List of all projectiles fired by enemy units.
      */
     private final List<ActiveActorDestructible> enemyProjectiles;
 
+    /**
+     * Width of the game area, or {@code 0} to read it from the scene of the root group.
+     */
+    private final double screenWidth;
+
+    /**
+     * Height of the game area, or {@code 0} to read it from the scene of the root group.
+     */
+    private final double screenHeight;
+
+    /**
+     * Stores that take over projectiles of a given type instead of adding them to the scene, keyed by projectile class.
+     */
+    private final Map<Class<? extends Projectile>, ProjectileStore> projectileStores = new HashMap<>();
+
+    /**
+     * Source of randomness for relocating overlapping enemies, the generator of the level.
+     */
+    private final GameRandom random;
+
     /**
      * Lower boundary on the Y-axis to prevent enemy spawn below this line. Helps maintain enemies within visible game area.
      */
@@ -41,11 +74,61 @@ public class EnemySpawner {
      * @param enemyUnits The list of enemy units to manage.
      * @param root The root {@code Group} for adding enemy units to the scene.
      * @param enemyProjectiles The list of enemy projectiles.
+     * @param random The source of randomness for relocating overlapping enemies.
+     */
+    public EnemySpawner(List<ActiveActorDestructible> enemyUnits, Group root, List<ActiveActorDestructible> enemyProjectiles,
+                        GameRandom random) {
+        this(enemyUnits, root, enemyProjectiles, 0, 0, random);
+    }
+
+    /**
+     * Constructs an {@code EnemySpawner} for a game area of known size, so that enemies can be placed
+     * without the root group being attached to a scene, as in {@link HeadlessMode}.
+     *
+     * @param enemyUnits The list of enemy units to manage.
+     * @param root The root {@code Group} for adding enemy units to the scene.
+     * @param enemyProjectiles The list of enemy projectiles.
+     * @param screenWidth The width of the game area.
+     * @param screenHeight The height of the game area.
+     * @param random The source of randomness for relocating overlapping enemies.
      */
-    public EnemySpawner(List<ActiveActorDestructible> enemyUnits, Group root, List<ActiveActorDestructible> enemyProjectiles) {
+    public EnemySpawner(List<ActiveActorDestructible> enemyUnits, Group root, List<ActiveActorDestructible> enemyProjectiles,
+                        double screenWidth, double screenHeight, GameRandom random) {
+        this(enemyUnits, root, enemyProjectiles, root, screenWidth, screenHeight, random);
+    }
+
+    /**
+     * Constructs an {@code EnemySpawner} that adds enemy units and their projectiles to separate groups, such as
+     * the enemy and projectile layers of the scene.
+     *
+     * @param enemyUnits The list of enemy units to manage.
+     * @param root The {@code Group} for adding enemy units to the scene.
+     * @param enemyProjectiles The list of enemy projectiles.
+     * @param projectileRoot The {@code Group} for adding enemy projectiles to the scene.
+     * @param screenWidth The width of the game area.
+     * @param screenHeight The height of the game area.
+     * @param random The source of randomness for relocating overlapping enemies.
+     */
+    public EnemySpawner(List<ActiveActorDestructible> enemyUnits, Group root, List<ActiveActorDestructible> enemyProjectiles,
+                        Group projectileRoot, double screenWidth, double screenHeight, GameRandom random) {
         this.enemyUnits = enemyUnits;
         this.root = root;
         this.enemyProjectiles = enemyProjectiles;
+        this.projectileRoot = projectileRoot;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.random = random;
+    }
+
+    /**
+     * Routes projectiles of the given type into a {@link ProjectileStore} instead of the scene graph. Projectiles
+     * fired afterwards are copied into the store and released to the {@link ProjectilePool} straight away.
+     *
+     * @param projectileType The class of the projectiles to route, for example {@code EnemyProjectile.class}.
+     * @param store The store the projectiles are added to.
+     */
+    public void setProjectileStore(Class<? extends Projectile> projectileType, ProjectileStore store) {
+        projectileStores.put(projectileType, store);
     }
 
     /**
@@ -61,7 +144,7 @@ public class EnemySpawner {
         do {
             positionValid = true;
             for (ActiveActorDestructible existingEnemy : enemyUnits) {
-                if (enemy.getBoundsInParent().intersects(existingEnemy.getBoundsInParent())) {
+                if (enemy.intersects(existingEnemy)) {
                     positionValid = false;
                     relocateEnemy(enemy); // Relocate enemy to a new position
                      ;
@@ -74,7 +157,7 @@ public class EnemySpawner {
             enemyUnits.add(enemy);
             root.getChildren().add(enemy);
         } else {
-            System.err.println("Failed to place enemy after " + maxAttempts + " attempts.");
+            LOGGER.warn("Failed to place enemy after " + maxAttempts + " attempts.");
         }
     }
 
@@ -85,13 +168,14 @@ public class EnemySpawner {
      * @param enemy The enemy to relocate.
      */
     private void relocateEnemy(ActiveActorDestructible enemy) {
-        double sceneWidth = root.getScene().getWidth();
-        double sceneHeight = root.getScene().getHeight();
+        double sceneWidth = screenWidth > 0 ? screenWidth : root.getScene().getWidth();
+        double sceneHeight = screenHeight > 0 ? screenHeight : root.getScene().getHeight();
 
-        double newX = sceneWidth - enemy.getBoundsInParent().getWidth(); // Place near the right boundary
-        double newY = Math.random() * (sceneHeight - Y_LOWER_BOUND - enemy.getBoundsInParent().getHeight()); // Constrain to upper boundary
+        double newX = sceneWidth - enemy.getBoundsWidth(); // Place near the right boundary
+        double newY = random.nextDouble() * (sceneHeight - Y_LOWER_BOUND - enemy.getBoundsHeight()); // Constrain to upper boundary
         enemy.setLayoutX(newX);
         enemy.setLayoutY(newY);
+        enemy.savePreviousPosition(); // Appear at the new position instead of sliding there from the old one
     }
 
     /**
@@ -113,8 +197,12 @@ public class EnemySpawner {
      * @param projectile The projectile to add to the scene.
      */
     private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-        if (projectile != null) {
-            root.getChildren().add(projectile); // Add to scene graph
+        ProjectileStore store = projectile != null ? projectileStores.get(projectile.getClass()) : null;
+        if (store != null) {
+            store.spawn((Projectile) projectile);
+            ProjectilePool.getInstance().release(projectile);
+        } else if (projectile != null) {
+            projectileRoot.getChildren().add(projectile); // Add to scene graph
             enemyProjectiles.add(projectile);  // Track in list
         }
     }
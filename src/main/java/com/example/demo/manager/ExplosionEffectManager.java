@@ -1,23 +1,28 @@
 package com.example.demo.manager;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.util.Duration;
 
-import java.util.Objects;
 
 /**
  * The {@code ExplosionEffectManager} class manages the visual representation of explosions
- * in the game. It extends {@link ImageView} to display an explosion image at a specified location
- * on the screen for a brief duration before automatically removing it.
+ * in the game. It displays an explosion image at a specified location on the screen for a brief
+ * duration before automatically hiding it again.
+ * <p>
+ * The explosions are drawn by a fixed pool of {@link ImageView} sprites sharing one decoded image, which are
+ * created with the manager and reused for every kill. Instead of a timeline per explosion, the lifetime of all
+ * explosions is advanced by {@link #update()} once per simulation step, so explosions pause with the game loop
+ * and cost nothing to schedule. The image can be a horizontal sprite sheet, in which case the frames are shown
+ * one after another over the lifetime of the explosion. When all sprites are in use, the oldest explosion is
+ * cut short and its sprite reused.
+ * </p>
  *
  * <p>
  * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/ExplosionEffectManager.java">ExplosionEffectManager.java</a>
  */
-public class ExplosionEffectManager extends ImageView {
+public class ExplosionEffectManager {
 
     /**
      * The file name of the explosion image used for the visual effect.
@@ -35,37 +40,226 @@ public class ExplosionEffectManager extends ImageView {
     private static final int EXPLOSION_DURATION = 500;
 
     /**
-     * Constructs an {@code ExplosionEffectManager} instance at the specified coordinates
-     * within the provided {@link Group}. The explosion image is displayed for a short duration
-     * and then removed from the scene.
+     * The size in pixels of the displayed explosion.
+     */
+    private static final double EXPLOSION_SIZE = 150;
+
+    /**
+     * Number of explosions that can be displayed at once.
+     */
+    private static final int POOL_SIZE = 16;
+
+    /**
+     * Group holding the explosion sprites, kept above the other nodes of the root group.
+     */
+    private final Group layer = new Group();
+
+    /**
+     * The root group the explosion layer is attached to.
+     */
+    private final Group root;
+
+    /**
+     * The pooled explosion sprites.
+     */
+    private final ImageView[] sprites = new ImageView[POOL_SIZE];
+
+    /**
+     * Number of simulation steps each sprite has been displayed for, or {@code -1} if it is idle.
+     */
+    private final int[] ages = new int[POOL_SIZE];
+
+    /**
+     * Number of frames in the sprite sheet.
+     */
+    private final int frameCount;
+
+    /**
+     * Number of simulation steps an explosion is displayed for.
+     */
+    private final int durationSteps;
+
+    /**
+     * The shared explosion image, or {@code null} in {@link HeadlessMode}.
+     */
+    private final Image image;
+
+    /**
+     * Rectangle of the sprite sheet within the {@link TextureAtlas}, or {@code null} if the image is the sprite
+     * sheet itself or in {@link HeadlessMode}.
+     */
+    private final Rectangle2D sheet;
+
+    /**
+     * Source rectangles of the sprite sheet frames, or {@code null} until the image has finished loading.
+     */
+    private Rectangle2D[] frames;
+
+    /**
+     * Index of the sprite used by the next explosion, which is always the one started longest ago.
+     */
+    private int nextSprite;
+
+    /**
+     * Constructs an {@code ExplosionEffectManager} showing the default explosion image.
      *
-     * @param x    The x-coordinate where the explosion should appear on the screen.
-     * @param y    The y-coordinate where the explosion should appear on the screen.
-     * @param root The {@link Group} to which the explosion will be added.
-     */
-    public ExplosionEffectManager(double x, double y, Group root) {
-        super(new Image(Objects.requireNonNull(ExplosionEffectManager.class.getResource(IMAGE_LOCATION + EXPLOSION_IMAGE_NAME)).toExternalForm()));
-
-        // Set explosion size and position
-        setFitWidth(150);  // Adjust as needed
-        setFitHeight(150);
-        setPreserveRatio(true);
-        setX(x);
-        setY(y);
-
-        // Add explosion to root and bring to front
-        root.getChildren().add(this);
-        this.toFront();
-        System.out.println("ExplosionEffectManager created at x=" + x + ", y=" + y);
-
-        // Schedule the removal of the explosion after the specified duration
-        Timeline timeline = new Timeline(
-                new KeyFrame(Duration.millis(EXPLOSION_DURATION), e -> {
-                    root.getChildren().remove(this);
-                    System.out.println("ExplosionEffectManager removed.");
-                })
-        );
-        timeline.setCycleCount(1);
-        timeline.play();
+     * @param root           The {@link Group} to which the explosions will be added.
+     * @param stepsPerSecond The number of times {@link #update()} is called per second of game time.
+     */
+    public ExplosionEffectManager(Group root, int stepsPerSecond) {
+        this(root, IMAGE_LOCATION + EXPLOSION_IMAGE_NAME, 1, EXPLOSION_DURATION, stepsPerSecond);
+    }
+
+    /**
+     * Constructs an {@code ExplosionEffectManager} showing an animated sprite sheet.
+     *
+     * @param root           The {@link Group} to which the explosions will be added.
+     * @param resourcePath   The absolute resource path of the sprite sheet, with its frames side by side from left to right.
+     * @param frameCount     The number of frames in the sprite sheet. Must be positive.
+     * @param durationMillis The time in milliseconds each explosion is displayed for.
+     * @param stepsPerSecond The number of times {@link #update()} is called per second of game time.
+     * @throws IllegalArgumentException if the frame count is non-positive.
+     */
+    public ExplosionEffectManager(Group root, String resourcePath, int frameCount, double durationMillis, int stepsPerSecond) {
+        if (frameCount <= 0) {
+            throw new IllegalArgumentException("Frame count must be positive.");
+        }
+        this.root = root;
+        this.frameCount = frameCount;
+        this.durationSteps = Math.max(1, (int) Math.round(durationMillis * stepsPerSecond / 1000));
+
+        this.image = HeadlessMode.isEnabled() ? null : TextureAtlas.getInstance().getImage(resourcePath);
+        this.sheet = HeadlessMode.isEnabled() ? null : TextureAtlas.getInstance().getRegion(resourcePath);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            ImageView sprite = new ImageView(image);
+            sprite.setViewport(sheet);
+            sprite.setFitWidth(EXPLOSION_SIZE);
+            sprite.setFitHeight(EXPLOSION_SIZE);
+            sprite.setPreserveRatio(true);
+            sprite.setVisible(false);
+            sprites[i] = sprite;
+            ages[i] = -1;
+        }
+        layer.getChildren().addAll(sprites);
+        layer.setMouseTransparent(true);
+    }
+
+    /**
+     * Shows an explosion at the specified coordinates.
+     *
+     * @param x The x-coordinate where the explosion should appear on the screen.
+     * @param y The y-coordinate where the explosion should appear on the screen.
+     */
+    public void spawn(double x, double y) {
+        ImageView sprite = sprites[nextSprite];
+        sprite.setX(x);
+        sprite.setY(y);
+        sprite.setVisible(true);
+        ages[nextSprite] = 0;
+        showFrame(nextSprite);
+        nextSprite = (nextSprite + 1) % POOL_SIZE;
+        bringLayerToFront();
+    }
+
+    /**
+     * Advances all explosions by one simulation step, moving on to the next sprite sheet frame when it is due
+     * and hiding the explosions whose time is up.
+     */
+    public void update() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (ages[i] < 0) {
+                continue;
+            }
+            ages[i]++;
+            if (ages[i] >= durationSteps) {
+                ages[i] = -1;
+                sprites[i].setVisible(false);
+            } else {
+                showFrame(i);
+            }
+        }
+    }
+
+    /**
+     * Hides all explosions.
+     */
+    public void clear() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            ages[i] = -1;
+            sprites[i].setVisible(false);
+        }
+    }
+
+    /**
+     * Returns the number of explosions currently displayed.
+     *
+     * @return The number of active explosions.
+     */
+    public int getActiveCount() {
+        int active = 0;
+        for (int age : ages) {
+            if (age >= 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the group holding the explosion sprites.
+     *
+     * @return The explosion layer.
+     */
+    public Group getLayer() {
+        return layer;
+    }
+
+    /**
+     * Shows the sprite sheet frame matching the age of a sprite.
+     *
+     * @param index The index of the sprite.
+     */
+    private void showFrame(int index) {
+        if (frameCount == 1 || image == null) {
+            return; // A single frame keeps the viewport of the whole sheet
+        }
+        if (frames == null) {
+            if (sheet != null) {
+                frames = sliceFrames(sheet, frameCount);
+            } else if (image.getWidth() > 0) { // Otherwise still being preloaded in the background
+                frames = sliceFrames(new Rectangle2D(0, 0, image.getWidth(), image.getHeight()), frameCount);
+            } else {
+                return;
+            }
+        }
+        int frame = Math.min(frameCount - 1, ages[index] * frameCount / durationSteps);
+        sprites[index].setViewport(frames[frame]);
+    }
+
+    /**
+     * Attaches the explosion layer to the root group if needed and moves it above all other nodes.
+     */
+    private void bringLayerToFront() {
+        int last = root.getChildren().size() - 1;
+        if (last < 0 || root.getChildren().get(last) != layer) {
+            root.getChildren().remove(layer);
+            root.getChildren().add(layer);
+        }
+    }
+
+    /**
+     * Computes the source rectangles of the frames of a horizontal sprite sheet.
+     *
+     * @param sheet      The rectangle of the sprite sheet within its image.
+     * @param frameCount The number of frames in the sprite sheet.
+     * @return The source rectangle of each frame, from left to right.
+     */
+    private static Rectangle2D[] sliceFrames(Rectangle2D sheet, int frameCount) {
+        double frameWidth = sheet.getWidth() / frameCount;
+        Rectangle2D[] frames = new Rectangle2D[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = new Rectangle2D(sheet.getMinX() + i * frameWidth, sheet.getMinY(), frameWidth, sheet.getHeight());
+        }
+        return frames;
     }
 }
@@ -1,12 +1,10 @@
 package com.example.demo.manager;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.actors.projectile.BossProjectile;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * The {@code FirePatternManager} manages the firing patterns for bosses, effectively implementing a variation of the Strategy pattern,
@@ -37,15 +35,23 @@ public class FirePatternManager {
      */
     private final double projectileYPositionOffset;
 
+    /**
+     * Source of randomness for choosing the firing pattern.
+     */
+    private final GameRandom random;
+
     /**
      * Constructs a new {@code FirePatternManager} with a specified offset for projectile Y positioning.
      * This manager is responsible for determining the firing patterns of projectiles based on the boss's
-     * current position and the chosen firing strategy (horizontal, vertical, or diagonal).
+     * current position and the chosen firing strategy (horizontal, vertical, or diagonal), which it chooses
+     * with the given generator.
      *
      * @param projectileYPositionOffset The offset added to the Y position of the boss when creating projectiles.
+     * @param random                    The source of randomness for choosing the firing pattern.
      */
-    public FirePatternManager(double projectileYPositionOffset) {
+    public FirePatternManager(double projectileYPositionOffset, GameRandom random) {
         this.projectileYPositionOffset = projectileYPositionOffset;
+        this.random = random;
     }
 
     /**
@@ -75,7 +81,7 @@ public class FirePatternManager {
      * @return The selected fire pattern.
      */
     private int selectFirePattern() {
-        return new Random().nextInt(3); // 3 patterns: horizontal, vertical, diagonal
+        return random.nextInt(3); // 3 patterns: horizontal, vertical, diagonal
     }
 
     /**
@@ -87,9 +93,9 @@ public class FirePatternManager {
      */
     private List<ActiveActorDestructible> fireHorizontalPattern(double x, double y) {
         List<ActiveActorDestructible> projectiles = new ArrayList<>();
-        projectiles.add(new BossProjectile(x, y - projectileYPositionOffset, -5, 0));
-        projectiles.add(new BossProjectile(x, y, -5, 0));
-        projectiles.add(new BossProjectile(x, y + projectileYPositionOffset, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y - projectileYPositionOffset, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y + projectileYPositionOffset, -5, 0));
         return projectiles;
     }
 
@@ -102,9 +108,9 @@ public class FirePatternManager {
      */
     private List<ActiveActorDestructible> fireVerticalPattern(double x, double y) {
         List<ActiveActorDestructible> projectiles = new ArrayList<>();
-        projectiles.add(new BossProjectile(x, y - projectileYPositionOffset, -5, 0));
-        projectiles.add(new BossProjectile(x, y, -5, 0));
-        projectiles.add(new BossProjectile(x, y + projectileYPositionOffset, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y - projectileYPositionOffset, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y, -5, 0));
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y + projectileYPositionOffset, -5, 0));
         return projectiles;
     }
 
@@ -117,9 +123,9 @@ public class FirePatternManager {
      */
     private List<ActiveActorDestructible> fireDiagonalPattern(double x, double y) {
         List<ActiveActorDestructible> projectiles = new ArrayList<>();
-        projectiles.add(new BossProjectile(x, y - projectileYPositionOffset, -5, -5)); // Upper left
-        projectiles.add(new BossProjectile(x, y, -5, 0)); // Horizontal left
-        projectiles.add(new BossProjectile(x, y + projectileYPositionOffset, -5, 5)); // Lower left
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y - projectileYPositionOffset, -5, -5)); // Upper left
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y, -5, 0)); // Horizontal left
+        projectiles.add(ProjectilePool.getInstance().acquireBossProjectile(x, y + projectileYPositionOffset, -5, 5)); // Lower left
         return projectiles;
     }
 }
\ No newline at end of file
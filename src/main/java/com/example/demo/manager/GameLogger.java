@@ -0,0 +1,250 @@
+package com.example.demo.manager;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code GameLogger} class is the lightweight logging facility of the game, replacing direct writes to
+ * {@link System#out} and {@link System#err}, which are synchronized and block on the console.
+ * <p>
+ * Each class gets a named logger from {@link #getLogger(Class)}. A message is logged only if its {@link Level}
+ * is at least the global level, which is read from the {@code skybattle.logLevel} system property and defaults
+ * to {@link Level#INFO}. Disabled messages cost a single comparison: constant messages can be passed as they are,
+ * and messages that have to be built can be passed as a {@link Supplier}, which is only called when the message
+ * is enabled. Enabled messages are written by an {@link AsyncLogAppender} on a background thread.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/GameLogger.java">GameLogger.java</a>
+ */
+public class GameLogger {
+
+    /**
+     * The importance of a message, from the most detailed to the most severe.
+     */
+    public enum Level {
+        /**
+         * Detailed events of every simulation step.
+         */
+        TRACE,
+
+        /**
+         * Events useful when debugging, such as actors leaving the screen.
+         */
+        DEBUG,
+
+        /**
+         * Notable events of the game, such as a level starting.
+         */
+        INFO,
+
+        /**
+         * Unexpected situations the game recovers from.
+         */
+        WARN,
+
+        /**
+         * Failures, such as a missing resource.
+         */
+        ERROR,
+
+        /**
+         * Used as the global level only, to disable all messages.
+         */
+        OFF
+    }
+
+    /**
+     * System property setting the global level, for example {@code -Dskybattle.logLevel=DEBUG}.
+     */
+    public static final String LEVEL_PROPERTY = "skybattle.logLevel";
+
+    /**
+     * Minimum level of the messages that are logged. Volatile so that a change applies to all threads.
+     */
+    private static volatile Level level = readLevelProperty();
+
+    /**
+     * The appender writing the enabled messages.
+     */
+    private static volatile AsyncLogAppender appender = new AsyncLogAppender(System.err, AsyncLogAppender.DEFAULT_CAPACITY);
+
+    /**
+     * The name of the logger, written with every message.
+     */
+    private final String name;
+
+    /**
+     * Constructs a {@code GameLogger} with the given name.
+     *
+     * @param name The name of the logger.
+     */
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a logger named after a class. Loggers should be kept in a static field of the class.
+     *
+     * @param type The class logging the messages.
+     * @return A logger named with the simple name of the class.
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return new GameLogger(type.getSimpleName());
+    }
+
+    /**
+     * Sets the minimum level of the messages that are logged.
+     *
+     * @param newLevel The global level, or {@link Level#OFF} to disable logging.
+     */
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * Returns the minimum level of the messages that are logged.
+     *
+     * @return The global level.
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Replaces the appender writing the messages, for example to write them to a file.
+     *
+     * @param newAppender The new appender.
+     * @return The previous appender, which is not shut down.
+     */
+    public static AsyncLogAppender setAppender(AsyncLogAppender newAppender) {
+        AsyncLogAppender previous = appender;
+        appender = newAppender;
+        return previous;
+    }
+
+    /**
+     * Waits until the messages logged so far have been written, for example before the game exits.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return {@code true} if all messages were written in time.
+     */
+    public static boolean flush(long timeoutMillis) {
+        return appender.flush(timeoutMillis);
+    }
+
+    /**
+     * Checks whether messages of a level are logged.
+     *
+     * @param messageLevel The level of the message.
+     * @return {@code true} if messages of that level are logged.
+     */
+    public boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    /**
+     * Logs a message.
+     *
+     * @param messageLevel The level of the message.
+     * @param message      The message.
+     * @param throwable    The exception to log with the message, or {@code null}.
+     */
+    public void log(Level messageLevel, String message, Throwable throwable) {
+        if (isEnabled(messageLevel)) {
+            appender.append(messageLevel, name, message, throwable);
+        }
+    }
+
+    /**
+     * Logs a message built only if the level is enabled.
+     *
+     * @param messageLevel The level of the message.
+     * @param message      Builds the message.
+     */
+    public void log(Level messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            appender.append(messageLevel, name, message.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message at {@link Level#TRACE}.
+     *
+     * @param message Builds the message.
+     */
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message);
+    }
+
+    /**
+     * Logs a message at {@link Level#DEBUG}.
+     *
+     * @param message The message.
+     */
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    /**
+     * Logs a message at {@link Level#DEBUG}.
+     *
+     * @param message Builds the message.
+     */
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Logs a message at {@link Level#INFO}.
+     *
+     * @param message The message.
+     */
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    /**
+     * Logs a message at {@link Level#WARN}.
+     *
+     * @param message The message.
+     */
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    /**
+     * Logs a message at {@link Level#ERROR}.
+     *
+     * @param message The message.
+     */
+    public void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    /**
+     * Logs a message at {@link Level#ERROR} with the exception that caused it.
+     *
+     * @param message   The message.
+     * @param throwable The exception.
+     */
+    public void error(String message, Throwable throwable) {
+        log(Level.ERROR, message, throwable);
+    }
+
+    /**
+     * Reads the global level from the {@value #LEVEL_PROPERTY} system property.
+     *
+     * @return The level named by the property, or {@link Level#INFO} if it is not set or not a level.
+     */
+    private static Level readLevelProperty() {
+        String property = System.getProperty(LEVEL_PROPERTY);
+        if (property != null) {
+            try {
+                return Level.valueOf(property.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Fall back to the default level
+            }
+        }
+        return Level.INFO;
+    }
+}
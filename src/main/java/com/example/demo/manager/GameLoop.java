@@ -0,0 +1,241 @@
+package com.example.demo.manager;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@code GameLoop} class drives the game simulation with a fixed time step that is decoupled from
+ * the display refresh rate. It is pulsed by an {@link AnimationTimer}, accumulates the real time elapsed
+ * between pulses and runs as many fixed simulation steps as fit into the accumulated time, so movement
+ * speeds stay the same whether the screen refreshes at 60 Hz, 144 Hz or stalls for a few frames.
+ * <p>
+ * After the simulation steps of a pulse the render callback is invoked with the interpolation factor
+ * between the previous and the current simulation state, allowing views to draw smoothly between steps.
+ * The number of catch-up steps per pulse is capped so that a long stall cannot trigger a spiral of death;
+ * time beyond the cap is dropped and the simulation slows down instead.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/GameLoop.java">GameLoop.java</a>
+ */
+public class GameLoop {
+
+    /**
+     * Default maximum number of simulation steps executed within a single pulse.
+     */
+    public static final int DEFAULT_MAX_STEPS_PER_PULSE = 5;
+
+    /**
+     * Upper limit for the time taken into account between two pulses, in nanoseconds.
+     * Longer gaps, such as a window being dragged, are treated as this amount of time.
+     */
+    private static final long MAX_PULSE_GAP_NANOS = 250_000_000L;
+
+    /**
+     * Number of nanoseconds in one second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Duration of one simulation step in nanoseconds.
+     */
+    private final long stepNanos;
+
+    /**
+     * Maximum number of simulation steps executed within a single pulse.
+     */
+    private final int maxStepsPerPulse;
+
+    /**
+     * Callback advancing the simulation by exactly one step.
+     */
+    private final Runnable update;
+
+    /**
+     * Callback rendering the current state, receiving the interpolation factor in the range [0, 1).
+     */
+    private final DoubleConsumer render;
+
+    /**
+     * Timer delivering the display pulses. Created on first start so that the loop can be built and
+     * stepped manually without the JavaFX toolkit.
+     */
+    private AnimationTimer timer;
+
+    /**
+     * Current status of the loop, mirroring the states of a JavaFX {@link Animation}.
+     */
+    private Animation.Status status;
+
+    /**
+     * Timestamp of the previous pulse in nanoseconds, or {@code -1} if the next pulse is the first one.
+     */
+    private long lastPulseNanos;
+
+    /**
+     * Real time accumulated but not yet consumed by simulation steps, in nanoseconds.
+     */
+    private long accumulatorNanos;
+
+    /**
+     * Total number of simulation steps executed by this loop.
+     */
+    private long tickCount;
+
+    /**
+     * Constructs a {@code GameLoop} running the given number of simulation steps per second.
+     *
+     * @param stepsPerSecond   The fixed simulation rate. Must be positive.
+     * @param maxStepsPerPulse The maximum number of catch-up steps run in a single pulse. Must be positive.
+     * @param update           The callback advancing the simulation by one step.
+     * @param render           The callback rendering the state with the interpolation factor.
+     * @throws IllegalArgumentException if the rate or the step cap is non-positive.
+     */
+    public GameLoop(int stepsPerSecond, int maxStepsPerPulse, Runnable update, DoubleConsumer render) {
+        if (stepsPerSecond <= 0) {
+            throw new IllegalArgumentException("Simulation rate must be positive.");
+        }
+        if (maxStepsPerPulse <= 0) {
+            throw new IllegalArgumentException("Maximum steps per pulse must be positive.");
+        }
+        this.stepNanos = NANOS_PER_SECOND / stepsPerSecond;
+        this.maxStepsPerPulse = maxStepsPerPulse;
+        this.update = update;
+        this.render = render;
+        this.status = Animation.Status.STOPPED;
+        this.lastPulseNanos = -1;
+    }
+
+    /**
+     * Starts or resumes the loop. The time spent stopped or paused is not simulated afterwards.
+     */
+    public void play() {
+        if (status == Animation.Status.RUNNING) {
+            return;
+        }
+        lastPulseNanos = -1;
+        status = Animation.Status.RUNNING;
+        if (HeadlessMode.isEnabled()) {
+            return; // Stepped manually, there are no display pulses without the toolkit
+        }
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    pulse(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Pauses a running loop, keeping the accumulated time for when it resumes.
+     */
+    public void pause() {
+        if (status != Animation.Status.RUNNING) {
+            return;
+        }
+        status = Animation.Status.PAUSED;
+        stopTimer();
+    }
+
+    /**
+     * Stops the loop and discards the accumulated time.
+     */
+    public void stop() {
+        status = Animation.Status.STOPPED;
+        accumulatorNanos = 0;
+        stopTimer();
+    }
+
+    /**
+     * Handles one display pulse: accumulates the elapsed time, runs the due simulation steps and renders.
+     * The loop must be running for the pulse to have any effect, and a step that stops the loop ends the pulse
+     * without rendering.
+     *
+     * @param now The timestamp of the pulse in nanoseconds.
+     */
+    public void pulse(long now) {
+        if (status != Animation.Status.RUNNING) {
+            return;
+        }
+        if (lastPulseNanos < 0) {
+            lastPulseNanos = now;
+            render.accept(getAlpha());
+            return;
+        }
+        long elapsed = Math.min(now - lastPulseNanos, MAX_PULSE_GAP_NANOS);
+        lastPulseNanos = now;
+        accumulatorNanos += Math.max(elapsed, 0);
+
+        int steps = 0;
+        while (accumulatorNanos >= stepNanos && steps < maxStepsPerPulse && status == Animation.Status.RUNNING) {
+            step();
+            if (status == Animation.Status.STOPPED) {
+                return; // The step ended the level; stop() discarded the accumulated time and nothing is left to render
+            }
+            accumulatorNanos -= stepNanos;
+            steps++;
+        }
+        if (accumulatorNanos >= stepNanos) {
+            // Drop the backlog beyond the catch-up cap instead of trying to simulate it later
+            accumulatorNanos %= stepNanos;
+        }
+        render.accept(getAlpha());
+    }
+
+    /**
+     * Advances the simulation by exactly one fixed step, regardless of the loop status.
+     */
+    public void step() {
+        update.run();
+        tickCount++;
+    }
+
+    /**
+     * Returns the interpolation factor between the previous and the current simulation step.
+     *
+     * @return The fraction of a step accumulated but not yet simulated, in the range [0, 1).
+     */
+    public double getAlpha() {
+        return (double) accumulatorNanos / stepNanos;
+    }
+
+    /**
+     * Returns the duration of one simulation step.
+     *
+     * @return The step duration in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Returns the total number of simulation steps executed.
+     *
+     * @return The number of steps.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the current status of the loop.
+     *
+     * @return {@link Animation.Status#RUNNING}, {@link Animation.Status#PAUSED} or {@link Animation.Status#STOPPED}.
+     */
+    public Animation.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Stops the pulse timer if it has been created.
+     */
+    private void stopTimer() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+}
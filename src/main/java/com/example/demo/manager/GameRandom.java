@@ -0,0 +1,184 @@
+package com.example.demo.manager;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code GameRandom} class is the single source of randomness for the game logic, such as enemy spawns,
+ * fire decisions, boss movement and shield activation.
+ * <p>
+ * It wraps a {@link SplittableRandom}, which is fast, allocation-free per call and free of the contention of
+ * {@link Math#random()}. The shared instance returned by {@link #getInstance()} only holds the seed of the run and
+ * refuses to draw numbers itself. Every level gets a generator of its own from {@link #forLevel(String)}, seeded from
+ * the run seed and the level name, and hands it to its actors and managers through their constructors. A whole run,
+ * or any single level of it, is therefore reproducible from one seed, and a level built in the background never draws
+ * from the generator of the level being played. Components that want an isolated stream, for example in tests, can
+ * be given their own instance created with {@link #GameRandom(long)}.
+ * </p>
+ * <p>
+ * An instance is not synchronized; it is meant to be used by one level at a time, from the thread running it.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/GameRandom.java">GameRandom.java</a>
+ */
+public class GameRandom {
+
+    /**
+     * The single shared instance of {@code GameRandom} used by the game.
+     */
+    private static GameRandom instance;
+
+    /**
+     * The seed of the current run, from which the seed of every level is derived. Volatile so that a level built
+     * on another thread derives its seed from the current run.
+     */
+    private volatile long runSeed;
+
+    /**
+     * The generator the random numbers are drawn from, or {@code null} for the shared instance.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a {@code GameRandom} with the given run seed, drawing from a stream started from the same seed.
+     *
+     * @param seed The run seed.
+     */
+    public GameRandom(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a {@code GameRandom} with the given run seed and generator.
+     *
+     * @param runSeed The run seed.
+     * @param random  The generator the numbers are drawn from, or {@code null} if the instance only holds the seed.
+     */
+    private GameRandom(long runSeed, SplittableRandom random) {
+        this.runSeed = runSeed;
+        this.random = random;
+    }
+
+    /**
+     * Provides access to the shared instance of {@code GameRandom}, seeded from the clock until a run seed is set.
+     * The shared instance only holds the run seed; levels draw from the generators it creates with
+     * {@link #forLevel(String)}.
+     *
+     * @return The shared instance of {@code GameRandom}.
+     */
+    public static GameRandom getInstance() {
+        if (instance == null) {
+            synchronized (GameRandom.class) {
+                if (instance == null) {
+                    instance = new GameRandom(System.nanoTime(), null);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the seed of the run, from which the generators of the levels created afterwards are derived. The numbers
+     * drawn from this instance itself are not affected.
+     *
+     * @param seed The run seed.
+     */
+    public void setRunSeed(long seed) {
+        runSeed = seed;
+    }
+
+    /**
+     * Returns the seed of the current run.
+     *
+     * @return The run seed.
+     */
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    /**
+     * Creates the generator of a level, seeded from the run seed and the level name. A level therefore plays out
+     * the same whatever happened in the levels before it, and the generator of this instance is left untouched.
+     *
+     * @param levelName The name identifying the level, for example its class name.
+     * @return A new {@code GameRandom} with the same run seed and a stream of its own.
+     */
+    public GameRandom forLevel(String levelName) {
+        long seed = runSeed;
+        return new GameRandom(seed, new SplittableRandom(seed ^ mix(levelName.hashCode())));
+    }
+
+    /**
+     * Returns a random number between 0.0 (inclusive) and 1.0 (exclusive).
+     *
+     * @return The next random double.
+     * @throws IllegalStateException if this is the shared instance.
+     */
+    public double nextDouble() {
+        return generator().nextDouble();
+    }
+
+    /**
+     * Returns a random number between 0 (inclusive) and the given bound (exclusive).
+     *
+     * @param bound The upper bound. Must be positive.
+     * @return The next random int.
+     * @throws IllegalStateException if this is the shared instance.
+     */
+    public int nextInt(int bound) {
+        return generator().nextInt(bound);
+    }
+
+    /**
+     * Returns {@code true} with the given probability.
+     *
+     * @param probability The probability, between 0.0 and 1.0.
+     * @return {@code true} if the event happens in this call.
+     * @throws IllegalStateException if this is the shared instance.
+     */
+    public boolean chance(double probability) {
+        return generator().nextDouble() < probability;
+    }
+
+    /**
+     * Shuffles a list in place, replacing {@link java.util.Collections#shuffle(List)} with this generator.
+     *
+     * @param list The list to shuffle.
+     * @param <T>  The element type.
+     * @throws IllegalStateException if this is the shared instance.
+     */
+    public <T> void shuffle(List<T> list) {
+        SplittableRandom stream = generator();
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = stream.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Returns the generator the numbers are drawn from.
+     *
+     * @return The generator of this instance.
+     * @throws IllegalStateException if this is the shared instance, which only holds the run seed.
+     */
+    private SplittableRandom generator() {
+        if (random == null) {
+            throw new IllegalStateException("The shared GameRandom only holds the run seed; draw from a level's generator.");
+        }
+        return random;
+    }
+
+    /**
+     * Spreads the bits of a hash code over a long, so that similar level names give unrelated seeds.
+     *
+     * @param value The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
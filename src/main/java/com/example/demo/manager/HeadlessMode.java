@@ -0,0 +1,52 @@
+package com.example.demo.manager;
+
+/**
+ * The {@code HeadlessMode} class holds the global switch that lets the game logic run without the
+ * JavaFX toolkit, for example on a server core for balance testing and regression runs.
+ * <p>
+ * When headless mode is enabled, actors are sized from their sprite metadata instead of decoding their
+ * images, levels do not build a {@link javafx.scene.Scene}, the game loop is stepped manually instead of
+ * by display pulses, and sound, explosion and other purely visual side effects are skipped. The actors
+ * themselves stay regular scene graph nodes, which can be created and moved without the toolkit.
+ * <p>
+ * The mode must be set before any level or actor is created and should not change while a level is running.
+ * Switching it discards the idle projectiles of the {@link ProjectilePool}, which were built for the other mode.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/HeadlessMode.java">HeadlessMode.java</a>
+ */
+public final class HeadlessMode {
+
+    /**
+     * Whether headless mode is enabled. Volatile so that a level prepared on another thread sees the mode.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private HeadlessMode() {
+    }
+
+    /**
+     * Enables or disables headless mode. When the mode changes, the {@link ProjectilePool} is cleared, so that
+     * projectiles sized without their images are never shown and rendered projectiles never run headless.
+     *
+     * @param headless {@code true} to run without the JavaFX toolkit, {@code false} for normal rendering.
+     */
+    public static void setEnabled(boolean headless) {
+        if (enabled != headless) {
+            ProjectilePool.getInstance().clear();
+        }
+        enabled = headless;
+    }
+
+    /**
+     * Checks whether headless mode is enabled.
+     *
+     * @return {@code true} if the game runs without the JavaFX toolkit, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.demo.manager;
 
-import javafx.application.Platform;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.HBox;
 
@@ -30,9 +29,31 @@ public class HealthBarManager {
 
     /**
      * The health bar UI component that visually represents health as a progress bar.
+     * It is {@code null} in {@link HeadlessMode}, where controls cannot be created.
      */
     private final ProgressBar healthBar;
 
+    /**
+     * Latest health percentage requested for the health bar, applied by {@link #applyProgress}.
+     */
+    private volatile double targetProgress = 1.0;
+
+    /**
+     * Latest visibility requested for the health bar, applied by {@link #applyVisibility}.
+     */
+    private volatile boolean targetVisible;
+
+    /**
+     * Update setting the progress of the health bar to the latest requested value, submitted to the {@link UiDispatcher}.
+     * It is {@code null} in {@link HeadlessMode}, like the health bar.
+     */
+    private final Runnable applyProgress;
+
+    /**
+     * Update showing or hiding the health bar as last requested, submitted to the {@link UiDispatcher}.
+     */
+    private final Runnable applyVisibility;
+
     /**
      * Constructs a {@code HealthBarManager} with the specified initial position.
      *
@@ -44,46 +65,61 @@ public class HealthBarManager {
         container.setLayoutX(xPosition);
         container.setLayoutY(yPosition);
         container.setVisible(false); // Initially hide the health bar
+        applyVisibility = () -> container.setVisible(targetVisible);
 
+        if (HeadlessMode.isEnabled()) {
+            healthBar = null;
+            applyProgress = null;
+            return;
+        }
         healthBar = new ProgressBar(1.0); // Initialize with full health
         healthBar.setPrefWidth(HEALTH_BAR_WIDTH);
         healthBar.setPrefHeight(HEALTH_BAR_HEIGHT);
         healthBar.setStyle("-fx-accent: red;"); // Set the health bar color
 
         container.getChildren().add(healthBar);
+        applyProgress = () -> healthBar.setProgress(targetProgress);
     }
 
     /**
-     * Updates the health bar's progress based on the current health percentage.
+     * Updates the health bar's progress based on the current health percentage, and hides the bar once it is empty.
      *
      * @param healthPercentage The current health percentage (value between 0.0 and 1.0).
      */
     public void updateHealthBar(double healthPercentage) {
-        Platform.runLater(() -> {
-            healthBar.setProgress(Math.max(0.0, Math.min(1.0, healthPercentage)));
-            if (healthPercentage <= 0.0) {
-                hideHealthBar();
-            } else {
-                showHealthBar();
-            }
-        });
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        targetProgress = Math.max(0.0, Math.min(1.0, healthPercentage));
+        UiDispatcher.getInstance().submit(applyProgress);
+        if (healthPercentage <= 0.0) {
+            hideHealthBar();
+        } else {
+            showHealthBar();
+        }
     }
 
     /**
-     * Shows the health bar by making the container visible and bringing it to the front.
+     * Shows the health bar by making the container visible. It stays in front of the actors because it is
+     * added to the HUD layer of the scene.
      */
     public void showHealthBar() {
-        Platform.runLater(() -> {
-            container.setVisible(true);
-            container.toFront(); // Ensure the health bar is in front of other elements
-        });
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        targetVisible = true;
+        UiDispatcher.getInstance().submit(applyVisibility);
     }
 
     /**
      * Hides the health bar by setting the container's visibility to false.
      */
     public void hideHealthBar() {
-        Platform.runLater(() -> container.setVisible(false));
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        targetVisible = false;
+        UiDispatcher.getInstance().submit(applyVisibility);
     }
 
     /**
@@ -0,0 +1,145 @@
+package com.example.demo.manager;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code ImageCache} class is a singleton that shares decoded images between all actors, views and menus.
+ * <p>
+ * Every image is decoded once per resource path and the same {@link Image} instance is handed to every
+ * {@link javafx.scene.image.ImageView} showing it, so spawning an actor no longer decodes its sprite on the
+ * JavaFX application thread. Images can be preloaded in the background before they are first needed, and
+ * evicted explicitly once they are no longer used, for example a background of a level that has been left.
+ * </p>
+ * <p>
+ * An image that failed to load is never handed out from the cache: a failed background load removes itself, and
+ * {@link #getImage(String)} decodes an image again if the cached one has an error. A preloaded image that is still
+ * loading is handed out as it is, with a width and height of 0 until it is done; an {@code ImageView} shows it as
+ * soon as it has loaded, and code that needs its size should check {@link #isLoaded(String)} first.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/ImageCache.java">ImageCache.java</a>
+ */
+public class ImageCache {
+
+    /**
+     * The single instance of {@code ImageCache}.
+     */
+    private static ImageCache instance;
+
+    /**
+     * Decoded images keyed by their resource path.
+     */
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * Provides access to the single instance of {@code ImageCache}.
+     *
+     * @return The single instance of {@code ImageCache}.
+     */
+    public static ImageCache getInstance() {
+        if (instance == null) {
+            synchronized (ImageCache.class) {
+                if (instance == null) {
+                    instance = new ImageCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the image at the given resource path, decoding it on first use or if the cached image failed to load.
+     * An image preloaded in the background may still be loading, see {@link #isLoaded(String)}.
+     *
+     * @param resourcePath The absolute resource path of the image, for example {@code /com/example/demo/images/userplane.png}.
+     * @return The shared {@link Image}.
+     * @throws NullPointerException if no resource exists at the given path.
+     */
+    public Image getImage(String resourcePath) {
+        return images.compute(resourcePath,
+                (path, cached) -> cached == null || cached.isError() ? new Image(toExternalForm(path)) : cached);
+    }
+
+    /**
+     * Starts decoding the images at the given resource paths in the background, so that they are ready
+     * by the time they are first shown. Images that are already cached are left untouched.
+     *
+     * @param resourcePaths The absolute resource paths of the images.
+     * @throws NullPointerException if no resource exists at one of the given paths.
+     */
+    public void preload(String... resourcePaths) {
+        for (String resourcePath : resourcePaths) {
+            images.computeIfAbsent(resourcePath, path -> {
+                Image image = new Image(toExternalForm(path), true);
+                image.errorProperty().addListener((observable, wasError, isError) -> {
+                    if (isError) {
+                        images.remove(path, image); // Leave a failed load to be retried by the next request
+                    }
+                });
+                return image;
+            });
+        }
+    }
+
+    /**
+     * Removes the image at the given resource path from the cache. Views still showing the image keep it
+     * until they are discarded; the next request decodes it again.
+     *
+     * @param resourcePath The absolute resource path of the image.
+     */
+    public void evict(String resourcePath) {
+        images.remove(resourcePath);
+    }
+
+    /**
+     * Removes all images from the cache.
+     */
+    public void clear() {
+        images.clear();
+    }
+
+    /**
+     * Checks whether the image at the given resource path is cached.
+     *
+     * @param resourcePath The absolute resource path of the image.
+     * @return {@code true} if the image is cached, {@code false} otherwise.
+     */
+    public boolean isCached(String resourcePath) {
+        return images.containsKey(resourcePath);
+    }
+
+    /**
+     * Checks whether the image at the given resource path is cached and completely loaded, so that its size is known.
+     *
+     * @param resourcePath The absolute resource path of the image.
+     * @return {@code true} if the image is cached and has loaded without error, {@code false} otherwise.
+     */
+    public boolean isLoaded(String resourcePath) {
+        Image image = images.get(resourcePath);
+        return image != null && image.getProgress() >= 1 && !image.isError();
+    }
+
+    /**
+     * Resolves a resource path to the URL an {@link Image} is loaded from.
+     *
+     * @param resourcePath The absolute resource path of the image.
+     * @return The external form of the resource URL.
+     * @throws NullPointerException if no resource exists at the given path.
+     */
+    private static String toExternalForm(String resourcePath) {
+        URL resource = ImageCache.class.getResource(resourcePath);
+        return Objects.requireNonNull(resource, "Image not found at " + resourcePath).toExternalForm();
+    }
+}
@@ -38,6 +38,11 @@ public class InputHandler {
      */
     private final Runnable pauseGameCallback;
 
+    /**
+     * A callback that shows or hides the performance overlay, or {@code null} if the level has none.
+     */
+    private final Runnable togglePerformanceOverlayCallback;
+
     /**
      * Tracks the state of keyboard keys to manage game inputs such as movement and actions effectively.
      */
@@ -58,10 +63,25 @@ public class InputHandler {
      * @param pauseGameCallback A callback to execute when the game needs to be paused.
      */
     public InputHandler(UserPlane userPlane, Group root, List<ActiveActorDestructible> userProjectiles, Runnable pauseGameCallback) {
+        this(userPlane, root, userProjectiles, pauseGameCallback, null);
+    }
+
+    /**
+     * Constructs an {@code InputHandler} that also shows or hides the performance overlay when {@code F3} is pressed.
+     *
+     * @param userPlane The user-controlled plane object.
+     * @param root The root group of the JavaFX scene graph where actors are added.
+     * @param userProjectiles A list of projectiles that the user has fired.
+     * @param pauseGameCallback A callback to execute when the game needs to be paused.
+     * @param togglePerformanceOverlayCallback A callback to execute when the performance overlay is toggled.
+     */
+    public InputHandler(UserPlane userPlane, Group root, List<ActiveActorDestructible> userProjectiles,
+                        Runnable pauseGameCallback, Runnable togglePerformanceOverlayCallback) {
         this.userPlane = userPlane;
         this.root = root;
         this.userProjectiles = userProjectiles;
         this.pauseGameCallback = pauseGameCallback;
+        this.togglePerformanceOverlayCallback = togglePerformanceOverlayCallback;
         this.keyStateTracker = new KeyStateTracker();
         this.projectileFired = false;
     }
@@ -83,6 +103,9 @@ public class InputHandler {
                     userPlane.stopHorizontalMovement();
                 }
             }
+            if (kc == KeyCode.F3 && togglePerformanceOverlayCallback != null) {
+                togglePerformanceOverlayCallback.run();
+            }
             keyStateTracker.keyPressed(kc);
         };
     }
@@ -97,18 +120,20 @@ public class InputHandler {
             KeyCode kc = e.getCode();
             handleStopMovement(kc);
             keyStateTracker.keyReleased(kc);
-            if (kc == KeyCode.SPACE) {
-                projectileFired = false; // Reset projectile fired flag on key release
-            }
         };
     }
 
     /**
-     * Periodically updates the state based on continuous key presses.
+     * Periodically updates the state based on continuous key presses. The keys are read once per call and
+     * passed through the {@link InputRecorder}, so the movement and firing of a simulation step depend only on
+     * the keys held during that step, which lets the step be recorded and replayed.
      */
     public void update() {
-        handleContinuousMovement();
-        if (keyStateTracker.isKeyPressed(KeyCode.SPACE) && !projectileFired) {
+        int keyMask = InputRecorder.getInstance().nextKeyMask(keyStateTracker.getKeyMask());
+        handleContinuousMovement(keyMask);
+        if (!KeyStateTracker.isKeyPressed(keyMask, KeyCode.SPACE)) {
+            projectileFired = false; // Reset projectile fired flag once the key is released
+        } else if (!projectileFired) {
             fireProjectile();
             projectileFired = true; // Set the flag when projectile is fired
         }
@@ -156,18 +181,24 @@ public class InputHandler {
     /**
      * Handles continuous movement based on the current state of pressed keys.
      * This method checks the state of directional keys and applies continuous movement
-     * to the plane as long as those keys are held down.
+     * to the plane as long as those keys are held down, and stops it along an axis when none of its keys is held.
+     *
+     * @param keyMask The keys held during the current simulation step.
      */
-    private void handleContinuousMovement() {
-        if (keyStateTracker.isKeyPressed(KeyCode.UP)) {
+    private void handleContinuousMovement(int keyMask) {
+        if (KeyStateTracker.isKeyPressed(keyMask, KeyCode.UP)) {
             userPlane.moveUp();
-        } else if (keyStateTracker.isKeyPressed(KeyCode.DOWN)) {
+        } else if (KeyStateTracker.isKeyPressed(keyMask, KeyCode.DOWN)) {
             userPlane.moveDown();
+        } else {
+            userPlane.stopVerticalMovement();
         }
-        if (keyStateTracker.isKeyPressed(KeyCode.LEFT)) {
+        if (KeyStateTracker.isKeyPressed(keyMask, KeyCode.LEFT)) {
             userPlane.moveLeft();
-        } else if (keyStateTracker.isKeyPressed(KeyCode.RIGHT)) {
+        } else if (KeyStateTracker.isKeyPressed(keyMask, KeyCode.RIGHT)) {
             userPlane.moveRight();
+        } else {
+            userPlane.stopHorizontalMovement();
         }
     }
 
@@ -0,0 +1,163 @@
+package com.example.demo.manager;
+
+/**
+ * The {@code InputRecorder} class is a singleton that records the input of the game or plays a recording back.
+ * <p>
+ * Every simulation step, the {@link InputHandler} passes the keys the player is holding through
+ * {@link #nextKeyMask(int)}. While recording, the keys are appended to an {@link InputRecording}; while
+ * replaying, they are replaced with the keys of the recording, so the user plane is steered by the recording
+ * alone. Starting a recording or a replay also seeds the {@link GameRandom}, which makes the levels play out
+ * identically, including when replayed by a {@link com.example.demo.level.HeadlessSimulation} at full speed.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/InputRecorder.java">InputRecorder.java</a>
+ */
+public class InputRecorder {
+
+    /**
+     * What the recorder does with the input of each step.
+     */
+    public enum Mode {
+        /**
+         * The input is passed through unchanged.
+         */
+        OFF,
+
+        /**
+         * The input is passed through and recorded.
+         */
+        RECORDING,
+
+        /**
+         * The input is replaced with the input of a recording.
+         */
+        REPLAYING
+    }
+
+    /**
+     * The single instance of {@code InputRecorder}.
+     */
+    private static InputRecorder instance;
+
+    /**
+     * The current mode of the recorder.
+     */
+    private Mode mode = Mode.OFF;
+
+    /**
+     * The recording being written or played, or {@code null} if the recorder is off.
+     */
+    private InputRecording recording;
+
+    /**
+     * Index of the next step to play while replaying.
+     */
+    private int replayStep;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private InputRecorder() {
+    }
+
+    /**
+     * Provides access to the single instance of {@code InputRecorder}.
+     *
+     * @return The single instance of {@code InputRecorder}.
+     */
+    public static InputRecorder getInstance() {
+        if (instance == null) {
+            synchronized (InputRecorder.class) {
+                if (instance == null) {
+                    instance = new InputRecorder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts recording a new run and seeds the {@link GameRandom} with the given seed.
+     * This method should be called before the start level is created.
+     *
+     * @param seed       The run seed.
+     * @param startLevel The fully qualified class name of the level the run starts in.
+     */
+    public void startRecording(long seed, String startLevel) {
+        GameRandom.getInstance().setRunSeed(seed);
+        recording = new InputRecording(seed, startLevel);
+        mode = Mode.RECORDING;
+    }
+
+    /**
+     * Discards the steps recorded so far because the game is started again from the start level, keeping
+     * the seed, so that the recording always holds the latest run. Has no effect unless recording.
+     */
+    public void restartRecording() {
+        if (mode == Mode.RECORDING) {
+            recording.clear();
+        }
+    }
+
+    /**
+     * Starts playing a recording back and seeds the {@link GameRandom} with its seed.
+     * This method should be called before the start level of the recording is created.
+     *
+     * @param recording The recording to play.
+     */
+    public void startReplay(InputRecording recording) {
+        GameRandom.getInstance().setRunSeed(recording.getSeed());
+        this.recording = recording;
+        this.replayStep = 0;
+        mode = Mode.REPLAYING;
+    }
+
+    /**
+     * Stops recording or replaying.
+     *
+     * @return The recording that was written or played, or {@code null} if the recorder was off.
+     */
+    public InputRecording stop() {
+        InputRecording stopped = recording;
+        recording = null;
+        mode = Mode.OFF;
+        return stopped;
+    }
+
+    /**
+     * Returns the keys to use for the next simulation step.
+     *
+     * @param liveKeyMask The keys the player is holding, as returned by {@link KeyStateTracker#getKeyMask()}.
+     * @return The live keys, or the recorded keys while replaying. Past the end of a recording no keys are pressed.
+     */
+    public int nextKeyMask(int liveKeyMask) {
+        switch (mode) {
+            case RECORDING:
+                recording.add(liveKeyMask);
+                return liveKeyMask;
+            case REPLAYING:
+                return replayStep < recording.size() ? recording.getKeyMask(replayStep++) : 0;
+            default:
+                return liveKeyMask;
+        }
+    }
+
+    /**
+     * Returns the current mode of the recorder.
+     *
+     * @return The current {@link Mode}.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the recording being written or played.
+     *
+     * @return The current recording, or {@code null} if the recorder is off.
+     */
+    public InputRecording getRecording() {
+        return recording;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.demo.manager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The {@code InputRecording} class holds the input of a game run: the seed of the {@link GameRandom}, the level
+ * the run started in, and the key mask of every simulation step as returned by {@link KeyStateTracker#getKeyMask()}.
+ * Together they are enough to play the run again exactly as it happened.
+ * <p>
+ * Recordings can be saved to and loaded from a compact binary file, in which consecutive steps with the same
+ * keys are stored as a single run.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/InputRecording.java">InputRecording.java</a>
+ */
+public class InputRecording {
+
+    /**
+     * Marker at the start of a recording file.
+     */
+    private static final int FILE_MAGIC = 0x43574950; // "CWIP"
+
+    /**
+     * Version of the recording file format.
+     */
+    private static final int FILE_VERSION = 1;
+
+    /**
+     * Seed of the {@link GameRandom} for the run.
+     */
+    private final long seed;
+
+    /**
+     * Fully qualified class name of the level the run started in.
+     */
+    private final String startLevel;
+
+    /**
+     * Key mask of every recorded simulation step.
+     */
+    private int[] keyMasks = new int[1024];
+
+    /**
+     * Number of recorded simulation steps.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty {@code InputRecording}.
+     *
+     * @param seed       The seed of the {@link GameRandom} for the run.
+     * @param startLevel The fully qualified class name of the level the run starts in.
+     */
+    public InputRecording(long seed, String startLevel) {
+        this.seed = seed;
+        this.startLevel = startLevel;
+    }
+
+    /**
+     * Appends the key mask of the next simulation step.
+     *
+     * @param keyMask The keys pressed during the step.
+     */
+    public void add(int keyMask) {
+        if (size == keyMasks.length) {
+            keyMasks = Arrays.copyOf(keyMasks, size * 2);
+        }
+        keyMasks[size++] = keyMask;
+    }
+
+    /**
+     * Returns the key mask of a simulation step.
+     *
+     * @param step The index of the step, in the range [0, {@link #size()}).
+     * @return The keys pressed during the step.
+     */
+    public int getKeyMask(int step) {
+        if (step < 0 || step >= size) {
+            throw new IndexOutOfBoundsException("Step " + step + " is outside the recording of " + size + " steps.");
+        }
+        return keyMasks[step];
+    }
+
+    /**
+     * Returns the number of recorded simulation steps.
+     *
+     * @return The length of the recording in steps.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all recorded steps, keeping the seed and the start level.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the seed of the {@link GameRandom} for the run.
+     *
+     * @return The run seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the level the run started in.
+     *
+     * @return The fully qualified class name of the start level.
+     */
+    public String getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Saves the recording to a file.
+     *
+     * @param file The file to write, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeLong(seed);
+            out.writeUTF(startLevel);
+            out.writeInt(size);
+            int step = 0;
+            while (step < size) {
+                int keyMask = keyMasks[step];
+                int runLength = 1;
+                while (step + runLength < size && keyMasks[step + runLength] == keyMask) {
+                    runLength++;
+                }
+                out.writeInt(keyMask);
+                out.writeInt(runLength);
+                step += runLength;
+            }
+        }
+    }
+
+    /**
+     * Loads a recording from a file written by {@link #write(Path)}.
+     *
+     * @param file The file to read.
+     * @return The loaded {@code InputRecording}.
+     * @throws IOException If the file cannot be read or is not a valid recording.
+     */
+    public static InputRecording read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                throw new IOException("Not a supported input recording: " + file);
+            }
+            InputRecording recording = new InputRecording(in.readLong(), in.readUTF());
+            int size = in.readInt();
+            while (recording.size() < size) {
+                int keyMask = in.readInt();
+                int runLength = in.readInt();
+                if (runLength <= 0 || recording.size() + runLength > size) {
+                    throw new IOException("Corrupted input recording: " + file);
+                }
+                for (int i = 0; i < runLength; i++) {
+                    recording.add(keyMask);
+                }
+            }
+            return recording;
+        }
+    }
+}
@@ -14,6 +14,12 @@ import java.util.Map;
  * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/KeyStateTracker.java">KeyStateTracker.java</a>
  */
 public class KeyStateTracker {
+
+    /**
+     * The keys that control the game, in the order of their bits in a key mask.
+     */
+    private static final KeyCode[] GAME_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT, KeyCode.SPACE};
+
     /**
      * Stores the state of keys with true indicating pressed and false indicating released.
      */
@@ -58,6 +64,56 @@ public class KeyStateTracker {
         return keyCode != null && keyStateMap.getOrDefault(keyCode, false);
     }
 
+    /**
+     * Returns the state of the game keys as a bit mask, one bit per key, so that the input of a simulation
+     * step can be stored and replayed as a single number.
+     *
+     * @return The mask of the game keys that are currently pressed.
+     */
+    public int getKeyMask() {
+        int mask = 0;
+        for (int i = 0; i < GAME_KEYS.length; i++) {
+            if (isKeyPressed(GAME_KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks if a key is pressed in a key mask returned by {@link #getKeyMask()}.
+     *
+     * @param keyMask The key mask.
+     * @param keyCode The key code of the key to check.
+     * @return true if the key is a game key and pressed in the mask, false otherwise.
+     */
+    public static boolean isKeyPressed(int keyMask, KeyCode keyCode) {
+        for (int i = 0; i < GAME_KEYS.length; i++) {
+            if (GAME_KEYS[i] == keyCode) {
+                return (keyMask & (1 << i)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key mask in which exactly the given game keys are pressed.
+     *
+     * @param keyCodes The pressed keys. Keys that do not control the game are ignored.
+     * @return The key mask.
+     */
+    public static int toKeyMask(KeyCode... keyCodes) {
+        int mask = 0;
+        for (KeyCode keyCode : keyCodes) {
+            for (int i = 0; i < GAME_KEYS.length; i++) {
+                if (GAME_KEYS[i] == keyCode) {
+                    mask |= 1 << i;
+                }
+            }
+        }
+        return mask;
+    }
+
     /**
      * Resets the state of all keys.
      */
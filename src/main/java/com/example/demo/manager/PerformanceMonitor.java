@@ -0,0 +1,425 @@
+package com.example.demo.manager;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+
+/**
+ * The {@code PerformanceMonitor} class measures where the time of a level goes: the display frame rate, the
+ * duration of each simulation step and the share of every stage of the step, such as spawning, updating actors
+ * and the collision passes.
+ * <p>
+ * The game loop brackets every simulation step with {@link #beginStep()} and {@link #endStep()} and calls
+ * {@link #mark(Stage)} after each stage, which charges the time since the previous mark to that stage. The
+ * measurements are written into ring buffers allocated with the monitor, holding the last
+ * {@value #SAMPLE_COUNT} steps and frames, and are only averaged when they are read, so collecting them
+ * allocates nothing. While the monitor is disabled every call returns straight away, so a level pays for the
+ * monitor only while its statistics are shown.
+ * </p>
+ * <p>
+ * Counters, such as the number of actors in each {@link ActorGroup}, can be registered to be read alongside the
+ * timings. Like the rest of the game logic, the monitor is meant to be used from the game loop thread only.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/PerformanceMonitor.java">PerformanceMonitor.java</a>
+ */
+public class PerformanceMonitor {
+
+    /**
+     * The stages of a simulation step that are timed separately.
+     */
+    public enum Stage {
+        /**
+         * Applying the keys held by the player.
+         */
+        INPUT("Input"),
+
+        /**
+         * Spawning enemy units.
+         */
+        SPAWN("Spawn"),
+
+        /**
+         * Moving actors and projectiles and advancing effects.
+         */
+        UPDATE("Update"),
+
+        /**
+         * Deciding which enemies fire and creating their projectiles.
+         */
+        FIRE("Fire"),
+
+        /**
+         * Collisions between user projectiles and enemy units.
+         */
+        USER_PROJECTILE_COLLISIONS("Hit enemy"),
+
+        /**
+         * Collisions between enemy projectiles and friendly units.
+         */
+        ENEMY_PROJECTILE_COLLISIONS("Hit user"),
+
+        /**
+         * Collisions between friendly and enemy planes.
+         */
+        PLANE_COLLISIONS("Planes"),
+
+        /**
+         * Collisions between user and enemy projectiles.
+         */
+        PROJECTILE_COLLISIONS("Projectiles"),
+
+        /**
+         * Removing destroyed and off-screen actors, checking the end of the game and flushing sounds.
+         */
+        CLEANUP("Cleanup");
+
+        /**
+         * The short name of the stage shown in the performance overlay.
+         */
+        private final String label;
+
+        /**
+         * Constructs a {@code Stage} with its display name.
+         *
+         * @param label The short name of the stage.
+         */
+        Stage(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the short name of the stage.
+         *
+         * @return The name shown in the performance overlay.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Number of steps and frames kept in the ring buffers, two seconds at 60 steps per second.
+     */
+    public static final int SAMPLE_COUNT = 120;
+
+    /**
+     * Maximum number of counters that can be registered.
+     */
+    private static final int MAX_COUNTERS = 8;
+
+    /**
+     * All stages, cached to avoid copying the array of {@link Stage#values()}.
+     */
+    private static final Stage[] STAGES = Stage.values();
+
+    /**
+     * Duration in nanoseconds of every stage in the recent steps, indexed by stage and then by step slot.
+     */
+    private final long[][] stageSamples = new long[STAGES.length][SAMPLE_COUNT];
+
+    /**
+     * Duration in nanoseconds of the recent steps.
+     */
+    private final long[] stepSamples = new long[SAMPLE_COUNT];
+
+    /**
+     * Start time in nanoseconds of the recent display frames.
+     */
+    private final long[] frameTimes = new long[SAMPLE_COUNT];
+
+    /**
+     * Names of the registered counters.
+     */
+    private final String[] counterNames = new String[MAX_COUNTERS];
+
+    /**
+     * Suppliers of the values of the registered counters.
+     */
+    private final IntSupplier[] counters = new IntSupplier[MAX_COUNTERS];
+
+    /**
+     * Number of registered counters.
+     */
+    private int counterCount;
+
+    /**
+     * Whether measurements are being collected.
+     */
+    private boolean enabled;
+
+    /**
+     * Slot of the ring buffers written by the current step.
+     */
+    private int stepSlot;
+
+    /**
+     * Number of steps recorded, capped at {@link #SAMPLE_COUNT}.
+     */
+    private int stepCount;
+
+    /**
+     * Slot of the ring buffer written by the next frame.
+     */
+    private int frameSlot;
+
+    /**
+     * Number of frames recorded, capped at {@link #SAMPLE_COUNT}.
+     */
+    private int frameCount;
+
+    /**
+     * Time in nanoseconds at which the current step began, or {@code -1} outside a step.
+     */
+    private long stepStart = -1;
+
+    /**
+     * Time in nanoseconds of the last mark of the current step.
+     */
+    private long lastMark;
+
+    /**
+     * Enables or disables the collection of measurements. Enabling the monitor discards any previous
+     * measurements, so that the statistics never mix old and new runs of the level.
+     *
+     * @param enabled {@code true} to collect measurements.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            stepSlot = 0;
+            stepCount = 0;
+            frameSlot = 0;
+            frameCount = 0;
+        }
+        this.enabled = enabled;
+        stepStart = -1;
+    }
+
+    /**
+     * Checks whether measurements are being collected.
+     *
+     * @return {@code true} if the monitor is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers a value to be shown with the timings, such as the number of actors in a group.
+     *
+     * @param name  The name of the counter.
+     * @param value Supplies the current value of the counter. It is called only when the counters are read.
+     * @throws IllegalStateException if {@value #MAX_COUNTERS} counters are already registered.
+     */
+    public void addCounter(String name, IntSupplier value) {
+        if (counterCount == MAX_COUNTERS) {
+            throw new IllegalStateException("At most " + MAX_COUNTERS + " counters can be registered.");
+        }
+        counterNames[counterCount] = name;
+        counters[counterCount] = value;
+        counterCount++;
+    }
+
+    /**
+     * Marks the start of a simulation step.
+     */
+    public void beginStep() {
+        if (!enabled) {
+            return;
+        }
+        for (long[] samples : stageSamples) {
+            samples[stepSlot] = 0;
+        }
+        stepStart = System.nanoTime();
+        lastMark = stepStart;
+    }
+
+    /**
+     * Charges the time since the start of the step or the previous mark to a stage. A stage can be marked
+     * more than once in a step, in which case its durations add up.
+     *
+     * @param stage The stage that has just finished.
+     */
+    public void mark(Stage stage) {
+        if (stepStart < 0) {
+            return; // Disabled, or enabled in the middle of the step
+        }
+        long now = System.nanoTime();
+        stageSamples[stage.ordinal()][stepSlot] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Marks the end of a simulation step, recording its total duration.
+     */
+    public void endStep() {
+        if (stepStart < 0) {
+            return;
+        }
+        stepSamples[stepSlot] = System.nanoTime() - stepStart;
+        stepStart = -1;
+        stepSlot = (stepSlot + 1) % SAMPLE_COUNT;
+        stepCount = Math.min(stepCount + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * Records the start of a display frame, from which the frame rate is derived.
+     *
+     * @param nowNanos The current time in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    public void recordFrame(long nowNanos) {
+        if (!enabled) {
+            return;
+        }
+        frameTimes[frameSlot] = nowNanos;
+        frameSlot = (frameSlot + 1) % SAMPLE_COUNT;
+        frameCount = Math.min(frameCount + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * Returns the display frame rate over the recent frames.
+     *
+     * @return The number of frames per second, or 0 if fewer than two frames have been recorded.
+     */
+    public double getFramesPerSecond() {
+        if (frameCount < 2) {
+            return 0;
+        }
+        long newest = frameTimes[(frameSlot - 1 + SAMPLE_COUNT) % SAMPLE_COUNT];
+        long oldest = frameTimes[(frameSlot - frameCount + SAMPLE_COUNT) % SAMPLE_COUNT];
+        return newest > oldest ? (frameCount - 1) * 1e9 / (newest - oldest) : 0;
+    }
+
+    /**
+     * Returns the average duration of the recent simulation steps.
+     *
+     * @return The average step time in milliseconds, or 0 if no step has been recorded.
+     */
+    public double getAverageStepMillis() {
+        return averageMillis(stepSamples);
+    }
+
+    /**
+     * Returns the longest duration of the recent simulation steps.
+     *
+     * @return The worst step time in milliseconds, or 0 if no step has been recorded.
+     */
+    public double getMaxStepMillis() {
+        long max = 0;
+        for (int i = 0; i < stepCount; i++) {
+            max = Math.max(max, stepSamples[i]);
+        }
+        return max / 1e6;
+    }
+
+    /**
+     * Returns the average time the recent simulation steps spent in a stage.
+     *
+     * @param stage The stage.
+     * @return The average stage time in milliseconds, or 0 if no step has been recorded.
+     */
+    public double getAverageStageMillis(Stage stage) {
+        return averageMillis(stageSamples[stage.ordinal()]);
+    }
+
+    /**
+     * Returns the number of recent simulation steps the averages are taken over.
+     *
+     * @return The number of recorded steps, at most {@value #SAMPLE_COUNT}.
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Returns the number of registered counters.
+     *
+     * @return The counter count.
+     */
+    public int getCounterCount() {
+        return counterCount;
+    }
+
+    /**
+     * Returns the name of a registered counter.
+     *
+     * @param index The index of the counter, in registration order.
+     * @return The name of the counter.
+     */
+    public String getCounterName(int index) {
+        return counterNames[index];
+    }
+
+    /**
+     * Returns the current value of a registered counter.
+     *
+     * @param index The index of the counter, in registration order.
+     * @return The value of the counter.
+     */
+    public int getCounterValue(int index) {
+        return counters[index].getAsInt();
+    }
+
+    /**
+     * Returns the heap memory currently in use.
+     *
+     * @return The used heap in megabytes.
+     */
+    public static double getUsedHeapMegabytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024.0 * 1024.0);
+    }
+
+    /**
+     * Returns the maximum heap memory the game may use.
+     *
+     * @return The maximum heap in megabytes.
+     */
+    public static double getMaxHeapMegabytes() {
+        return Runtime.getRuntime().maxMemory() / (1024.0 * 1024.0);
+    }
+
+    /**
+     * Returns the number of garbage collections since the game started, over all collectors.
+     *
+     * @return The total collection count.
+     */
+    public static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Returns the time spent in garbage collection since the game started, over all collectors.
+     *
+     * @return The total collection time in milliseconds.
+     */
+    public static long getGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Averages the recorded steps of a ring buffer.
+     *
+     * @param samples The ring buffer, in nanoseconds.
+     * @return The average in milliseconds, or 0 if no step has been recorded.
+     */
+    private double averageMillis(long[] samples) {
+        if (stepCount == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < stepCount; i++) {
+            total += samples[i];
+        }
+        return total / (double) stepCount / 1e6;
+    }
+}
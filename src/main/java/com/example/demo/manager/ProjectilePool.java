@@ -0,0 +1,203 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.actors.projectile.UserProjectile;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The {@code ProjectilePool} class is a singleton that recycles projectiles instead of creating a new
+ * {@link javafx.scene.image.ImageView} and loading its image for every shot.
+ * <p>
+ * Projectiles that are destroyed or leave the screen are released to the pool by {@link ActorGroup} once they
+ * have been removed from the scene graph. Firing a projectile takes a released instance of the matching type,
+ * resets its position, velocity and destruction state, and only constructs a new projectile if none is available.
+ * The number of idle projectiles kept per type is bounded, so a burst of fire cannot hold memory forever.
+ * </p>
+ * <p>
+ * Like the rest of the game logic, the pool is meant to be used from the game loop thread only.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/ProjectilePool.java">ProjectilePool.java</a>
+ */
+public class ProjectilePool {
+
+    /**
+     * Maximum number of idle projectiles kept for each projectile type.
+     */
+    private static final int MAX_IDLE_PER_TYPE = 256;
+
+    /**
+     * The single instance of {@code ProjectilePool}.
+     */
+    private static ProjectilePool instance;
+
+    /**
+     * Idle projectiles fired by the user.
+     */
+    private final Deque<UserProjectile> userProjectiles = new ArrayDeque<>();
+
+    /**
+     * Idle projectiles fired by enemy planes.
+     */
+    private final Deque<EnemyProjectile> enemyProjectiles = new ArrayDeque<>();
+
+    /**
+     * Idle projectiles fired by the boss.
+     */
+    private final Deque<BossProjectile> bossProjectiles = new ArrayDeque<>();
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private ProjectilePool() {
+    }
+
+    /**
+     * Provides access to the single instance of {@code ProjectilePool}.
+     *
+     * @return The single instance of {@code ProjectilePool}.
+     */
+    public static ProjectilePool getInstance() {
+        if (instance == null) {
+            synchronized (ProjectilePool.class) {
+                if (instance == null) {
+                    instance = new ProjectilePool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a user projectile positioned at the given coordinates, recycled if possible.
+     *
+     * @param x The X-coordinate the projectile is fired from.
+     * @param y The Y-coordinate the projectile is fired from.
+     * @return A {@link UserProjectile} ready to be added to the scene.
+     */
+    public UserProjectile acquireUserProjectile(double x, double y) {
+        UserProjectile projectile = take(userProjectiles);
+        if (projectile == null) {
+            return new UserProjectile(x, y);
+        }
+        projectile.reset(x, y);
+        return projectile;
+    }
+
+    /**
+     * Returns an enemy projectile positioned at the given coordinates, recycled if possible.
+     *
+     * @param x The X-coordinate the projectile is fired from.
+     * @param y The Y-coordinate the projectile is fired from.
+     * @return An {@link EnemyProjectile} ready to be added to the scene.
+     */
+    public EnemyProjectile acquireEnemyProjectile(double x, double y) {
+        EnemyProjectile projectile = take(enemyProjectiles);
+        if (projectile == null) {
+            return new EnemyProjectile(x, y);
+        }
+        projectile.reset(x, y);
+        return projectile;
+    }
+
+    /**
+     * Returns a boss projectile positioned at the given coordinates with the given velocities, recycled if possible.
+     *
+     * @param x         The X-coordinate the projectile is fired from.
+     * @param y         The Y-coordinate the projectile is fired from.
+     * @param xVelocity The horizontal velocity of the projectile.
+     * @param yVelocity The vertical velocity of the projectile.
+     * @return A {@link BossProjectile} ready to be added to the scene.
+     */
+    public BossProjectile acquireBossProjectile(double x, double y, int xVelocity, int yVelocity) {
+        BossProjectile projectile = take(bossProjectiles);
+        if (projectile == null) {
+            return new BossProjectile(x, y, xVelocity, yVelocity);
+        }
+        projectile.reset(x, y, xVelocity, yVelocity);
+        return projectile;
+    }
+
+    /**
+     * Returns an actor to the pool once it has been removed from the game. Actors that are not projectiles
+     * are ignored. The caller must not keep any reference to a released projectile.
+     *
+     * @param actor The actor that has been removed from the game.
+     */
+    public void release(ActiveActorDestructible actor) {
+        if (actor instanceof UserProjectile) {
+            offer(userProjectiles, (UserProjectile) actor);
+        } else if (actor instanceof EnemyProjectile) {
+            offer(enemyProjectiles, (EnemyProjectile) actor);
+        } else if (actor instanceof BossProjectile) {
+            offer(bossProjectiles, (BossProjectile) actor);
+        }
+    }
+
+    /**
+     * Returns the number of idle projectiles currently held by the pool.
+     *
+     * @return The total number of idle projectiles of all types.
+     */
+    public int getIdleCount() {
+        return userProjectiles.size() + enemyProjectiles.size() + bossProjectiles.size();
+    }
+
+    /**
+     * Discards all idle projectiles.
+     */
+    public void clear() {
+        discard(userProjectiles);
+        discard(enemyProjectiles);
+        discard(bossProjectiles);
+    }
+
+    /**
+     * Takes an idle projectile from the queue of its type.
+     *
+     * @param idle The idle queue of the projectile type.
+     * @param <T>  The projectile type.
+     * @return The projectile, or {@code null} if the queue is empty.
+     */
+    private static <T extends Projectile> T take(Deque<T> idle) {
+        T projectile = idle.pollFirst();
+        if (projectile != null) {
+            projectile.setPooled(false);
+        }
+        return projectile;
+    }
+
+    /**
+     * Adds a projectile to the idle queue of its type unless the queue is full or already holds it. Whether it is
+     * already held is read from the projectile's own flag, so releasing stays constant time however full the queue is.
+     *
+     * @param idle       The idle queue of the projectile type.
+     * @param projectile The projectile to keep.
+     * @param <T>        The projectile type.
+     */
+    private static <T extends Projectile> void offer(Deque<T> idle, T projectile) {
+        if (idle.size() < MAX_IDLE_PER_TYPE && !projectile.isPooled()) {
+            projectile.setPooled(true);
+            idle.addFirst(projectile);
+        }
+    }
+
+    /**
+     * Empties the idle queue of a projectile type, marking its projectiles as no longer pooled.
+     *
+     * @param idle The idle queue of the projectile type.
+     * @param <T>  The projectile type.
+     */
+    private static <T extends Projectile> void discard(Deque<T> idle) {
+        for (T projectile : idle) {
+            projectile.setPooled(false);
+        }
+        idle.clear();
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.Hitbox;
+import com.example.demo.actors.projectile.Projectile;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ProjectileStore} class keeps projectiles of one kind as plain data instead of scene graph nodes.
+ * <p>
+ * Projectiles carry little more than a position and a velocity, so the store holds them in parallel primitive
+ * arrays (a struct-of-arrays layout) and moves them in a single tight loop, without a node or a virtual
+ * {@code updateActor} call per projectile. Collisions against planes or other actors are resolved in bulk:
+ * all stored projectiles are binned into a {@link SpatialGrid} once and each target only checks the
+ * projectiles near it. Removed projectiles are compacted away by moving the last projectile into their slot,
+ * so the arrays never contain gaps and the order of projectiles is not stable.
+ * </p>
+ * <p>
+ * The store is meant for levels with thousands of projectiles on screen, drawn by the
+ * {@link com.example.demo.view.CanvasRenderer}. Like the rest of the game logic, it is not thread-safe.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/ProjectileStore.java">ProjectileStore.java</a>
+ */
+public class ProjectileStore {
+
+    /**
+     * Number of projectiles the store can hold before its arrays grow.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Horizontal positions of the projectiles.
+     */
+    private double[] x;
+
+    /**
+     * Vertical positions of the projectiles.
+     */
+    private double[] y;
+
+    /**
+     * Horizontal positions at the start of the current simulation step, used for interpolated rendering.
+     */
+    private double[] previousX;
+
+    /**
+     * Vertical positions at the start of the current simulation step, used for interpolated rendering.
+     */
+    private double[] previousY;
+
+    /**
+     * Horizontal distances the projectiles move per simulation step.
+     */
+    private double[] xVelocity;
+
+    /**
+     * Vertical distances the projectiles move per simulation step.
+     */
+    private double[] yVelocity;
+
+    /**
+     * Widths of the projectiles.
+     */
+    private double[] width;
+
+    /**
+     * Heights of the projectiles.
+     */
+    private double[] height;
+
+    /**
+     * Hitbox shared by the projectiles, which are all of one kind. It is taken from the projectile actors
+     * added with {@link #spawn(Projectile)}.
+     */
+    private Hitbox hitbox = Hitbox.FULL;
+
+    /**
+     * Flags marking projectiles that hit something during the current collision pass.
+     */
+    private boolean[] hit;
+
+    /**
+     * Number of live projectiles, which occupy the first {@code size} slots of every array.
+     */
+    private int size;
+
+    /**
+     * Broad phase grid used to find the projectiles near each collision target.
+     */
+    private final SpatialGrid grid = new SpatialGrid();
+
+    /**
+     * Constructs an empty {@code ProjectileStore} with the default capacity.
+     */
+    public ProjectileStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code ProjectileStore} with the given initial capacity.
+     *
+     * @param initialCapacity The number of projectiles the store can hold before its arrays grow. Must be positive.
+     * @throws IllegalArgumentException if the capacity is non-positive.
+     */
+    public ProjectileStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive.");
+        }
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        previousX = new double[initialCapacity];
+        previousY = new double[initialCapacity];
+        xVelocity = new double[initialCapacity];
+        yVelocity = new double[initialCapacity];
+        width = new double[initialCapacity];
+        height = new double[initialCapacity];
+        hit = new boolean[initialCapacity];
+    }
+
+    /**
+     * Adds a projectile to the store.
+     *
+     * @param x         The X-coordinate of the projectile's top left corner.
+     * @param y         The Y-coordinate of the projectile's top left corner.
+     * @param xVelocity The horizontal distance the projectile moves per simulation step.
+     * @param yVelocity The vertical distance the projectile moves per simulation step.
+     * @param width     The width of the projectile.
+     * @param height    The height of the projectile.
+     */
+    public void spawn(double x, double y, double xVelocity, double yVelocity, double width, double height) {
+        if (size == this.x.length) {
+            grow();
+        }
+        this.x[size] = x;
+        this.y[size] = y;
+        this.previousX[size] = x;
+        this.previousY[size] = y;
+        this.xVelocity[size] = xVelocity;
+        this.yVelocity[size] = yVelocity;
+        this.width[size] = width;
+        this.height[size] = height;
+        this.hit[size] = false;
+        size++;
+    }
+
+    /**
+     * Adds the state of a projectile actor to the store, so the actor itself can be released.
+     *
+     * @param projectile The projectile to copy position, velocity, size and hitbox from.
+     */
+    public void spawn(Projectile projectile) {
+        hitbox = projectile.getHitbox();
+        spawn(projectile.getAbsoluteX(), projectile.getAbsoluteY(), projectile.getXVelocity(), projectile.getYVelocity(),
+                projectile.getBoundsWidth(), projectile.getBoundsHeight());
+    }
+
+    /**
+     * Moves every projectile by its velocity, after recording the positions at the start of the step.
+     */
+    public void update() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+        for (int i = 0; i < size; i++) {
+            x[i] += xVelocity[i];
+            y[i] += yVelocity[i];
+        }
+    }
+
+    /**
+     * Detects collisions between the stored projectiles and the given targets. Each target whose hitbox overlaps the hitbox of a
+     * projectile takes damage once per overlapping projectile, and every projectile that hit something is removed.
+     *
+     * @param targets The actors the projectiles can hit, for example the friendly planes.
+     * @return The number of projectiles that hit a target.
+     */
+    public int collide(List<ActiveActorDestructible> targets) {
+        if (size == 0 || targets.isEmpty()) {
+            return 0;
+        }
+        grid.clear();
+        for (int i = 0; i < size; i++) {
+            grid.insert(x[i], y[i], x[i] + width[i], y[i] + height[i]);
+        }
+
+        int hits = 0;
+        for (ActiveActorDestructible target : targets) {
+            int candidateCount = grid.query(target.getBoundsMinX(), target.getBoundsMinY(),
+                    target.getBoundsMaxX(), target.getBoundsMaxY());
+            for (int c = 0; c < candidateCount; c++) {
+                int i = grid.getCandidate(c);
+                if (!hit[i] && hitbox.intersects(x[i], y[i], width[i], height[i], target.getHitbox(),
+                        target.getBoundsMinX(), target.getBoundsMinY(), target.getBoundsWidth(), target.getBoundsHeight())) {
+                    hit[i] = true;
+                    target.takeDamage();
+                    hits++;
+                }
+            }
+        }
+        if (hits > 0) {
+            removeHits();
+        }
+        return hits;
+    }
+
+    /**
+     * Removes projectiles that are completely out of the screen bounds horizontally, using the same
+     * condition as {@link ActorGroup#removeOutOfBounds(double)}.
+     *
+     * @param screenWidth The width of the game screen.
+     */
+    public void removeOutOfBounds(double screenWidth) {
+        int i = 0;
+        while (i < size) {
+            if (x[i] < -width[i] || x[i] > screenWidth) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Removes all projectiles.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of live projectiles.
+     *
+     * @return The number of projectiles in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the X-coordinate of a projectile.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @return The X-coordinate of the projectile's top left corner.
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the Y-coordinate of a projectile.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @return The Y-coordinate of the projectile's top left corner.
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the X-coordinate to draw a projectile at, between its previous and its current position.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1].
+     * @return The interpolated X-coordinate.
+     */
+    public double getInterpolatedX(int index, double alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+
+    /**
+     * Returns the Y-coordinate to draw a projectile at, between its previous and its current position.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1].
+     * @return The interpolated Y-coordinate.
+     */
+    public double getInterpolatedY(int index, double alpha) {
+        return previousY[index] + (y[index] - previousY[index]) * alpha;
+    }
+
+    /**
+     * Returns the width of a projectile.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @return The width of the projectile.
+     */
+    public double getWidth(int index) {
+        return width[index];
+    }
+
+    /**
+     * Returns the height of a projectile.
+     *
+     * @param index The index of the projectile, in the range [0, {@link #size()}).
+     * @return The height of the projectile.
+     */
+    public double getHeight(int index) {
+        return height[index];
+    }
+
+    /**
+     * Removes every projectile flagged as hit, iterating backwards so that each moved projectile has already been checked.
+     */
+    private void removeHits() {
+        for (int i = size - 1; i >= 0; i--) {
+            if (hit[i]) {
+                removeAt(i);
+            }
+        }
+    }
+
+    /**
+     * Removes a projectile by moving the last projectile into its slot.
+     *
+     * @param index The index of the projectile to remove.
+     */
+    private void removeAt(int index) {
+        int last = --size;
+        x[index] = x[last];
+        y[index] = y[last];
+        previousX[index] = previousX[last];
+        previousY[index] = previousY[last];
+        xVelocity[index] = xVelocity[last];
+        yVelocity[index] = yVelocity[last];
+        width[index] = width[last];
+        height[index] = height[last];
+        hit[index] = hit[last];
+        hit[last] = false;
+    }
+
+    /**
+     * Doubles the capacity of all arrays.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        xVelocity = Arrays.copyOf(xVelocity, capacity);
+        yVelocity = Arrays.copyOf(yVelocity, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        hit = Arrays.copyOf(hit, capacity);
+    }
+}
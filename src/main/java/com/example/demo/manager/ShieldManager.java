@@ -1,7 +1,6 @@
 package com.example.demo.manager;
 
 import com.example.demo.view.ShieldImage;
-import javafx.application.Platform;
 import javafx.scene.Group;
 
 import static com.example.demo.level.LevelParent.VELOCITY_CHANGE;
@@ -15,6 +14,11 @@ import static com.example.demo.level.LevelParent.VELOCITY_CHANGE;
  */
 public class ShieldManager {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(ShieldManager.class);
+
     /**
      * Visual representation of the shield.
      */
@@ -30,6 +34,11 @@ public class ShieldManager {
      */
     private int framesWithShieldActivated;
 
+    /**
+     * Source of randomness for activating the shield.
+     */
+    private final GameRandom random;
+
     /**
      * Maximum number of frames the shield can be active before it must be deactivated.
      */
@@ -47,16 +56,19 @@ public class ShieldManager {
      * @param root The root group to add the shield image.
      * @param xPosition The initial X position of the shield.
      * @param yPosition The initial Y position of the shield.
+     * @param random The source of randomness for activating the shield.
      */
-    public ShieldManager(Group root, double xPosition, double yPosition) {
+    public ShieldManager(Group root, double xPosition, double yPosition, GameRandom random) {
         this.shieldImage = new ShieldImage(xPosition, yPosition);
+        this.random = random;
         this.isShielded = false;
         this.framesWithShieldActivated = 0;
 
-        Platform.runLater(() -> {
+        if (HeadlessMode.isEnabled()) {
             root.getChildren().add(shieldImage.getContainer());
-            shieldImage.hideShield();
-        });
+            return;
+        }
+        UiDispatcher.getInstance().submit(() -> root.getChildren().add(shieldImage.getContainer()));
     }
 
     /**
@@ -74,13 +86,14 @@ public class ShieldManager {
     }
 
     /**
-     * Updates the position of the shield image.
+     * Updates the position of the shield image. The shield image applies the position on the JavaFX
+     * application thread itself, so it is passed on directly.
      *
      * @param x The X position of the entity.
      * @param y The Y position of the entity.
      */
     public void updateShieldPosition(double x, double y) {
-        Platform.runLater(() -> shieldImage.setPosition(x, y));
+        shieldImage.setPosition(x, y);
     }
 
     /**
@@ -99,7 +112,7 @@ public class ShieldManager {
         isShielded = true;
         shieldImage.showShield();
         AudioManager.getInstance().playShieldEffect();
-        System.out.println("Shield activated.");
+        LOGGER.debug("Shield activated.");
     }
 
     /**
@@ -109,7 +122,7 @@ public class ShieldManager {
         isShielded = false;
         framesWithShieldActivated = 0;
         shieldImage.hideShield();
-        System.out.println("Shield deactivated.");
+        LOGGER.debug("Shield deactivated.");
     }
 
     /**
@@ -118,7 +131,7 @@ public class ShieldManager {
      * @return true if the shield should be activated, false otherwise.
      */
     private boolean shieldShouldBeActivated() {
-        return Math.random() < SHIELD_PROBABILITY;
+        return random.chance(SHIELD_PROBABILITY);
     }
 
     /**
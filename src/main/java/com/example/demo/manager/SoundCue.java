@@ -0,0 +1,40 @@
+package com.example.demo.manager;
+
+/**
+ * The {@code SoundCue} enum lists the sound effects that can be triggered during gameplay
+ * and sent to the audio worker by the {@link AudioDispatcher}.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/SoundCue.java">SoundCue.java</a>
+ */
+public enum SoundCue {
+
+    /**
+     * An actor explodes after a hit.
+     */
+    EXPLOSION,
+
+    /**
+     * The user fires a projectile.
+     */
+    USER_SHOOT,
+
+    /**
+     * The boss fires a projectile.
+     */
+    BOSS_SHOOT,
+
+    /**
+     * The boss activates its shield.
+     */
+    SHIELD;
+
+    /**
+     * Returns the bit representing this cue in a set of cues.
+     *
+     * @return A mask with only the bit of this cue set.
+     */
+    int mask() {
+        return 1 << ordinal();
+    }
+}
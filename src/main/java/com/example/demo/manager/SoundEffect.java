@@ -0,0 +1,97 @@
+package com.example.demo.manager;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * The {@code SoundEffect} class plays a short sound from a fixed number of preloaded voices.
+ * <p>
+ * Each voice is an {@link AudioClip} decoded once when the effect is created, so triggering the sound creates
+ * no media objects. Voices are used in turn, which lets several triggers of the same effect overlap. When all
+ * voices are busy, the voice that was started longest ago is stopped and reused, so rapid fire never drops the
+ * newest sound and never plays more than the given number of copies at once.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/SoundEffect.java">SoundEffect.java</a>
+ */
+public class SoundEffect {
+
+    /**
+     * The preloaded voices of the effect.
+     */
+    private final AudioClip[] voices;
+
+    /**
+     * Index of the voice used by the next trigger, which is always the one started longest ago.
+     */
+    private int nextVoice;
+
+    /**
+     * Constructs a {@code SoundEffect} and decodes its voices.
+     *
+     * @param resourcePath The absolute resource path of the sound, for example {@code /com/example/demo/sounds/explosion.mp3}.
+     * @param voiceCount   The maximum number of copies of the sound playing at once. Must be positive.
+     * @throws NullPointerException     if no resource exists at the given path.
+     * @throws IllegalArgumentException if the voice count is non-positive.
+     */
+    public SoundEffect(String resourcePath, int voiceCount) {
+        if (voiceCount <= 0) {
+            throw new IllegalArgumentException("Voice count must be positive.");
+        }
+        URL resource = Objects.requireNonNull(SoundEffect.class.getResource(resourcePath), "Sound not found at " + resourcePath);
+        voices = new AudioClip[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new AudioClip(resource.toExternalForm());
+        }
+    }
+
+    /**
+     * Plays the sound on the next voice, stopping that voice first if it is still playing.
+     *
+     * @param volume The volume to play at, between 0.0 and 1.0.
+     */
+    public void play(double volume) {
+        AudioClip voice = voices[nextVoice];
+        if (voice.isPlaying()) {
+            voice.stop(); // Steal the oldest voice
+        }
+        voice.play(volume);
+        nextVoice = (nextVoice + 1) % voices.length;
+    }
+
+    /**
+     * Stops every voice of the effect.
+     */
+    public void stop() {
+        for (AudioClip voice : voices) {
+            voice.stop();
+        }
+    }
+
+    /**
+     * Returns the number of voices of the effect.
+     *
+     * @return The maximum number of copies of the sound playing at once.
+     */
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * Returns the number of voices currently playing.
+     *
+     * @return The number of playing voices.
+     */
+    public int getPlayingVoiceCount() {
+        int playing = 0;
+        for (AudioClip voice : voices) {
+            if (voice.isPlaying()) {
+                playing++;
+            }
+        }
+        return playing;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.demo.manager;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SpatialGrid} class is a uniform-grid broad phase used by {@link CollisionHandler}.
+ * Axis-aligned bounding boxes are binned once per pass into fixed-size cells, and a query only
+ * returns the boxes sharing at least one cell with the queried box, so the number of intersection
+ * tests grows with the number of nearby actors instead of with the size of both lists.
+ * <p>
+ * Cells are hashed into a fixed number of buckets and all storage is kept in primitive arrays that
+ * are reused between passes, so clearing and refilling the grid every frame does not allocate once
+ * the arrays have grown to the working size.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/SpatialGrid.java">SpatialGrid.java</a>
+ */
+public class SpatialGrid {
+
+    /**
+     * Default edge length of a grid cell in pixels, roughly the size of the largest plane sprites.
+     */
+    public static final double DEFAULT_CELL_SIZE = 128.0;
+
+    /**
+     * Number of hash buckets. Must be a power of two so that the bucket index can be masked.
+     */
+    private static final int BUCKET_COUNT = 256;
+
+    /**
+     * Initial capacity of the item and entry arrays before they grow.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Edge length of a grid cell.
+     */
+    private final double cellSize;
+
+    /**
+     * Index of the first entry in each bucket, or {@code -1} for an empty bucket.
+     */
+    private final int[] bucketHeads;
+
+    /**
+     * Index of the next entry in the same bucket, forming singly linked lists.
+     */
+    private int[] entryNext;
+
+    /**
+     * Item index stored by each entry. An item has one entry for each cell it covers.
+     */
+    private int[] entryItem;
+
+    /**
+     * Number of entries currently stored.
+     */
+    private int entryCount;
+
+    /**
+     * Minimum X coordinate of each inserted item's bounding box.
+     */
+    private double[] itemMinX;
+
+    /**
+     * Minimum Y coordinate of each inserted item's bounding box.
+     */
+    private double[] itemMinY;
+
+    /**
+     * Maximum X coordinate of each inserted item's bounding box.
+     */
+    private double[] itemMaxX;
+
+    /**
+     * Maximum Y coordinate of each inserted item's bounding box.
+     */
+    private double[] itemMaxY;
+
+    /**
+     * Number of items inserted since the last {@link #clear()}.
+     */
+    private int itemCount;
+
+    /**
+     * Query stamp of each item, used to report an item only once per query even if it shares several cells.
+     */
+    private int[] visitStamp;
+
+    /**
+     * Stamp of the current query.
+     */
+    private int currentStamp;
+
+    /**
+     * Candidate item indices found by the last query, sorted in ascending order.
+     */
+    private int[] candidates;
+
+    /**
+     * Constructs a {@code SpatialGrid} with the {@link #DEFAULT_CELL_SIZE}.
+     */
+    public SpatialGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a {@code SpatialGrid} with the given cell size.
+     *
+     * @param cellSize The edge length of a grid cell. Must be positive.
+     * @throws IllegalArgumentException if cellSize is non-positive.
+     */
+    public SpatialGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }
+        this.cellSize = cellSize;
+        this.bucketHeads = new int[BUCKET_COUNT];
+        this.entryNext = new int[INITIAL_CAPACITY];
+        this.entryItem = new int[INITIAL_CAPACITY];
+        this.itemMinX = new double[INITIAL_CAPACITY];
+        this.itemMinY = new double[INITIAL_CAPACITY];
+        this.itemMaxX = new double[INITIAL_CAPACITY];
+        this.itemMaxY = new double[INITIAL_CAPACITY];
+        this.visitStamp = new int[INITIAL_CAPACITY];
+        this.candidates = new int[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Removes all items from the grid. The backing arrays are kept for the next pass.
+     */
+    public void clear() {
+        Arrays.fill(bucketHeads, -1);
+        entryCount = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * Inserts a bounding box into every cell it covers.
+     * Empty boxes (with a maximum smaller than the minimum) are recorded but never reported by a query.
+     *
+     * @param minX The minimum X coordinate of the box.
+     * @param minY The minimum Y coordinate of the box.
+     * @param maxX The maximum X coordinate of the box.
+     * @param maxY The maximum Y coordinate of the box.
+     * @return The index of the inserted item, in insertion order starting from zero.
+     */
+    public int insert(double minX, double minY, double maxX, double maxY) {
+        int item = itemCount++;
+        ensureItemCapacity(itemCount);
+        itemMinX[item] = minX;
+        itemMinY[item] = minY;
+        itemMaxX[item] = maxX;
+        itemMaxY[item] = maxY;
+        visitStamp[item] = currentStamp;
+
+        if (maxX < minX || maxY < minY) {
+            return item;
+        }
+        int firstCellX = cellOf(minX);
+        int lastCellX = cellOf(maxX);
+        int firstCellY = cellOf(minY);
+        int lastCellY = cellOf(maxY);
+        for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+            for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+                addEntry(bucketOf(cellX, cellY), item);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Finds all inserted items whose bounding box intersects the given box. Intersection is inclusive
+     * on the edges, matching {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}.
+     * The results are available through {@link #getCandidate(int)} until the next query.
+     *
+     * @param minX The minimum X coordinate of the queried box.
+     * @param minY The minimum Y coordinate of the queried box.
+     * @param maxX The maximum X coordinate of the queried box.
+     * @param maxY The maximum Y coordinate of the queried box.
+     * @return The number of intersecting items found.
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        if (maxX < minX || maxY < minY) {
+            return 0;
+        }
+        nextStamp();
+        int count = 0;
+        int firstCellX = cellOf(minX);
+        int lastCellX = cellOf(maxX);
+        int firstCellY = cellOf(minY);
+        int lastCellY = cellOf(maxY);
+        for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+            for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+                for (int entry = bucketHeads[bucketOf(cellX, cellY)]; entry != -1; entry = entryNext[entry]) {
+                    int item = entryItem[entry];
+                    if (visitStamp[item] == currentStamp) {
+                        continue;
+                    }
+                    visitStamp[item] = currentStamp;
+                    if (intersects(item, minX, minY, maxX, maxY)) {
+                        candidates[count++] = item;
+                    }
+                }
+            }
+        }
+        // Keep results in insertion order so callers see pairs in the same order as a nested loop
+        Arrays.sort(candidates, 0, count);
+        return count;
+    }
+
+    /**
+     * Returns a candidate found by the last {@link #query(double, double, double, double)}.
+     *
+     * @param index The position of the candidate, between zero and the count returned by the query.
+     * @return The item index of the candidate.
+     */
+    public int getCandidate(int index) {
+        return candidates[index];
+    }
+
+    /**
+     * Returns the number of items inserted since the last {@link #clear()}.
+     *
+     * @return The number of items in the grid.
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Checks whether an inserted item intersects the given box.
+     *
+     * @param item The item index.
+     * @param minX The minimum X coordinate of the box.
+     * @param minY The minimum Y coordinate of the box.
+     * @param maxX The maximum X coordinate of the box.
+     * @param maxY The maximum Y coordinate of the box.
+     * @return {@code true} if the boxes intersect, {@code false} otherwise.
+     */
+    private boolean intersects(int item, double minX, double minY, double maxX, double maxY) {
+        return itemMaxX[item] >= minX && itemMaxY[item] >= minY
+                && itemMinX[item] <= maxX && itemMinY[item] <= maxY;
+    }
+
+    /**
+     * Converts a coordinate to a cell coordinate.
+     *
+     * @param coordinate The coordinate in pixels.
+     * @return The index of the cell containing the coordinate.
+     */
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell to its bucket.
+     *
+     * @param cellX The cell column.
+     * @param cellY The cell row.
+     * @return The bucket index.
+     */
+    private static int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Links a new entry for the item at the head of the bucket.
+     *
+     * @param bucket The bucket index.
+     * @param item   The item index.
+     */
+    private void addEntry(int bucket, int item) {
+        if (entryCount == entryItem.length) {
+            entryItem = Arrays.copyOf(entryItem, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryItem[entryCount] = item;
+        entryNext[entryCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = entryCount;
+        entryCount++;
+    }
+
+    /**
+     * Grows the per-item arrays so that they can hold at least the given number of items.
+     *
+     * @param capacity The required capacity.
+     */
+    private void ensureItemCapacity(int capacity) {
+        if (capacity <= itemMinX.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, itemMinX.length * 2);
+        itemMinX = Arrays.copyOf(itemMinX, newCapacity);
+        itemMinY = Arrays.copyOf(itemMinY, newCapacity);
+        itemMaxX = Arrays.copyOf(itemMaxX, newCapacity);
+        itemMaxY = Arrays.copyOf(itemMaxY, newCapacity);
+        visitStamp = Arrays.copyOf(visitStamp, newCapacity);
+        candidates = Arrays.copyOf(candidates, newCapacity);
+    }
+
+    /**
+     * Advances the query stamp, resetting all stamps when the counter wraps around.
+     */
+    private void nextStamp() {
+        currentStamp++;
+        if (currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamp, 0);
+            currentStamp = 1;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.manager;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code SpriteMetrics} class reads the intrinsic size of sprite images from their file headers,
+ * without decoding the pixels and without the JavaFX toolkit. It is used in {@link HeadlessMode} to give
+ * actors the same bounds they would have with their images loaded.
+ * <p>
+ * Only PNG images are supported, which covers every actor sprite. Results are cached per resource path.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/SpriteMetrics.java">SpriteMetrics.java</a>
+ */
+public final class SpriteMetrics {
+
+    /**
+     * The eight-byte signature every PNG file starts with.
+     */
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+
+    /**
+     * Type of the header chunk that holds the image dimensions.
+     */
+    private static final int IHDR_CHUNK_TYPE = 0x49484452;
+
+    /**
+     * Cached width-to-height ratios keyed by resource path.
+     */
+    private static final Map<String, Double> ASPECT_RATIOS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SpriteMetrics() {
+    }
+
+    /**
+     * Returns the width-to-height ratio of a sprite image.
+     *
+     * @param resourcePath The absolute resource path of the PNG image.
+     * @return The image width divided by the image height.
+     * @throws IllegalArgumentException if the resource does not exist or is not a valid PNG image.
+     */
+    public static double getAspectRatio(String resourcePath) {
+        return ASPECT_RATIOS.computeIfAbsent(resourcePath, SpriteMetrics::readAspectRatio);
+    }
+
+    /**
+     * Reads the dimensions from the PNG header of a resource.
+     *
+     * @param resourcePath The absolute resource path of the PNG image.
+     * @return The image width divided by the image height.
+     */
+    private static double readAspectRatio(String resourcePath) {
+        try (InputStream resource = SpriteMetrics.class.getResourceAsStream(resourcePath)) {
+            if (resource == null) {
+                throw new IllegalArgumentException("Sprite not found at " + resourcePath);
+            }
+            DataInputStream input = new DataInputStream(resource);
+            if (input.readLong() != PNG_SIGNATURE) {
+                throw new IllegalArgumentException("Sprite is not a PNG image: " + resourcePath);
+            }
+            input.readInt(); // Length of the header chunk
+            if (input.readInt() != IHDR_CHUNK_TYPE) {
+                throw new IllegalArgumentException("PNG header missing in " + resourcePath);
+            }
+            int width = input.readInt();
+            int height = input.readInt();
+            if (width <= 0 || height <= 0) {
+                throw new IllegalArgumentException("Invalid sprite size in " + resourcePath);
+            }
+            return (double) width / height;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read sprite " + resourcePath, e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.demo.manager;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code TextureAtlas} class is a singleton that packs the sprites of the game into a single image.
+ * <p>
+ * With one image per sprite, every plane, projectile and effect binds its own texture, so the renderer switches
+ * textures whenever different kinds of sprites are drawn one after the other. The atlas copies all sprites into
+ * one texture at startup, side by side on shelves sorted by height, and remembers the rectangle of each sprite.
+ * An {@link ImageView} then shows a sprite through a viewport into the shared texture, so consecutive sprites
+ * can be drawn without a texture switch. Sprites are separated by transparent padding so that filtering at the
+ * edge of one sprite does not pick up the pixels of its neighbour.
+ * </p>
+ * <p>
+ * Images that are not packed, such as the backgrounds, are still served by the {@link ImageCache}.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/TextureAtlas.java">TextureAtlas.java</a>
+ */
+public class TextureAtlas {
+
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(TextureAtlas.class);
+
+    /**
+     * Resource paths of the sprites packed into the atlas.
+     */
+    public static final String[] SPRITES = {
+            "/com/example/demo/images/userplane.png",
+            "/com/example/demo/images/userfire.png",
+            "/com/example/demo/images/enemyplane.png",
+            "/com/example/demo/images/enemyplane2.png",
+            "/com/example/demo/images/enemyFire.png",
+            "/com/example/demo/images/bossplane.png",
+            "/com/example/demo/images/fireball.png",
+            "/com/example/demo/images/explosion.png",
+            "/com/example/demo/images/heart_pixel.png",
+            "/com/example/demo/images/shield.png"
+    };
+
+    /**
+     * Maximum width of the atlas, well below the texture size limit of common graphics hardware.
+     */
+    static final int MAX_WIDTH = 2048;
+
+    /**
+     * Transparent pixels kept between neighbouring sprites.
+     */
+    static final int PADDING = 2;
+
+    /**
+     * The single instance of {@code TextureAtlas}.
+     */
+    private static TextureAtlas instance;
+
+    /**
+     * Rectangles of the packed sprites keyed by their resource path. Empty until the atlas is built.
+     */
+    private final Map<String, Rectangle2D> regions = new HashMap<>();
+
+    /**
+     * The packed texture, or {@code null} until the atlas is built.
+     */
+    private Image image;
+
+    /**
+     * Whether the atlas has been built, successfully or not.
+     */
+    private boolean built;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private TextureAtlas() {
+    }
+
+    /**
+     * Provides access to the single instance of {@code TextureAtlas}.
+     *
+     * @return The single instance of {@code TextureAtlas}.
+     */
+    public static TextureAtlas getInstance() {
+        if (instance == null) {
+            synchronized (TextureAtlas.class) {
+                if (instance == null) {
+                    instance = new TextureAtlas();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Decodes the sprites and packs them into the atlas, if this has not been done yet. It is started at
+     * startup by {@link #preload()}; otherwise the atlas is built the first time a sprite is requested. Sprites that cannot be loaded
+     * are left out of the atlas and are served by the {@link ImageCache} instead.
+     */
+    public synchronized void build() {
+        if (built) {
+            return;
+        }
+        built = true;
+        List<String> paths = new ArrayList<>();
+        List<Image> sprites = new ArrayList<>();
+        for (String path : SPRITES) {
+            URL resource = TextureAtlas.class.getResource(path);
+            Image sprite = resource == null ? null : new Image(resource.toExternalForm()); // Decoded synchronously
+            if (sprite == null || sprite.isError()) {
+                LOGGER.warn("Sprite " + path + " could not be loaded and is left out of the texture atlas.");
+                continue;
+            }
+            paths.add(path);
+            sprites.add(sprite);
+        }
+        if (sprites.isEmpty()) {
+            return;
+        }
+
+        int[] widths = new int[sprites.size()];
+        int[] heights = new int[sprites.size()];
+        for (int i = 0; i < sprites.size(); i++) {
+            widths[i] = (int) sprites.get(i).getWidth();
+            heights[i] = (int) sprites.get(i).getHeight();
+        }
+        int[] xs = new int[sprites.size()];
+        int[] ys = new int[sprites.size()];
+        int[] size = pack(widths, heights, MAX_WIDTH, PADDING, xs, ys);
+
+        WritableImage atlas = new WritableImage(size[0], size[1]);
+        PixelWriter writer = atlas.getPixelWriter();
+        for (int i = 0; i < sprites.size(); i++) {
+            writer.setPixels(xs[i], ys[i], widths[i], heights[i], sprites.get(i).getPixelReader(), 0, 0);
+            regions.put(paths.get(i), new Rectangle2D(xs[i], ys[i], widths[i], heights[i]));
+        }
+        image = atlas;
+        LOGGER.info("Packed " + sprites.size() + " sprites into a " + size[0] + "x" + size[1] + " texture atlas.");
+    }
+
+    /**
+     * Builds the atlas on a background thread, so that it is ready before the first level without delaying the
+     * start menu. A sprite requested before the build has finished waits for it.
+     */
+    public void preload() {
+        Thread builder = new Thread(this::build, "texture-atlas");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Returns the rectangle a sprite occupies in the atlas, building the atlas if needed.
+     *
+     * @param resourcePath The absolute resource path of the sprite.
+     * @return The rectangle of the sprite, or {@code null} if the sprite is not packed into the atlas.
+     */
+    public synchronized Rectangle2D getRegion(String resourcePath) {
+        build();
+        return regions.get(resourcePath);
+    }
+
+    /**
+     * Returns the image to draw a sprite from: the atlas texture if the sprite is packed, to be drawn through
+     * {@link #getRegion(String)}, or otherwise the sprite's own image from the {@link ImageCache}.
+     *
+     * @param resourcePath The absolute resource path of the sprite.
+     * @return The image containing the sprite.
+     */
+    public synchronized Image getImage(String resourcePath) {
+        return getRegion(resourcePath) != null ? image : ImageCache.getInstance().getImage(resourcePath);
+    }
+
+    /**
+     * Makes an image view show a sprite, through a viewport into the atlas if the sprite is packed.
+     *
+     * @param view         The image view.
+     * @param resourcePath The absolute resource path of the sprite.
+     */
+    public void apply(ImageView view, String resourcePath) {
+        view.setImage(getImage(resourcePath));
+        view.setViewport(getRegion(resourcePath));
+    }
+
+    /**
+     * Places rectangles on shelves: the rectangles are sorted from tallest to shortest and laid out left to right,
+     * starting a new shelf below the previous one when a rectangle does not fit in the remaining width.
+     *
+     * @param widths   The widths of the rectangles.
+     * @param heights  The heights of the rectangles.
+     * @param maxWidth The maximum width of the packed area.
+     * @param padding  The space kept between rectangles and around the packed area.
+     * @param xs       Receives the X-coordinate of each rectangle.
+     * @param ys       Receives the Y-coordinate of each rectangle.
+     * @return The width and height of the packed area.
+     * @throws IllegalArgumentException if a rectangle is wider than the maximum width.
+     */
+    static int[] pack(int[] widths, int[] heights, int maxWidth, int padding, int[] xs, int[] ys) {
+        Integer[] order = new Integer[widths.length];
+        for (int i = 0; i < order.length; i++) {
+            if (widths[i] + 2 * padding > maxWidth) {
+                throw new IllegalArgumentException("Sprite is wider than the atlas: " + widths[i]);
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> heights[i]).reversed());
+
+        int x = padding;
+        int shelfY = padding;
+        int shelfHeight = 0;
+        int usedWidth = 0;
+        for (int i : order) {
+            if (x + widths[i] + padding > maxWidth) { // Start a new shelf
+                x = padding;
+                shelfY += shelfHeight + padding;
+                shelfHeight = 0;
+            }
+            xs[i] = x;
+            ys[i] = shelfY;
+            x += widths[i] + padding;
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+            usedWidth = Math.max(usedWidth, x);
+        }
+        return new int[]{usedWidth, shelfY + shelfHeight + padding};
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.manager;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * The {@code UiDispatcher} class is a singleton that applies updates to scene graph nodes on the JavaFX
+ * application thread without flooding it with {@link Platform#runLater(Runnable)} calls.
+ * <p>
+ * The game loop already runs on the JavaFX application thread, so an update submitted from there is applied
+ * immediately. An update submitted from any other thread is queued, and all queued updates are applied by a
+ * single {@code runLater} at the next pulse. Submitting the same update object again before it has been applied
+ * does not queue it twice, so an update that reads the latest value from its owner, such as a position written
+ * every frame, is applied once per pulse with the newest value.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/UiDispatcher.java">UiDispatcher.java</a>
+ */
+public class UiDispatcher {
+
+    /**
+     * The single instance of {@code UiDispatcher}.
+     */
+    private static UiDispatcher instance;
+
+    /**
+     * Tells whether the calling thread is the JavaFX application thread.
+     */
+    private final BooleanSupplier uiThreadCheck;
+
+    /**
+     * Schedules an action on the JavaFX application thread.
+     */
+    private final Consumer<Runnable> scheduler;
+
+    /**
+     * Updates waiting for the next flush, each at most once, in submission order.
+     */
+    private final Set<Runnable> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Submission order of the pending updates.
+     */
+    private final List<Runnable> pendingOrder = new ArrayList<>();
+
+    /**
+     * Updates being applied by the current flush, reused across flushes.
+     */
+    private final List<Runnable> flushing = new ArrayList<>();
+
+    /**
+     * Whether a flush has been scheduled and has not started yet.
+     */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * Constructs a {@code UiDispatcher} using the JavaFX platform.
+     */
+    private UiDispatcher() {
+        this(Platform::isFxApplicationThread, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code UiDispatcher} with a custom thread check and scheduler, used for testing without the JavaFX toolkit.
+     *
+     * @param uiThreadCheck Tells whether the calling thread is the UI thread.
+     * @param scheduler     Schedules an action on the UI thread.
+     */
+    UiDispatcher(BooleanSupplier uiThreadCheck, Consumer<Runnable> scheduler) {
+        this.uiThreadCheck = uiThreadCheck;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Provides access to the single instance of {@code UiDispatcher}.
+     *
+     * @return The single instance of {@code UiDispatcher}.
+     */
+    public static UiDispatcher getInstance() {
+        if (instance == null) {
+            synchronized (UiDispatcher.class) {
+                if (instance == null) {
+                    instance = new UiDispatcher();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Applies an update on the JavaFX application thread: immediately if called from it, otherwise at the
+     * next pulse together with the other pending updates. An update that is already pending is not queued again.
+     *
+     * @param update The update to apply. It should read the values it writes when it runs, not when it is submitted.
+     */
+    public void submit(Runnable update) {
+        if (uiThreadCheck.getAsBoolean()) {
+            update.run();
+            return;
+        }
+        synchronized (pending) {
+            if (pending.add(update)) {
+                pendingOrder.add(update);
+            }
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.accept(this::flush);
+        }
+    }
+
+    /**
+     * Returns the number of updates waiting for the next flush.
+     *
+     * @return The number of pending updates.
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pendingOrder.size();
+        }
+    }
+
+    /**
+     * Applies all pending updates. Runs on the JavaFX application thread.
+     */
+    private void flush() {
+        flushScheduled.set(false); // Updates submitted from now on need another flush
+        synchronized (pending) {
+            flushing.addAll(pendingOrder);
+            pendingOrder.clear();
+            pending.clear();
+        }
+        try {
+            for (Runnable update : flushing) {
+                update.run();
+            }
+        } finally {
+            flushing.clear();
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The {@code WaveScheduler} class spawns the enemies of a level from a wave script instead of rolling a spawn
+ * probability for every free enemy slot on every frame.
+ * <p>
+ * A wave script is a small text resource with one spawn event per line:
+ * </p>
+ * <pre>
+ * # frame  type   formation  count  [y]   [spacing]
+ * max    5        # at most 5 enemies on screen; a due event waits until its whole formation fits
+ * repeat 240      # the script starts over every 240 frames
+ * 0      basic  random  2
+ * 60     basic  line    3     0.2
+ * 120    heavy  vee     5     0.5   100
+ * </pre>
+ * <p>
+ * The type names an {@link EnemyFactory} provided by the level, the formation places the enemies of the event
+ * relative to the height {@code y}, given as a fraction of the enemy area, and {@code spacing} is the distance
+ * between neighbouring enemies in pixels. The script is parsed once, when the level is built, into arrays sorted by
+ * frame. Each frame {@link #update(int, Consumer)} only compares the frame of the next event with the current frame,
+ * so nothing is done when no event is due.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/manager/WaveScheduler.java">WaveScheduler.java</a>
+ */
+public class WaveScheduler {
+
+    /**
+     * Creates an enemy of one type at a position.
+     */
+    @FunctionalInterface
+    public interface EnemyFactory {
+
+        /**
+         * Creates an enemy.
+         *
+         * @param x The initial X-coordinate of the enemy.
+         * @param y The initial Y-coordinate of the enemy.
+         * @return The new enemy.
+         */
+        ActiveActorDestructible create(double x, double y);
+    }
+
+    /**
+     * The ways the enemies of a spawn event are placed.
+     */
+    public enum Formation {
+        /**
+         * Each enemy at a random height; {@code y} and {@code spacing} are ignored.
+         */
+        RANDOM(0),
+
+        /**
+         * A vertical line going down from {@code y}.
+         */
+        LINE(90),
+
+        /**
+         * A horizontal queue at height {@code y}, entering one after the other.
+         */
+        ROW(200),
+
+        /**
+         * A V opening to the right, led by an enemy at height {@code y}.
+         */
+        VEE(100);
+
+        /**
+         * Distance between neighbouring enemies in pixels when the script does not give one.
+         */
+        private final double defaultSpacing;
+
+        /**
+         * Constructs a formation.
+         *
+         * @param defaultSpacing The default distance between neighbouring enemies in pixels.
+         */
+        Formation(double defaultSpacing) {
+            this.defaultSpacing = defaultSpacing;
+        }
+    }
+
+    /**
+     * Frames of the spawn events, sorted in ascending order.
+     */
+    private final int[] eventFrames;
+
+    /**
+     * Spawn events, in the order of {@link #eventFrames}.
+     */
+    private final SpawnEvent[] events;
+
+    /**
+     * Number of frames after which the script starts over, or 0 if it runs only once.
+     */
+    private final int repeatPeriod;
+
+    /**
+     * Maximum number of enemies on screen; a due event waits until all its enemies fit within it.
+     */
+    private final int maxEnemies;
+
+    /**
+     * X-coordinate at which enemies enter the screen.
+     */
+    private final double spawnX;
+
+    /**
+     * Largest Y-coordinate an enemy may be spawned at.
+     */
+    private final double maxY;
+
+    /**
+     * Source of randomness for enemies in the random formation, the generator of the level.
+     */
+    private final GameRandom random;
+
+    /**
+     * Index of the next spawn event.
+     */
+    private int cursor;
+
+    /**
+     * Frames elapsed since the script (re)started.
+     */
+    private int frame;
+
+    /**
+     * Constructs a {@code WaveScheduler} from parsed spawn events.
+     *
+     * @param events       The spawn events, in any order.
+     * @param repeatPeriod The number of frames after which the script starts over, or 0.
+     * @param maxEnemies   The maximum number of enemies on screen.
+     * @param spawnX       The X-coordinate at which enemies enter the screen.
+     * @param maxY         The largest Y-coordinate an enemy may be spawned at.
+     * @param random       The source of randomness for enemies in the random formation.
+     */
+    private WaveScheduler(List<SpawnEvent> events, int repeatPeriod, int maxEnemies, double spawnX, double maxY,
+                          GameRandom random) {
+        List<SpawnEvent> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparingInt(event -> event.frame)); // Stable: events of one frame keep script order
+        this.events = sorted.toArray(new SpawnEvent[0]);
+        this.eventFrames = new int[this.events.length];
+        for (int i = 0; i < this.events.length; i++) {
+            eventFrames[i] = this.events[i].frame;
+        }
+        this.repeatPeriod = repeatPeriod;
+        this.maxEnemies = maxEnemies;
+        this.spawnX = spawnX;
+        this.maxY = maxY;
+        this.random = random;
+    }
+
+    /**
+     * Loads a wave script from a resource.
+     *
+     * @param resourcePath The absolute resource path of the script.
+     * @param types        The enemy factories keyed by the type names used in the script.
+     * @param spawnX       The X-coordinate at which enemies enter the screen, usually the screen width.
+     * @param maxY         The largest Y-coordinate an enemy may be spawned at.
+     * @param random       The source of randomness for enemies in the random formation.
+     * @return The scheduler of the script.
+     * @throws IllegalArgumentException if the script is missing or invalid.
+     */
+    public static WaveScheduler load(String resourcePath, Map<String, EnemyFactory> types, double spawnX, double maxY,
+                                     GameRandom random) {
+        InputStream stream = WaveScheduler.class.getResourceAsStream(resourcePath);
+        if (stream == null) {
+            throw new IllegalArgumentException("Wave script not found: " + resourcePath);
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read wave script " + resourcePath, e);
+        }
+        return parse(lines, types, spawnX, maxY, random);
+    }
+
+    /**
+     * Parses the lines of a wave script.
+     *
+     * @param lines  The lines of the script.
+     * @param types  The enemy factories keyed by the type names used in the script.
+     * @param spawnX The X-coordinate at which enemies enter the screen.
+     * @param maxY   The largest Y-coordinate an enemy may be spawned at.
+     * @param random The source of randomness for enemies in the random formation.
+     * @return The scheduler of the script.
+     * @throws IllegalArgumentException if a line is invalid, naming the line.
+     */
+    static WaveScheduler parse(List<String> lines, Map<String, EnemyFactory> types, double spawnX, double maxY,
+                               GameRandom random) {
+        List<SpawnEvent> events = new ArrayList<>();
+        int repeatPeriod = 0;
+        int maxEnemies = Integer.MAX_VALUE;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            String[] tokens = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (tokens[0].isEmpty()) {
+                continue;
+            }
+            try {
+                switch (tokens[0]) {
+                    case "max":
+                        maxEnemies = positive(tokens, 1);
+                        break;
+                    case "repeat":
+                        repeatPeriod = positive(tokens, 1);
+                        break;
+                    default:
+                        events.add(parseEvent(tokens, types));
+                        break;
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Wave script line " + (i + 1) + " \"" + line.trim() + "\": " + e.getMessage(), e);
+            }
+        }
+        for (SpawnEvent event : events) {
+            if (repeatPeriod > 0 && event.frame >= repeatPeriod) {
+                throw new IllegalArgumentException("Spawn event at frame " + event.frame + " lies beyond the repeat period " + repeatPeriod);
+            }
+            if (event.count > maxEnemies) {
+                // The event could never fit on screen and would hold back the rest of the script forever
+                throw new IllegalArgumentException("Spawn event at frame " + event.frame + " with " + event.count
+                        + " enemies exceeds the maximum of " + maxEnemies + " enemies on screen");
+            }
+        }
+        return new WaveScheduler(events, repeatPeriod, maxEnemies, spawnX, maxY, random);
+    }
+
+    /**
+     * Advances the script by one frame and spawns the enemies of the events that are due, as long as there is
+     * room on screen. An event is only spawned once its whole formation fits within the maximum number of enemies;
+     * until then it waits, together with the events after it, for a later frame.
+     *
+     * @param enemiesOnScreen The number of enemies currently on screen.
+     * @param spawn           Adds a new enemy to the level.
+     * @return The number of enemies spawned.
+     */
+    public int update(int enemiesOnScreen, Consumer<ActiveActorDestructible> spawn) {
+        if (cursor == events.length && repeatPeriod > 0 && frame >= repeatPeriod) {
+            cursor = 0;
+            frame = 0;
+        }
+        int spawned = 0;
+        while (cursor < events.length && eventFrames[cursor] <= frame
+                && enemiesOnScreen + spawned + events[cursor].count <= maxEnemies) {
+            spawned += spawnFormation(events[cursor++], spawn);
+        }
+        frame++;
+        return spawned;
+    }
+
+    /**
+     * Tells whether the script has spawned all its events and will not start over.
+     *
+     * @return {@code true} if no more enemies will be spawned.
+     */
+    public boolean isFinished() {
+        return cursor == events.length && repeatPeriod == 0;
+    }
+
+    /**
+     * Spawns the enemies of an event in its formation.
+     *
+     * @param event The spawn event.
+     * @param spawn Adds a new enemy to the level.
+     * @return The number of enemies spawned.
+     */
+    private int spawnFormation(SpawnEvent event, Consumer<ActiveActorDestructible> spawn) {
+        double y = event.y * maxY;
+        for (int i = 0; i < event.count; i++) {
+            double x = spawnX;
+            double enemyY;
+            switch (event.formation) {
+                case LINE:
+                    enemyY = y + i * event.spacing;
+                    break;
+                case ROW:
+                    x += i * event.spacing;
+                    enemyY = y;
+                    break;
+                case VEE:
+                    int rank = (i + 1) / 2; // 0 for the leader, then two enemies per rank
+                    x += rank * event.spacing;
+                    enemyY = y + (i % 2 == 1 ? -rank : rank) * event.spacing;
+                    break;
+                default:
+                    enemyY = random.nextDouble() * maxY;
+                    break;
+            }
+            spawn.accept(event.factory.create(x, Math.max(0, Math.min(maxY, enemyY))));
+        }
+        return event.count;
+    }
+
+    /**
+     * Parses a spawn event line: {@code frame type formation count [y] [spacing]}.
+     *
+     * @param tokens The tokens of the line.
+     * @param types  The enemy factories keyed by type name.
+     * @return The spawn event.
+     */
+    private static SpawnEvent parseEvent(String[] tokens, Map<String, EnemyFactory> types) {
+        if (tokens.length < 4 || tokens.length > 6) {
+            throw new IllegalArgumentException("expected: frame type formation count [y] [spacing]");
+        }
+        int frame = Integer.parseInt(tokens[0]);
+        if (frame < 0) {
+            throw new IllegalArgumentException("frame must not be negative");
+        }
+        EnemyFactory factory = types.get(tokens[1]);
+        if (factory == null) {
+            throw new IllegalArgumentException("unknown enemy type " + tokens[1]);
+        }
+        Formation formation = Formation.valueOf(tokens[2].toUpperCase(Locale.ROOT));
+        int count = positive(tokens, 3);
+        double y = tokens.length > 4 ? Double.parseDouble(tokens[4]) : 0.5;
+        if (y < 0 || y > 1) {
+            throw new IllegalArgumentException("y must be between 0 and 1");
+        }
+        double spacing = tokens.length > 5 ? Double.parseDouble(tokens[5]) : formation.defaultSpacing;
+        return new SpawnEvent(frame, factory, formation, count, y, spacing);
+    }
+
+    /**
+     * Parses a positive integer token.
+     *
+     * @param tokens The tokens of the line.
+     * @param index  The index of the token.
+     * @return The parsed value.
+     */
+    private static int positive(String[] tokens, int index) {
+        if (tokens.length <= index) {
+            throw new IllegalArgumentException("missing value");
+        }
+        int value = Integer.parseInt(tokens[index]);
+        if (value <= 0) {
+            throw new IllegalArgumentException("value must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * The {@code SpawnEvent} class holds one parsed line of a wave script.
+     */
+    private static final class SpawnEvent {
+
+        /**
+         * The frame, counted from the start of the script, at which the event is due.
+         */
+        private final int frame;
+
+        /**
+         * Creates the enemies of the event.
+         */
+        private final EnemyFactory factory;
+
+        /**
+         * The placement of the enemies.
+         */
+        private final Formation formation;
+
+        /**
+         * The number of enemies.
+         */
+        private final int count;
+
+        /**
+         * The height of the formation as a fraction of the enemy area.
+         */
+        private final double y;
+
+        /**
+         * The distance between neighbouring enemies in pixels.
+         */
+        private final double spacing;
+
+        /**
+         * Constructs a {@code SpawnEvent}.
+         *
+         * @param frame     The frame at which the event is due.
+         * @param factory   Creates the enemies.
+         * @param formation The placement of the enemies.
+         * @param count     The number of enemies.
+         * @param y         The height of the formation as a fraction of the enemy area.
+         * @param spacing   The distance between neighbouring enemies in pixels.
+         */
+        private SpawnEvent(int frame, EnemyFactory factory, Formation formation, int count, double y, double spacing) {
+            this.frame = frame;
+            this.factory = factory;
+            this.formation = formation;
+            this.count = count;
+            this.y = y;
+            this.spacing = spacing;
+        }
+    }
+}
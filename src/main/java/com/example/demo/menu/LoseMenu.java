@@ -1,6 +1,8 @@
 package com.example.demo.menu;
 
 import com.example.demo.manager.AudioManager;
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.ImageCache;
 import com.example.demo.manager.ScaleUtils;
 import com.example.demo.controller.Controller;
 import javafx.application.Platform;
@@ -8,7 +10,6 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -19,7 +20,6 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
-import java.util.Objects;
 
 /**
  * The {@code LoseMenu} class displays a "Game Over" screen with options to restart the game or quit.
@@ -30,6 +30,11 @@ import java.util.Objects;
  */
 public class LoseMenu {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(LoseMenu.class);
+
     /**
      * The relative path to the background image for the menu.
      */
@@ -41,12 +46,28 @@ public class LoseMenu {
     private final Scene currentScene;
 
     /**
-     * Constructs a {@code LoseMenu} with a reference to the current scene.
+     * The name of the level the game is restarted from, or {@code null} to restart from the first level.
+     */
+    private final String retryLevel;
+
+    /**
+     * Constructs a {@code LoseMenu} with a reference to the current scene, restarting the game from the first level.
      *
      * @param currentScene The current scene where the game over menu will be displayed.
      */
     public LoseMenu(Scene currentScene) {
+        this(currentScene, null);
+    }
+
+    /**
+     * Constructs a {@code LoseMenu} restarting the game from the given level.
+     *
+     * @param currentScene The current scene where the game over menu will be displayed.
+     * @param retryLevel   The name of the level the game is restarted from, or {@code null} for the first level.
+     */
+    public LoseMenu(Scene currentScene, String retryLevel) {
         this.currentScene = currentScene;
+        this.retryLevel = retryLevel;
     }
 
     /**
@@ -55,9 +76,7 @@ public class LoseMenu {
      */
     public void show() {
         AudioManager.getInstance().playLoseEffect();
-        ImageView backgroundImage = new ImageView(
-                new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm())
-        );
+        ImageView backgroundImage = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME));
         backgroundImage.setFitWidth(currentScene.getWidth());
         backgroundImage.setFitHeight(currentScene.getHeight());
         backgroundImage.setPreserveRatio(false);
@@ -92,15 +111,20 @@ public class LoseMenu {
     }
 
     /**
-     * Restarts the game by re-initializing the game's main controller and resuming the background music.
+     * Restarts the game from the retry level by re-initializing the game's main controller and resuming the background music.
      */
     private void restartGame() {
         AudioManager.getInstance().playButtonClickEffect();
         try {
-            new Controller((Stage) currentScene.getWindow()).launchGame();
+            Controller controller = new Controller((Stage) currentScene.getWindow());
+            if (retryLevel != null) {
+                controller.launchGame(retryLevel);
+            } else {
+                controller.launchGame();
+            }
             AudioManager.getInstance().playBackgroundMusic();
         } catch (Exception ex) {
-            ex.printStackTrace();
+            LOGGER.error("Failed to restart the game", ex);
         }
     }
 
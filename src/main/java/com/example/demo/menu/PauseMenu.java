@@ -1,5 +1,7 @@
 package com.example.demo.menu;
 
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.ImageCache;
 import com.example.demo.manager.ScaleUtils;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.controller.Controller;
@@ -12,7 +14,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Slider;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -22,7 +23,6 @@ import javafx.scene.text.Text;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
-import java.util.Objects;
 
 /**
  * Class representing a pause menu in the game.
@@ -33,6 +33,11 @@ import java.util.Objects;
  */
 public class PauseMenu {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(PauseMenu.class);
+
     /**
      * Path to the background image for the pause menu.
      */
@@ -58,6 +63,11 @@ public class PauseMenu {
      */
     private final LevelParent levelParent;
 
+    /**
+     * The volume settings window, or {@code null} if it has not been opened.
+     */
+    private Stage settingsStage;
+
     /**
      * Constructor to initialize the PauseMenu.
      *
@@ -78,9 +88,7 @@ public class PauseMenu {
      */
     public void show() {
         AudioManager.getInstance().pauseBackgroundMusic();
-        ImageView backgroundImage = new ImageView(
-                new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm())
-        );
+        ImageView backgroundImage = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME));
         backgroundImage.setFitWidth(gameScene.getWidth());
         backgroundImage.setFitHeight(gameScene.getHeight());
         backgroundImage.setPreserveRatio(false);
@@ -106,7 +114,7 @@ public class PauseMenu {
             try {
                 restartGame();
             } catch (Exception ex) {
-                ex.printStackTrace();
+                LOGGER.error("Failed to restart the game", ex);
             }
         });
         quitButton.setOnAction(e -> quitGame());
@@ -121,7 +129,7 @@ public class PauseMenu {
         VBox vbox = new VBox(contentVBox);
         vbox.setAlignment(Pos.CENTER);
         ScaleUtils.updateScale();
-        System.out.println(ScaleUtils.scale+" " + ScaleUtils.incrementX+" " + ScaleUtils.incrementY);
+        LOGGER.debug(() -> "Scale: " + ScaleUtils.scale + " " + ScaleUtils.incrementX + " " + ScaleUtils.incrementY);
         vbox.setPadding(new Insets(ScaleUtils.incrementY, ScaleUtils.incrementX, 0, 0));
 
         StackPane root = new StackPane(backgroundImage, vbox);
@@ -148,12 +156,23 @@ public class PauseMenu {
      */
     private void restartGame() throws Exception {
         AudioManager.getInstance().playButtonClickEffect();
-        System.out.println("Restarting the game...");
+        LOGGER.info("Restarting the game...");
         AudioManager.getInstance().playBackgroundMusic();
-        levelParent.cleanUp();
+        levelParent.dispose();
         new Controller(stage).launchGame();
     }
 
+    /**
+     * Disposes of the pause menu when its level is left, closing the volume settings window if it is still open
+     * so that it does not outlive the level.
+     */
+    public void dispose() {
+        if (settingsStage != null) {
+            settingsStage.close();
+            settingsStage = null;
+        }
+    }
+
     /**
      * Quits the game and closes the application platform.
      */
@@ -320,7 +339,7 @@ public class PauseMenu {
         scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER); // Never show a horizontal scrollbar
 
         // Setting up the Scene and Stage
-        Stage settingsStage = new Stage();
+        settingsStage = new Stage();
         settingsStage.setTitle("Volume Settings");
         settingsStage.initModality(Modality.APPLICATION_MODAL); // Blocks user interaction with other windows
         settingsStage.initOwner(stage); // Assume 'mainStage' is your main application window
@@ -1,6 +1,8 @@
 package com.example.demo.menu;
 
 import com.example.demo.manager.AudioManager;
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.ImageCache;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -9,7 +11,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Slider;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -19,7 +20,6 @@ import javafx.scene.text.Text;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
-import java.util.Objects;
 
 /**
  * The StartMenu class provides the main menu interface for the Sky Battle game.
@@ -32,6 +32,11 @@ import java.util.Objects;
  */
 public class StartMenu {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(StartMenu.class);
+
     /**
      * The relative path to the background image for the menu.
      */
@@ -110,7 +115,7 @@ public class StartMenu {
         VBox contentLayout = new VBox(50, title, buttonLayout);
         contentLayout.setStyle("-fx-alignment: center; -fx-padding: 20;");
 
-        ImageView backgroundImage = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImage = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME));
         backgroundImage.setFitWidth(stage.getWidth());
         backgroundImage.setFitHeight(stage.getHeight());
         backgroundImage.setPreserveRatio(false);
@@ -124,7 +129,7 @@ public class StartMenu {
     private void showTutorial() {
         AudioManager.getInstance().playButtonClickEffect();
         // Use the same background image
-        ImageView backgroundImage = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImage = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME));
         backgroundImage.setFitWidth(stage.getWidth());
         backgroundImage.setFitHeight(stage.getHeight());
         backgroundImage.setPreserveRatio(false);
@@ -197,7 +202,7 @@ public class StartMenu {
             AudioManager.getInstance().playButtonClickEffect();
             new com.example.demo.controller.Controller(stage).launchGame();
         } catch (Exception ex) {
-            ex.printStackTrace();
+            LOGGER.error("Failed to start the game", ex);
         }
     }
 
@@ -1,14 +1,16 @@
 package com.example.demo.menu;
 
 import com.example.demo.manager.AudioManager;
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.ImageCache;
 import com.example.demo.manager.ScaleUtils;
 import com.example.demo.controller.Controller;
 import javafx.application.Platform;
+import javafx.event.EventHandler;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
@@ -18,7 +20,6 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
-import java.util.Objects;
 
 /**
  * The {@code WinMenu} class displays a victory screen with options to either restart the game or exit.
@@ -29,6 +30,11 @@ import java.util.Objects;
  */
 public class WinMenu {
 
+    /**
+     * Logger of the class.
+     */
+    private static final GameLogger LOGGER = GameLogger.getLogger(WinMenu.class);
+
     /**
      * The relative path to the background image for the menu.
      */
@@ -39,6 +45,15 @@ public class WinMenu {
      */
     private final Scene currentScene;
 
+    /**
+     * Event filter blocking the space key from activating the buttons, added to the scene while the menu is shown.
+     */
+    private final EventHandler<KeyEvent> spaceBlocker = event -> {
+        if (event.getCode() == javafx.scene.input.KeyCode.SPACE) {
+            event.consume();
+        }
+    };
+
     /**
      * Constructs a {@code WinMenu} with a reference to the current scene.
      *
@@ -54,9 +69,7 @@ public class WinMenu {
      */
     public void show() {
         AudioManager.getInstance().playWinEffect();
-        ImageView backgroundImage = new ImageView(
-                new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm())
-        );
+        ImageView backgroundImage = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME));
         backgroundImage.setFitWidth(currentScene.getWidth());
         backgroundImage.setFitHeight(currentScene.getHeight());
         backgroundImage.setPreserveRatio(false);
@@ -83,26 +96,31 @@ public class WinMenu {
 
         StackPane root = new StackPane(backgroundImage, vbox);
 
-        // Add an event filter to block the space key from activating buttons
-        currentScene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
-            if (event.getCode() == javafx.scene.input.KeyCode.SPACE) {
-                event.consume();
-            }
-        });
+        // Add an event filter to block the space key from activating buttons, once however often the menu is shown
+        currentScene.removeEventFilter(KeyEvent.KEY_PRESSED, spaceBlocker);
+        currentScene.addEventFilter(KeyEvent.KEY_PRESSED, spaceBlocker);
 
         currentScene.setRoot(root);
     }
 
     /**
-     * Restarts the game by re-initializing the game's main controller and resuming the background music.
+     * Disposes of the win menu, removing its event filter from the scene.
+     */
+    public void dispose() {
+        currentScene.removeEventFilter(KeyEvent.KEY_PRESSED, spaceBlocker);
+    }
+
+    /**
+     * Restarts the game by disposing of the menu, re-initializing the game's main controller and resuming the background music.
      */
     private void restartGame() {
         AudioManager.getInstance().playButtonClickEffect();
+        dispose();
         try {
             new Controller((Stage) currentScene.getWindow()).launchGame();
             AudioManager.getInstance().playBackgroundMusic();
         } catch (Exception ex) {
-            ex.printStackTrace();
+            LOGGER.error("Failed to restart the game", ex);
         }
     }
 
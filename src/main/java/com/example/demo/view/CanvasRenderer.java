@@ -0,0 +1,184 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.manager.ProjectileStore;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CanvasRenderer} class draws the actors of a level onto a single {@link Canvas} instead of
+ * showing each of them as a node of the scene graph. It is used by levels in {@link RenderMode#CANVAS}.
+ * <p>
+ * The actors are read from the level's actor lists, drawn layer by layer in the order the lists were added,
+ * with the image, size and position their {@link javafx.scene.image.ImageView} would have. Positions are
+ * interpolated between the previous and the current simulation step, so movement stays smooth when the
+ * display refreshes faster than the simulation runs.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/CanvasRenderer.java">CanvasRenderer.java</a>
+ */
+public class CanvasRenderer {
+
+    /**
+     * The canvas all actors are drawn onto.
+     */
+    private final Canvas canvas;
+
+    /**
+     * The graphics context of the canvas.
+     */
+    private final GraphicsContext graphics;
+
+    /**
+     * The actor lists to draw, from the bottom layer to the top layer.
+     */
+    private final List<List<? extends ActiveActor>> layers = new ArrayList<>();
+
+    /**
+     * The projectile stores to draw above all actor layers, in the order they were added.
+     */
+    private final List<ProjectileStore> projectileStores = new ArrayList<>();
+
+    /**
+     * The images of the projectile stores, at the same index as their store.
+     */
+    private final List<Image> projectileImages = new ArrayList<>();
+
+    /**
+     * Source rectangles of the projectile images, with {@code null} for a whole image, one per projectile store.
+     */
+    private final List<Rectangle2D> projectileViewports = new ArrayList<>();
+
+    /**
+     * Constructs a {@code CanvasRenderer} with a canvas of the given size.
+     *
+     * @param width  The width of the canvas, usually the screen width.
+     * @param height The height of the canvas, usually the screen height.
+     */
+    public CanvasRenderer(double width, double height) {
+        canvas = new Canvas(width, height);
+        canvas.setMouseTransparent(true); // Input is handled by the background
+        graphics = canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Adds a list of actors to be drawn above the lists added before. The list is read on every frame,
+     * so actors added to or removed from it are picked up automatically.
+     *
+     * @param actors The actors to draw.
+     */
+    public void addLayer(List<? extends ActiveActor> actors) {
+        layers.add(actors);
+    }
+
+    /**
+     * Adds a store of projectiles to be drawn above all actor layers, each projectile with the given image
+     * stretched to its size. The store keeps its own previous positions, so it needs no call to
+     * {@link #savePreviousPositions()}.
+     *
+     * @param store The projectiles to draw.
+     * @param image The image drawn for every projectile of the store.
+     */
+    public void addProjectileLayer(ProjectileStore store, Image image) {
+        addProjectileLayer(store, image, null);
+    }
+
+    /**
+     * Adds a store of projectiles to be drawn above all actor layers, each projectile showing part of an image,
+     * such as a sprite in the {@link com.example.demo.manager.TextureAtlas}.
+     *
+     * @param store    The projectiles to draw.
+     * @param image    The image containing the sprite of the projectiles.
+     * @param viewport The rectangle of the sprite within the image, or {@code null} for the whole image.
+     */
+    public void addProjectileLayer(ProjectileStore store, Image image, Rectangle2D viewport) {
+        projectileStores.add(store);
+        projectileImages.add(image);
+        projectileViewports.add(viewport);
+    }
+
+    /**
+     * Records the current position of every actor as its position at the start of the next simulation step.
+     * This method should be called before each simulation step.
+     */
+    public void savePreviousPositions() {
+        for (List<? extends ActiveActor> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                layer.get(i).savePreviousPosition();
+            }
+        }
+    }
+
+    /**
+     * Clears the canvas and draws all actors at their interpolated positions.
+     *
+     * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1).
+     */
+    public void render(double alpha) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (List<? extends ActiveActor> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                draw(layer.get(i), alpha);
+            }
+        }
+        for (int i = 0; i < projectileStores.size(); i++) {
+            draw(projectileStores.get(i), projectileImages.get(i), projectileViewports.get(i), alpha);
+        }
+    }
+
+    /**
+     * Returns the canvas the actors are drawn onto, to be added to the scene.
+     *
+     * @return The {@link Canvas} of this renderer.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Draws a single actor with the size its image view would have, through its viewport if it has one.
+     *
+     * @param actor The actor to draw.
+     * @param alpha The interpolation factor between the previous and the current simulation step.
+     */
+    private void draw(ActiveActor actor, double alpha) {
+        Image image = actor.getImage();
+        if (image == null || !actor.isVisible()) {
+            return;
+        }
+        Bounds size = actor.getLayoutBounds();
+        Rectangle2D viewport = actor.getViewport();
+        if (viewport == null) {
+            graphics.drawImage(image, actor.getInterpolatedX(alpha), actor.getInterpolatedY(alpha), size.getWidth(), size.getHeight());
+        } else {
+            graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                    actor.getInterpolatedX(alpha), actor.getInterpolatedY(alpha), size.getWidth(), size.getHeight());
+        }
+    }
+
+    /**
+     * Draws every projectile of a store with the given image.
+     *
+     * @param store    The projectiles to draw.
+     * @param image    The image drawn for every projectile.
+     * @param viewport The rectangle of the sprite within the image, or {@code null} for the whole image.
+     * @param alpha    The interpolation factor between the previous and the current simulation step.
+     */
+    private void draw(ProjectileStore store, Image image, Rectangle2D viewport, double alpha) {
+        for (int i = 0; i < store.size(); i++) {
+            if (viewport == null) {
+                graphics.drawImage(image, store.getInterpolatedX(i, alpha), store.getInterpolatedY(i, alpha),
+                        store.getWidth(i), store.getHeight(i));
+            } else {
+                graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                        store.getInterpolatedX(i, alpha), store.getInterpolatedY(i, alpha), store.getWidth(i), store.getHeight(i));
+            }
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.demo.view;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.TextureAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
 
 /**
  * The {@code HeartDisplay} class represents a visual health display for the player
@@ -78,10 +78,14 @@ public class HeartDisplay {
 
 	/**
 	 * Populates the container with the specified number of heart images.
+	 * In {@link HeadlessMode} the hearts are created without their image.
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME)).toExternalForm()));
+			ImageView heart = new ImageView();
+			if (!HeadlessMode.isEnabled()) {
+				TextureAtlas.getInstance().apply(heart, HEART_IMAGE_NAME);
+			}
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
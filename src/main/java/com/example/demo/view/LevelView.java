@@ -1,5 +1,6 @@
 package com.example.demo.view;
 
+import com.example.demo.manager.PerformanceMonitor;
 import javafx.scene.Group;
 
 /**
@@ -36,6 +37,10 @@ public class LevelView {
 	 */
 	private final HeartDisplay heartDisplay;
 
+	/**
+	 * The overlay showing the performance statistics of the level, or {@code null} until it is first shown.
+	 */
+	private PerformanceOverlay performanceOverlay;
 
 	/**
 	 * Constructs a {@code LevelView} with the specified root group and the number of hearts to display.
@@ -77,4 +82,36 @@ public class LevelView {
 	public HeartDisplay getHeartDisplay() {
 		return heartDisplay;
 	}
+
+	/**
+	 * Shows the performance overlay if it is hidden, and hides it otherwise. The overlay is created the first
+	 * time it is shown, so levels that never show it do not pay for it.
+	 *
+	 * @param monitor The {@link PerformanceMonitor} of the level, enabled only while the overlay is shown.
+	 */
+	public void togglePerformanceOverlay(PerformanceMonitor monitor) {
+		if (performanceOverlay == null) {
+			performanceOverlay = new PerformanceOverlay(monitor);
+			root.getChildren().add(performanceOverlay.getContainer());
+		}
+		performanceOverlay.setVisible(!performanceOverlay.isVisible());
+	}
+
+	/**
+	 * Refreshes the performance overlay once per displayed frame, if it is shown.
+	 */
+	public void updatePerformanceOverlay() {
+		if (performanceOverlay != null) {
+			performanceOverlay.update();
+		}
+	}
+
+	/**
+	 * Returns the performance overlay.
+	 *
+	 * @return The {@code PerformanceOverlay}, or {@code null} if it has never been shown.
+	 */
+	public PerformanceOverlay getPerformanceOverlay() {
+		return performanceOverlay;
+	}
 }
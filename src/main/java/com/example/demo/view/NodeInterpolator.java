@@ -0,0 +1,61 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code NodeInterpolator} class smooths the movement of actors shown as nodes of the scene graph, the
+ * counterpart of {@link CanvasRenderer} for levels in {@link RenderMode#NODES}.
+ * <p>
+ * The simulation moves the actors in fixed steps. When the display refreshes at another rate than the simulation
+ * runs, each actor is offset from its simulated position to its position interpolated between the previous and the
+ * current step, see {@link ActiveActor#applyRenderOffset(double)}. The offset only moves the node on screen;
+ * positions and bounds used by the simulation stay those of the last step.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/NodeInterpolator.java">NodeInterpolator.java</a>
+ */
+public class NodeInterpolator {
+
+    /**
+     * The actor lists whose actors are interpolated.
+     */
+    private final List<List<? extends ActiveActor>> layers = new ArrayList<>();
+
+    /**
+     * Adds a list of actors to interpolate. The list is read on every frame, so actors added to or removed from it
+     * are picked up automatically.
+     *
+     * @param actors The actors to interpolate.
+     */
+    public void addLayer(List<? extends ActiveActor> actors) {
+        layers.add(actors);
+    }
+
+    /**
+     * Records the current position of every actor as its position at the start of the next simulation step.
+     * This method should be called before each simulation step.
+     */
+    public void savePreviousPositions() {
+        for (List<? extends ActiveActor> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                layer.get(i).savePreviousPosition();
+            }
+        }
+    }
+
+    /**
+     * Moves every actor on screen to its interpolated position.
+     *
+     * @param alpha The interpolation factor between the previous and the current simulation step, in the range [0, 1).
+     */
+    public void render(double alpha) {
+        for (List<? extends ActiveActor> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                layer.get(i).applyRenderOffset(alpha);
+            }
+        }
+    }
+}
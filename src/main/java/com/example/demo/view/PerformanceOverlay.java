@@ -0,0 +1,184 @@
+package com.example.demo.view;
+
+import com.example.demo.manager.PerformanceMonitor;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@code PerformanceOverlay} class shows the statistics collected by a {@link PerformanceMonitor} in the
+ * corner of the level: the frame rate, the simulation step time and its breakdown per stage, the registered
+ * actor counts and the heap and garbage collection figures.
+ * <p>
+ * The text is rebuilt only every {@value #REFRESH_INTERVAL_FRAMES} frames, into a reused {@link StringBuilder},
+ * so that showing the statistics does not distort the frame times it reports.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/PerformanceOverlay.java">PerformanceOverlay.java</a>
+ */
+public class PerformanceOverlay {
+
+	/**
+	 * Number of frames between two refreshes of the text, about half a second at 60 frames per second.
+	 */
+	private static final int REFRESH_INTERVAL_FRAMES = 30;
+
+	/**
+	 * The x-coordinate position of the overlay on the screen.
+	 */
+	private static final double X_POSITION = 5;
+
+	/**
+	 * The y-coordinate position of the overlay on the screen, below the heart display.
+	 */
+	private static final double Y_POSITION = 90;
+
+	/**
+	 * The monitor whose statistics are shown.
+	 */
+	private final PerformanceMonitor monitor;
+
+	/**
+	 * The container of the overlay, drawn with a semi-transparent background.
+	 */
+	private final VBox container;
+
+	/**
+	 * The text showing the statistics.
+	 */
+	private final Text text;
+
+	/**
+	 * Buffer the text is built in, reused across refreshes.
+	 */
+	private final StringBuilder builder = new StringBuilder(512);
+
+	/**
+	 * Number of frames since the text was last refreshed.
+	 */
+	private int framesSinceRefresh = REFRESH_INTERVAL_FRAMES;
+
+	/**
+	 * Constructs a {@code PerformanceOverlay} for a monitor. The overlay starts hidden.
+	 *
+	 * @param monitor The {@link PerformanceMonitor} whose statistics are shown.
+	 */
+	public PerformanceOverlay(PerformanceMonitor monitor) {
+		this.monitor = monitor;
+		this.text = new Text();
+		text.setFont(Font.font("Monospaced", 13));
+		text.setStyle("-fx-fill: white;");
+		this.container = new VBox(text);
+		container.setLayoutX(X_POSITION);
+		container.setLayoutY(Y_POSITION);
+		container.setStyle("-fx-padding: 6; -fx-background-color: rgba(0, 0, 0, 0.6);");
+		container.setMouseTransparent(true);
+		container.setVisible(false);
+	}
+
+	/**
+	 * Shows or hides the overlay, enabling the monitor only while the overlay is shown.
+	 *
+	 * @param visible {@code true} to show the overlay.
+	 */
+	public void setVisible(boolean visible) {
+		container.setVisible(visible);
+		monitor.setEnabled(visible);
+		framesSinceRefresh = REFRESH_INTERVAL_FRAMES;
+	}
+
+	/**
+	 * Checks whether the overlay is shown.
+	 *
+	 * @return {@code true} if the overlay is visible.
+	 */
+	public boolean isVisible() {
+		return container.isVisible();
+	}
+
+	/**
+	 * Records a display frame and refreshes the text when it is due. Has no effect while the overlay is hidden.
+	 */
+	public void update() {
+		if (!isVisible()) {
+			return;
+		}
+		monitor.recordFrame(System.nanoTime());
+		if (++framesSinceRefresh < REFRESH_INTERVAL_FRAMES) {
+			return;
+		}
+		framesSinceRefresh = 0;
+		text.setText(formatStatistics());
+	}
+
+	/**
+	 * Returns the node of the overlay, to be added to the scene.
+	 *
+	 * @return The container of the overlay.
+	 */
+	public VBox getContainer() {
+		return container;
+	}
+
+	/**
+	 * Builds the text of the overlay from the current statistics of the monitor.
+	 *
+	 * @return The formatted statistics.
+	 */
+	private String formatStatistics() {
+		builder.setLength(0);
+		builder.append("FPS   ").append(Math.round(monitor.getFramesPerSecond())).append('\n');
+		builder.append("Step  ");
+		appendMillis(monitor.getAverageStepMillis());
+		builder.append(" avg  ");
+		appendMillis(monitor.getMaxStepMillis());
+		builder.append(" max\n");
+		for (PerformanceMonitor.Stage stage : PerformanceMonitor.Stage.values()) {
+			builder.append("  ").append(stage.getLabel());
+			pad(stage.getLabel().length(), 12);
+			appendMillis(monitor.getAverageStageMillis(stage));
+			builder.append('\n');
+		}
+		for (int i = 0; i < monitor.getCounterCount(); i++) {
+			builder.append(monitor.getCounterName(i));
+			pad(monitor.getCounterName(i).length(), 14);
+			builder.append(monitor.getCounterValue(i)).append('\n');
+		}
+		builder.append("Heap  ").append(Math.round(PerformanceMonitor.getUsedHeapMegabytes()))
+				.append(" / ").append(Math.round(PerformanceMonitor.getMaxHeapMegabytes())).append(" MB\n");
+		builder.append("GC    ").append(PerformanceMonitor.getGcCount())
+				.append(" runs, ").append(PerformanceMonitor.getGcTimeMillis()).append(" ms");
+		return builder.toString();
+	}
+
+	/**
+	 * Appends a duration with three decimals.
+	 *
+	 * @param millis The duration in milliseconds.
+	 */
+	private void appendMillis(double millis) {
+		long micros = Math.round(millis * 1000);
+		builder.append(micros / 1000).append('.');
+		long fraction = micros % 1000;
+		if (fraction < 100) {
+			builder.append('0');
+		}
+		if (fraction < 10) {
+			builder.append('0');
+		}
+		builder.append(fraction).append(" ms");
+	}
+
+	/**
+	 * Appends spaces to align the next column.
+	 *
+	 * @param length The length of the text written since the start of the column.
+	 * @param width  The width of the column.
+	 */
+	private void pad(int length, int width) {
+		for (int i = length; i < width; i++) {
+			builder.append(' ');
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.demo.view;
+
+/**
+ * The {@code RenderMode} enum lists the ways a level can draw its actors.
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/RenderMode.java">RenderMode.java</a>
+ */
+public enum RenderMode {
+
+    /**
+     * Every actor is a node of the scene graph and is drawn by JavaFX itself.
+     */
+    NODES,
+
+    /**
+     * Actors are kept out of the scene graph and drawn onto a single canvas by the {@link CanvasRenderer}
+     * each frame, which scales to far more sprites on screen.
+     */
+    CANVAS
+}
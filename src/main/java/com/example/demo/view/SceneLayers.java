@@ -0,0 +1,163 @@
+package com.example.demo.view;
+
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The {@code SceneLayers} class splits the scene of a level into layers, one {@link Group} per category of
+ * nodes, stacked from bottom to top: the background, the actors (the user plane, the enemies and the
+ * projectiles, each in its own layer), the effects such as explosions and shields, and the HUD.
+ * <p>
+ * The stacking order of the layers is fixed when they are created, so nodes no longer need {@code toFront()}
+ * calls to stay visible, and adding or removing a node only changes the child list of its own small layer
+ * instead of the list of every node of the level. The HUD, which changes only when the player is hit, is
+ * cached as a bitmap so that it is not redrawn every frame.
+ * </p>
+ * <p>
+ * When the actors of a level are drawn onto a canvas, the actor layers are kept outside the scene and the
+ * canvas takes their place in the stack.
+ * </p>
+ *
+ * <p>
+ * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/SceneLayers.java">SceneLayers.java</a>
+ */
+public class SceneLayers {
+
+	/**
+	 * The root group of the level, holding the layers.
+	 */
+	private final Group root;
+
+	/**
+	 * Group holding the three actor layers. It is part of the scene unless the actors are drawn onto a canvas.
+	 */
+	private final Group actorLayer = new Group();
+
+	/**
+	 * Layer of the user plane.
+	 */
+	private final Group friendlyLayer = new Group();
+
+	/**
+	 * Layer of the enemy units.
+	 */
+	private final Group enemyLayer = new Group();
+
+	/**
+	 * Layer of the projectiles of the user and the enemies.
+	 */
+	private final Group projectileLayer = new Group();
+
+	/**
+	 * Layer of visual effects, such as explosions and shields, drawn above the actors.
+	 */
+	private final Group effectsLayer = new Group();
+
+	/**
+	 * Layer of the HUD, such as the hearts and health bars, drawn above everything else.
+	 */
+	private final Group hudLayer = new Group();
+
+	/**
+	 * Constructs the layers of a level and adds them to its root group.
+	 *
+	 * @param root          The root {@code Group} of the level.
+	 * @param actorsInScene {@code true} if the actors are scene graph nodes, {@code false} if they are drawn onto a canvas.
+	 */
+	public SceneLayers(Group root, boolean actorsInScene) {
+		this.root = root;
+		actorLayer.getChildren().addAll(friendlyLayer, enemyLayer, projectileLayer);
+		if (actorsInScene) {
+			root.getChildren().add(actorLayer);
+		}
+		root.getChildren().addAll(effectsLayer, hudLayer);
+		hudLayer.setCache(true);
+		hudLayer.setCacheHint(CacheHint.SPEED);
+	}
+
+	/**
+	 * Places the background below all layers. The background is expected to be static and is cached as a bitmap.
+	 *
+	 * @param background The background node.
+	 */
+	public void setBackground(Node background) {
+		background.setCache(true);
+		background.setCacheHint(CacheHint.SPEED);
+		root.getChildren().add(0, background);
+	}
+
+	/**
+	 * Places the canvas the actors are drawn onto right above the background, where the actor layers would be.
+	 *
+	 * @param canvas The canvas node.
+	 */
+	public void setActorCanvas(Node canvas) {
+		root.getChildren().add(root.getChildren().indexOf(effectsLayer), canvas);
+	}
+
+	/**
+	 * Removes every node from all layers.
+	 */
+	public void clear() {
+		friendlyLayer.getChildren().clear();
+		enemyLayer.getChildren().clear();
+		projectileLayer.getChildren().clear();
+		effectsLayer.getChildren().clear();
+		hudLayer.getChildren().clear();
+	}
+
+	/**
+	 * Returns the group holding the actor layers.
+	 *
+	 * @return The actor {@code Group}, outside the scene if the actors are drawn onto a canvas.
+	 */
+	public Group getActorLayer() {
+		return actorLayer;
+	}
+
+	/**
+	 * Returns the layer of the user plane.
+	 *
+	 * @return The friendly layer.
+	 */
+	public Group getFriendlyLayer() {
+		return friendlyLayer;
+	}
+
+	/**
+	 * Returns the layer of the enemy units.
+	 *
+	 * @return The enemy layer.
+	 */
+	public Group getEnemyLayer() {
+		return enemyLayer;
+	}
+
+	/**
+	 * Returns the layer of the projectiles.
+	 *
+	 * @return The projectile layer.
+	 */
+	public Group getProjectileLayer() {
+		return projectileLayer;
+	}
+
+	/**
+	 * Returns the layer of visual effects.
+	 *
+	 * @return The effects layer.
+	 */
+	public Group getEffectsLayer() {
+		return effectsLayer;
+	}
+
+	/**
+	 * Returns the layer of the HUD.
+	 *
+	 * @return The HUD layer.
+	 */
+	public Group getHudLayer() {
+		return hudLayer;
+	}
+}
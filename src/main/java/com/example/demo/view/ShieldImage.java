@@ -1,7 +1,9 @@
 package com.example.demo.view;
 
-import javafx.application.Platform;
-import javafx.scene.image.Image;
+import com.example.demo.manager.GameLogger;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.TextureAtlas;
+import com.example.demo.manager.UiDispatcher;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -15,6 +17,11 @@ import java.net.URL;
  * See the source code at <a href="https://github.com/TimZ21/CW2024/blob/master/src/main/java/com/example/demo/view/ShieldImage.java">ShieldImage.java</a>
  */
 public class ShieldImage {
+
+	/**
+	 * Logger of the class.
+	 */
+	private static final GameLogger LOGGER = GameLogger.getLogger(ShieldImage.class);
 	/**
 	 * Resource path for the shield image.
 	 */
@@ -31,6 +38,29 @@ public class ShieldImage {
 	 * Image view that actually displays the shield image.
 	 */
 	private ImageView shieldImageView;
+	/**
+	 * Latest X position requested for the shield, applied by {@link #applyPosition}.
+	 */
+	private volatile double targetX;
+	/**
+	 * Latest Y position requested for the shield, applied by {@link #applyPosition}.
+	 */
+	private volatile double targetY;
+	/**
+	 * Latest visibility requested for the shield, applied by {@link #applyVisibility}.
+	 */
+	private volatile boolean targetVisible;
+	/**
+	 * Update moving the container to the latest requested position, submitted to the {@link UiDispatcher}.
+	 */
+	private final Runnable applyPosition = () -> {
+		container.setLayoutX(targetX);
+		container.setLayoutY(targetY);
+	};
+	/**
+	 * Update showing or hiding the container as last requested, submitted to the {@link UiDispatcher}.
+	 */
+	private final Runnable applyVisibility = () -> container.setVisible(targetVisible);
 
 	/**
 	 * Constructs a {@code ShieldImage} with the specified initial position.
@@ -60,14 +90,15 @@ public class ShieldImage {
 
 	/**
 	 * Initializes and loads the shield image, setting up the visual properties such as size and opacity.
+	 * In {@link HeadlessMode} the image itself is not loaded.
 	 */
 	private void initializeShieldImage() {
 		shieldImageView = new ImageView();
 		URL imageUrl = getClass().getResource(IMAGE_NAME);
-		if (imageUrl != null) {
-			shieldImageView.setImage(new Image(imageUrl.toExternalForm()));
-		} else {
-			System.err.println("Error: Shield image not found at " + IMAGE_NAME);
+		if (imageUrl == null) {
+			LOGGER.error("Shield image not found at " + IMAGE_NAME);
+		} else if (!HeadlessMode.isEnabled()) {
+			TextureAtlas.getInstance().apply(shieldImageView, IMAGE_NAME);
 		}
 		shieldImageView.setFitHeight(SHIELD_SIZE);
 		shieldImageView.setFitWidth(SHIELD_SIZE);
@@ -77,35 +108,41 @@ public class ShieldImage {
 	}
 
 	/**
-	 * Updates the position of the shield on the JavaFX application thread.
+	 * Updates the position of the shield on the JavaFX application thread through the {@link UiDispatcher}.
+	 * Nothing is displayed in {@link HeadlessMode}, so the update is skipped.
 	 *
 	 * @param x the new X position for the shield
 	 * @param y the new Y position for the shield
 	 */
 	public void setPosition(double x, double y) {
-		Platform.runLater(() -> {
-			container.setLayoutX(x);
-			container.setLayoutY(y);
-		});
+		if (HeadlessMode.isEnabled()) {
+			return;
+		}
+		targetX = x;
+		targetY = y;
+		UiDispatcher.getInstance().submit(applyPosition);
 	}
 
 	/**
-	 * Makes the shield visible and ensures it is rendered in front of other elements.
+	 * Makes the shield visible. It is rendered in front of the actors because it is added to the effects layer of the scene.
 	 */
 	public void showShield() {
-		Platform.runLater(() -> {
-			container.setVisible(true);
-			container.toFront(); // Ensure the shield is rendered in front of other elements
-		});
+		if (HeadlessMode.isEnabled()) {
+			return;
+		}
+		targetVisible = true;
+		UiDispatcher.getInstance().submit(applyVisibility);
 	}
 
 	/**
 	 * Hides the shield by setting the container's visibility to false.
 	 */
 	public void hideShield() {
-		Platform.runLater(() -> {
-			container.setVisible(false);
-		});
+		if (HeadlessMode.isEnabled()) {
+			return;
+		}
+		targetVisible = false;
+		UiDispatcher.getInstance().submit(applyVisibility);
 	}
 
 	/**
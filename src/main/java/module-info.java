@@ -3,6 +3,7 @@ module com.example.demo {
     requires javafx.fxml;
     requires javafx.media;
     requires javafx.swing;
+    requires java.management;
 
     exports com.example.demo.controller;
     exports com.example.demo.view;
@@ -0,0 +1,104 @@
+package com.example.demo.actors;
+
+import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveActorTest {
+
+    // JavaFX computes bounds in parent in single precision
+    private static final double TOLERANCE = 1e-3;
+    private final GameRandom random = new GameRandom(42);
+
+    @BeforeEach
+    void setUp() {
+        // Actors are sized from their sprite metadata, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testCachedBoundsMatchBoundsInParent() {
+        EnemyPlane plane = new EnemyPlane(100, 200, random);
+
+        assertBoundsMatch(plane);
+        assertTrue(plane.getBoundsWidth() > 0);
+        assertTrue(plane.getBoundsHeight() > 0);
+    }
+
+    @Test
+    void testBoundsFollowMovement() {
+        EnemyPlane plane = new EnemyPlane(100, 200, random);
+        double minX = plane.getBoundsMinX();
+
+        plane.updatePosition();
+
+        assertTrue(plane.getBoundsMinX() < minX, "Enemy planes move to the left.");
+        assertBoundsMatch(plane);
+    }
+
+    @Test
+    void testBoundsFollowDirectPositionChanges() {
+        EnemyPlane plane = new EnemyPlane(100, 200, random);
+        plane.getBoundsMinX();
+
+        plane.setLayoutX(300);
+        assertBoundsMatch(plane);
+        plane.setTranslateY(-50);
+        assertBoundsMatch(plane);
+    }
+
+    @Test
+    void testIntersectsMatchesBounds() {
+        EnemyPlane plane = new EnemyPlane(100, 200, random);
+        EnemyPlane overlapping = new EnemyPlane(110, 210, random);
+        EnemyPlane touching = new EnemyPlane(100 + plane.getBoundsWidth(), 200, random);
+        EnemyPlane apart = new EnemyPlane(1000, 200, random);
+
+        assertTrue(plane.intersects(overlapping));
+        assertEquals(plane.getBoundsInParent().intersects(touching.getBoundsInParent()), plane.intersects(touching));
+        assertFalse(plane.intersects(apart));
+        assertFalse(apart.intersects(plane));
+    }
+
+    @Test
+    void testCollisionUsesHitboxes() {
+        BossProjectile fireball = new BossProjectile(100, 100);
+        double width = fireball.getBoundsWidth();
+        double height = fireball.getBoundsHeight();
+        // Overlaps only the flame trailing behind the head of the fireball
+        BossProjectile trailing = new BossProjectile(100 + width / 2, 100 - height / 2);
+
+        assertTrue(fireball.intersects(trailing));
+        assertFalse(fireball.collidesWith(trailing));
+        assertFalse(trailing.collidesWith(fireball));
+        assertTrue(fireball.collidesWith(new BossProjectile(110, 110)));
+    }
+
+    @Test
+    void testDefaultHitboxCoversBounds() {
+        EnemyPlane plane = new EnemyPlane(100, 100, random);
+
+        assertSame(Hitbox.FULL, plane.getHitbox());
+        assertTrue(plane.collidesWith(new EnemyPlane(100 + plane.getBoundsWidth(), 100, random)));
+    }
+
+    private void assertBoundsMatch(ActiveActor actor) {
+        Bounds bounds = actor.getBoundsInParent();
+        assertEquals(bounds.getMinX(), actor.getBoundsMinX(), TOLERANCE);
+        assertEquals(bounds.getMinY(), actor.getBoundsMinY(), TOLERANCE);
+        assertEquals(bounds.getMaxX(), actor.getBoundsMaxX(), TOLERANCE);
+        assertEquals(bounds.getMaxY(), actor.getBoundsMaxY(), TOLERANCE);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.actors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitboxTest {
+
+    @Test
+    void testFullBoxesTouchingEdgesIntersect() {
+        assertTrue(Hitbox.FULL.intersects(0, 0, 10, 10, Hitbox.FULL, 10, 0, 10, 10));
+        assertFalse(Hitbox.FULL.intersects(0, 0, 10, 10, Hitbox.FULL, 10.5, 0, 10, 10));
+    }
+
+    @Test
+    void testInsetBoxIgnoresPadding() {
+        Hitbox inset = Hitbox.box(0.25, 0.25, 0.25, 0.25); // Covers 25..75 of a 100 x 100 actor
+
+        assertFalse(inset.intersects(0, 0, 100, 100, Hitbox.FULL, 80, 0, 10, 10), "The padding should not be hit.");
+        assertTrue(inset.intersects(0, 0, 100, 100, Hitbox.FULL, 70, 70, 10, 10));
+        assertTrue(Hitbox.FULL.intersects(70, 70, 10, 10, inset, 0, 0, 100, 100), "The test should be symmetric.");
+    }
+
+    @Test
+    void testCircles() {
+        Hitbox circle = Hitbox.circle(0.5, 0.5, 0.5); // Radius 5 around the center of a 10 x 10 actor
+
+        assertTrue(circle.intersects(0, 0, 10, 10, circle, 10, 0, 10, 10), "Touching circles should intersect.");
+        assertFalse(circle.intersects(0, 0, 10, 10, circle, 8, 8, 10, 10), "Only the corners of the bounds overlap.");
+        assertTrue(circle.intersects(0, 0, 10, 10, circle, 6, 6, 10, 10));
+    }
+
+    @Test
+    void testCircleAgainstBox() {
+        Hitbox circle = Hitbox.circle(0.5, 0.5, 0.5);
+
+        assertFalse(circle.intersects(0, 0, 10, 10, Hitbox.FULL, 9, 9, 10, 10), "The corner of the box is outside the circle.");
+        assertFalse(Hitbox.FULL.intersects(9, 9, 10, 10, circle, 0, 0, 10, 10));
+        assertTrue(circle.intersects(0, 0, 10, 10, Hitbox.FULL, 9, 4, 10, 2));
+    }
+
+    @Test
+    void testCompoundHitWhenAnyBoxIsHit() {
+        // An L shape: a bar along the bottom and a post on the left of a 100 x 100 actor
+        Hitbox shape = Hitbox.compound(Hitbox.box(0, 0.8, 0, 0), Hitbox.box(0, 0, 0.8, 0));
+
+        assertTrue(shape.intersects(0, 0, 100, 100, Hitbox.FULL, 50, 90, 5, 5));
+        assertTrue(shape.intersects(0, 0, 100, 100, Hitbox.FULL, 10, 10, 5, 5));
+        assertFalse(shape.intersects(0, 0, 100, 100, Hitbox.FULL, 50, 10, 5, 5), "The empty corner should not be hit.");
+        assertFalse(Hitbox.circle(0.5, 0.5, 0.5).intersects(50, 10, 10, 10, shape, 0, 0, 100, 100));
+    }
+
+    @Test
+    void testInvalidHitboxesRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Hitbox.box(0.5, 0, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> Hitbox.box(-0.1, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Hitbox.circle(0.5, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> Hitbox.compound());
+        assertThrows(IllegalArgumentException.class, () -> Hitbox.compound(Hitbox.circle(0.5, 0.5, 0.5)));
+    }
+}
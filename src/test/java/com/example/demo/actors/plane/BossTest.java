@@ -1,6 +1,7 @@
 package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.manager.GameRandom;
 import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
 import javafx.scene.Group;
@@ -20,7 +21,7 @@ public class BossTest {
     void setUp() {
         new JFXPanel(); // Initialize JavaFX environment to handle JavaFX components
         root = new Group();
-        Platform.runLater(() -> boss = new Boss(root));
+        Platform.runLater(() -> boss = new Boss(root, new GameRandom(42)));
         try {
             Thread.sleep(200); // Ensure that the Boss is initialized in the JavaFX thread
         } catch (InterruptedException e) {
@@ -1,6 +1,7 @@
 package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.manager.GameRandom;
 import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,13 +13,14 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class EnemyPlaneTest {
     private EnemyPlane enemyPlane;
+    private final GameRandom random = new GameRandom(42);
 
 
     @BeforeEach
     void setUp() {
         new JFXPanel(); // Initialize JavaFX environment
         // Setting up an enemy plane at a known position
-        Platform.runLater(() -> enemyPlane = new EnemyPlane(100, 100));
+        Platform.runLater(() -> enemyPlane = new EnemyPlane(100, 100, random));
         try {
             Thread.sleep(200); // Wait for initialization on JavaFX thread
         } catch (InterruptedException e) {
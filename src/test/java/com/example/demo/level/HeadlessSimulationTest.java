@@ -0,0 +1,157 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import com.example.demo.manager.InputRecording;
+import com.example.demo.manager.KeyStateTracker;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessSimulationTest {
+
+    private static final String LEVEL_ONE = "com.example.demo.level.LevelOne";
+
+    private HeadlessSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        // No JavaFX toolkit is started, the simulation must run on its own
+        simulation = new HeadlessSimulation(750, 1300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation.close();
+    }
+
+    @Test
+    void testEnablesHeadlessMode() {
+        assertTrue(HeadlessMode.isEnabled());
+    }
+
+    @Test
+    void testCloseRestoresPreviousMode() {
+        try (HeadlessSimulation nested = new HeadlessSimulation(750, 1300)) {
+            assertTrue(HeadlessMode.isEnabled());
+        }
+        assertTrue(HeadlessMode.isEnabled(), "Closing a nested simulation should keep the outer one headless.");
+
+        simulation.close();
+        simulation.close();
+
+        assertFalse(HeadlessMode.isEnabled(), "Closing the simulation should restore the previous mode.");
+        assertThrows(IllegalStateException.class, () -> simulation.run(LEVEL_ONE, 1));
+    }
+
+    @Test
+    void testCloseRestoresPreviousRunSeed() {
+        GameRandom.getInstance().setRunSeed(5);
+
+        try (HeadlessSimulation seeded = new HeadlessSimulation(750, 1300, 42)) {
+            assertEquals(42, GameRandom.getInstance().getRunSeed());
+            seeded.run(LEVEL_ONE, 10);
+        }
+
+        assertEquals(5, GameRandom.getInstance().getRunSeed(), "Closing a seeded simulation should restore the previous run seed.");
+    }
+
+    @Test
+    void testCloseDisposesCurrentLevel() {
+        simulation.run(LEVEL_ONE, 10);
+        LevelParent level = simulation.getCurrentLevel();
+
+        simulation.close();
+
+        assertTrue(level.isDisposed());
+    }
+
+    @Test
+    void testStopsAtFrameBudget() throws Exception {
+        HeadlessSimulation.Result result = simulation.run(LEVEL_ONE, 10);
+
+        assertEquals(10, result.getFrames());
+        assertEquals(LEVEL_ONE, result.getFinalLevel());
+        assertNull(result.getOutcome(), "The game should still be running after 10 frames.");
+    }
+
+    @Test
+    void testSpawnsEnemiesWithoutScene() throws Exception {
+        simulation.run(LEVEL_ONE, 200);
+
+        assertTrue(simulation.getCurrentLevel().getCurrentNumberOfEnemies() > 0, "Enemies should spawn in headless mode.");
+    }
+
+    @Test
+    void testIdlePlayerLosesLevelOne() throws Exception {
+        HeadlessSimulation.Result result = simulation.run(LEVEL_ONE, 100_000);
+
+        assertSame(LevelParent.Outcome.LOST, result.getOutcome(), "A player that never moves or fires should lose.");
+        assertEquals(LEVEL_ONE, result.getFinalLevel());
+        assertTrue(result.getFrames() < 100_000);
+    }
+
+    @Test
+    void testBossLevelsRunHeadless() throws Exception {
+        for (String level : new String[]{"com.example.demo.level.LevelBoss", "com.example.demo.level.LevelFinalBoss"}) {
+            HeadlessSimulation.Result result = simulation.run(level, 500);
+            assertEquals(level, result.getFinalLevel());
+            assertTrue(result.getFrames() == 500 || result.getOutcome() == LevelParent.Outcome.LOST);
+        }
+    }
+
+    @Test
+    void testSameSeedReproducesRun() throws Exception {
+        for (String level : new String[]{LEVEL_ONE, "com.example.demo.level.LevelFinalBoss"}) {
+            HeadlessSimulation.Result first;
+            HeadlessSimulation.Result second;
+            try (HeadlessSimulation run = new HeadlessSimulation(750, 1300, 2024)) {
+                first = run.run(level, 100_000);
+            }
+            try (HeadlessSimulation run = new HeadlessSimulation(750, 1300, 2024)) {
+                second = run.run(level, 100_000);
+            }
+
+            assertEquals(first.getFrames(), second.getFrames(), "A run should be reproducible from its seed.");
+            assertSame(first.getOutcome(), second.getOutcome());
+        }
+    }
+
+    @Test
+    void testReplayPlaysOutIdentically() throws Exception {
+        InputRecording recording = scriptedRecording(LEVEL_ONE, 3000);
+
+        HeadlessSimulation.Result first = simulation.replay(recording);
+        int firstKills = simulation.getCurrentLevel().getUser().getNumberOfKills();
+        int firstHealth = simulation.getCurrentLevel().getUser().getHealth();
+        HeadlessSimulation.Result second = simulation.replay(recording);
+
+        assertTrue(firstKills > 0, "The recorded input should steer and fire the user plane.");
+        assertEquals(first.getFrames(), second.getFrames());
+        assertSame(first.getOutcome(), second.getOutcome());
+        assertEquals(firstKills, simulation.getCurrentLevel().getUser().getNumberOfKills());
+        assertEquals(firstHealth, simulation.getCurrentLevel().getUser().getHealth());
+    }
+
+    /**
+     * Builds a recording that sweeps the user plane up and down while tapping the fire key.
+     */
+    private static InputRecording scriptedRecording(String level, int steps) {
+        InputRecording recording = new InputRecording(2024, level);
+        for (int step = 0; step < steps; step++) {
+            KeyCode direction = (step / 90) % 2 == 0 ? KeyCode.UP : KeyCode.DOWN;
+            recording.add(step % 10 < 5
+                    ? KeyStateTracker.toKeyMask(direction, KeyCode.SPACE)
+                    : KeyStateTracker.toKeyMask(direction));
+        }
+        return recording;
+    }
+
+    @Test
+    void testUnknownLevel() {
+        assertThrows(IllegalArgumentException.class, () -> simulation.run("com.example.demo.level.Missing", 10));
+    }
+}
@@ -4,8 +4,8 @@ import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.Boss;
 import com.example.demo.actors.plane.UserPlane;
 import com.example.demo.view.LevelViewLevelBoss;
+import com.example.demo.manager.GameLoop;
 import javafx.animation.Animation;
-import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
@@ -23,7 +23,7 @@ public class LevelBossTest {
     private Group root;
     private Scene scene;
     private UserPlane user;
-    private Timeline timeline;
+    private GameLoop gameLoop;
     private LevelViewLevelBoss levelView;
     private ImageView background;
     private Boss boss;
@@ -40,7 +40,7 @@ public class LevelBossTest {
         root = getPrivateField(LevelParent.class, "root", levelBoss);
         scene = getPrivateField(LevelParent.class, "scene", levelBoss);
         user = getPrivateField(LevelParent.class, "user", levelBoss);
-        timeline = getPrivateField(LevelParent.class, "timeline", levelBoss);
+        gameLoop = getPrivateField(LevelParent.class, "gameLoop", levelBoss);
         levelView = getPrivateField(LevelParent.class, "levelView", levelBoss);
         background = getPrivateField(LevelParent.class, "background", levelBoss);
         boss = getPrivateField(LevelBoss.class, "boss", levelBoss);
@@ -50,52 +50,53 @@ public class LevelBossTest {
     void testConstructor() {
         assertNotNull(levelBoss);
         assertNotNull(root);
-        assertNotNull(scene);
+        assertNull(scene, "The constructor should leave the scene to initializeScene().");
         assertNotNull(user);
-        assertNotNull(timeline);
+        assertNotNull(gameLoop);
         assertNotNull(levelView);
         assertNotNull(background);
         assertNotNull(boss);
     }
 
     @Test
-    void testInitializeScene() {
+    void testInitializeScene() throws Exception {
         Scene initializedScene = levelBoss.initializeScene();
+        scene = getPrivateField(LevelParent.class, "scene", levelBoss);
         assertNotNull(initializedScene);
-        assertEquals(scene, initializedScene);
+        assertSame(scene, initializedScene);
         assertTrue(root.getChildren().contains(background));
     }
 
     @Test
     void testStartGame() {
         levelBoss.startGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testGoToNextLevel() {
         levelBoss.goToNextLevel("LevelFinalBoss");
         assertEquals("LevelFinalBoss", levelBoss.nextLevelProperty().get());
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
     void testPauseGame() {
         levelBoss.pauseGame();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
     void testResumeGame() {
         levelBoss.pauseGame();
         levelBoss.resumeGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testCleanUp() {
         levelBoss.cleanUp();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
         assertTrue(root.getChildren().isEmpty());
     }
 
@@ -108,15 +109,15 @@ public class LevelBossTest {
         // Set user as destroyed
         setPrivateField(ActiveActorDestructible.class, "isDestroyed", user, true);
         checkIfGameOverMethod.invoke(levelBoss);
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
 
-        // Reset timeline status
-        timeline.play();
+        // Reset game loop status
+        gameLoop.play();
 
         // Set boss as destroyed
         setPrivateField(ActiveActorDestructible.class, "isDestroyed", boss, true);
         checkIfGameOverMethod.invoke(levelBoss);
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     // Helper method to access private fields using reflection
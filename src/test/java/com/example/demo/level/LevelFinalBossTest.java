@@ -4,8 +4,8 @@ import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.Boss;
 import com.example.demo.actors.plane.UserPlane;
 import com.example.demo.view.LevelViewLevelBoss;
+import com.example.demo.manager.GameLoop;
 import javafx.animation.Animation;
-import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
@@ -24,7 +24,7 @@ public class LevelFinalBossTest {
     private Group root;
     private Scene scene;
     private UserPlane user;
-    private Timeline timeline;
+    private GameLoop gameLoop;
     private LevelViewLevelBoss levelView;
     private ImageView background;
     private Boss boss;
@@ -42,7 +42,7 @@ public class LevelFinalBossTest {
         root = getPrivateField(LevelParent.class, "root", levelFinalBoss);
         scene = getPrivateField(LevelParent.class, "scene", levelFinalBoss);
         user = getPrivateField(LevelParent.class, "user", levelFinalBoss);
-        timeline = getPrivateField(LevelParent.class, "timeline", levelFinalBoss);
+        gameLoop = getPrivateField(LevelParent.class, "gameLoop", levelFinalBoss);
         levelView = getPrivateField(LevelParent.class, "levelView", levelFinalBoss);
         background = getPrivateField(LevelParent.class, "background", levelFinalBoss);
         boss = getPrivateField(LevelFinalBoss.class, "boss", levelFinalBoss);
@@ -53,52 +53,53 @@ public class LevelFinalBossTest {
     void testConstructor() {
         assertNotNull(levelFinalBoss);
         assertNotNull(root);
-        assertNotNull(scene);
+        assertNull(scene, "The constructor should leave the scene to initializeScene().");
         assertNotNull(user);
-        assertNotNull(timeline);
+        assertNotNull(gameLoop);
         assertNotNull(levelView);
         assertNotNull(background);
         assertNotNull(boss);
     }
 
     @Test
-    void testInitializeScene() {
+    void testInitializeScene() throws Exception {
         Scene initializedScene = levelFinalBoss.initializeScene();
+        scene = getPrivateField(LevelParent.class, "scene", levelFinalBoss);
         assertNotNull(initializedScene);
-        assertEquals(scene, initializedScene);
+        assertSame(scene, initializedScene);
         assertTrue(root.getChildren().contains(background));
     }
 
     @Test
     void testStartGame() {
         levelFinalBoss.startGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testGoToNextLevel() {
         levelFinalBoss.goToNextLevel("LevelFinalBoss");
         assertEquals("LevelFinalBoss", levelFinalBoss.nextLevelProperty().get());
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
     void testPauseGame() {
         levelFinalBoss.pauseGame();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
     void testResumeGame() {
         levelFinalBoss.pauseGame();
         levelFinalBoss.resumeGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testCleanUp() {
         levelFinalBoss.cleanUp();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
         assertTrue(root.getChildren().isEmpty());
     }
 
@@ -111,15 +112,15 @@ public class LevelFinalBossTest {
         // Set user as destroyed
         setPrivateField(ActiveActorDestructible.class, "isDestroyed", user, true);
         checkIfGameOverMethod.invoke(levelFinalBoss);
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
 
-        // Reset timeline status
-        timeline.play();
+        // Reset game loop status
+        gameLoop.play();
 
         // Set boss as destroyed
         setPrivateField(ActiveActorDestructible.class, "isDestroyed", boss, true);
         checkIfGameOverMethod.invoke(levelFinalBoss);
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
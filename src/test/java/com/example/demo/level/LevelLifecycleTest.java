@@ -0,0 +1,172 @@
+package com.example.demo.level;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.LevelController;
+import com.example.demo.controller.StageController;
+import com.example.demo.manager.HeadlessMode;
+import javafx.scene.Scene;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelLifecycleTest {
+
+    private static final int RESTART_CYCLES = 1000;
+    private static final int WARM_UP_CYCLES = 100;
+    private static final int FRAMES_PER_CYCLE = 30;
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    @BeforeEach
+    void setUp() {
+        // Levels run without a scene, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testDisposeIsIdempotent() {
+        LevelParent level = LevelRegistry.getInstance().create(LevelRegistry.getInstance().getStartLevel(), 750, 1300);
+        level.initializeScene();
+        level.startGame();
+
+        level.dispose();
+        level.dispose();
+
+        assertTrue(level.isDisposed());
+        assertEquals(0, level.getRoot().getChildren().size(), "A disposed level should leave nothing in its scene.");
+    }
+
+    @Test
+    void testLeftLevelDetachedFromController() {
+        StubStageController stageController = new StubStageController();
+        LevelController levelController = new LevelController(stageController);
+        levelController.goToLevel(LevelRegistry.getInstance().getStartLevel());
+        LevelParent first = levelController.getCurrentLevel();
+        assertNotNull(first.pauseMenu);
+
+        first.goToNextLevel(first.getNextLevelName());
+        LevelParent second = levelController.getCurrentLevel();
+
+        assertNotSame(first, second);
+        assertEquals(2, stageController.scenesSet);
+        assertDetached(first);
+        assertNotNull(second.pauseMenu);
+        first.nextLevelProperty().set(LevelRegistry.getInstance().getStartLevel());
+        assertSame(second, levelController.getCurrentLevel(), "A left level should no longer move the controller on.");
+        levelController.dispose();
+        assertDetached(second);
+    }
+
+    @Test
+    void testRestartDisposesPreviousController() throws Exception {
+        Controller previous = new Controller(new StubStageController());
+        previous.launchGame();
+        LevelParent level = previous.getLevelController().getCurrentLevel();
+
+        Controller restarted = new Controller(new StubStageController());
+        restarted.launchGame();
+
+        assertNull(previous.getLevelController().getCurrentLevel(), "The previous game should let go of its level.");
+        assertDetached(level);
+        level.nextLevelProperty().set(level.getNextLevelName());
+        assertNull(previous.getLevelController().getCurrentLevel(), "A disposed game should not load levels.");
+        assertNotSame(level, restarted.getLevelController().getCurrentLevel());
+        restarted.dispose();
+    }
+
+    @Test
+    void testRestartCyclesDoNotGrowHeap() throws Exception {
+        StubStageController stageController = new StubStageController();
+        Controller controller = null;
+        List<LevelParent> previousLevels = new ArrayList<>();
+        long baseline = 0;
+
+        for (int cycle = 0; cycle < RESTART_CYCLES; cycle++) {
+            if (cycle == WARM_UP_CYCLES) {
+                baseline = usedHeapAfterGc();
+            }
+            // Restart the game, play the start level for a while, then move on to the prepared next level
+            controller = new Controller(stageController);
+            controller.launchGame();
+            previousLevels.forEach(LevelLifecycleTest::assertDetached);
+            previousLevels.clear();
+            LevelParent level = controller.getLevelController().getCurrentLevel();
+            playFrames(level);
+            level.goToNextLevel(level.getNextLevelName());
+            previousLevels.add(level);
+            level = controller.getLevelController().getCurrentLevel();
+            playFrames(level);
+            previousLevels.add(level);
+        }
+        controller.dispose();
+        previousLevels.forEach(LevelLifecycleTest::assertDetached);
+        long growth = usedHeapAfterGc() - baseline;
+
+        assertTrue(growth < MAX_HEAP_GROWTH, "Heap grew by " + growth + " bytes over the restart cycles.");
+    }
+
+    private static void playFrames(LevelParent level) {
+        for (int frame = 0; frame < FRAMES_PER_CYCLE; frame++) {
+            level.stepGame();
+        }
+    }
+
+    private static void assertDetached(LevelParent level) {
+        assertTrue(level.isDisposed(), "A level that has been left should be disposed of.");
+        assertNull(level.pauseMenu, "A level that has been left should drop its pause menu.");
+        assertEquals(0, level.getRoot().getChildren().size());
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Stands in for the stage, which cannot be created without the JavaFX toolkit.
+     */
+    private static final class StubStageController extends StageController {
+
+        private int scenesSet;
+
+        private StubStageController() {
+            super(null);
+        }
+
+        @Override
+        public void showStage() {
+        }
+
+        @Override
+        public void setScene(Scene scene) {
+            scenesSet++;
+        }
+
+        @Override
+        public double getStageHeight() {
+            return 750;
+        }
+
+        @Override
+        public double getStageWidth() {
+            return 1300;
+        }
+    }
+}
@@ -3,8 +3,8 @@ package com.example.demo.level;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.UserPlane;
 import com.example.demo.view.LevelView;
+import com.example.demo.manager.GameLoop;
 import javafx.animation.Animation;
-import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
@@ -23,7 +23,7 @@ public class LevelOneTest {
     private Group root;
     private Scene scene;
     private UserPlane user;
-    private Timeline timeline;
+    private GameLoop gameLoop;
     private LevelView levelView;
     private ImageView background;
     private List<ActiveActorDestructible> enemyUnits;
@@ -40,7 +40,7 @@ public class LevelOneTest {
         root = getPrivateField("root", levelOne);
         scene = getPrivateField("scene", levelOne);
         user = getPrivateField("user", levelOne);
-        timeline = getPrivateField("timeline", levelOne);
+        gameLoop = getPrivateField("gameLoop", levelOne);
         levelView = getPrivateField("levelView", levelOne);
         background = getPrivateField("background", levelOne);
         enemyUnits = getPrivateField(LevelParent.class, "enemyUnits", levelOne);
@@ -50,72 +50,69 @@ public class LevelOneTest {
     void testConstructor() {
         assertNotNull(levelOne);
         assertNotNull(root);
-        assertNotNull(scene);
+        assertNull(scene, "The constructor should leave the scene to initializeScene().");
         assertNotNull(user);
-        assertNotNull(timeline);
+        assertNotNull(gameLoop);
         assertNotNull(levelView);
         assertNotNull(background);
     }
 
     @Test
-    void testInitializeScene() {
+    void testInitializeScene() throws Exception {
         Scene initializedScene = levelOne.initializeScene();
+        scene = getPrivateField("scene", levelOne);
         assertNotNull(initializedScene);
-        assertEquals(scene, initializedScene);
+        assertSame(scene, initializedScene);
         assertTrue(root.getChildren().contains(background));
     }
 
     @Test
     void testStartGame() {
         levelOne.startGame();
-        assertSame(timeline.getStatus(), Timeline.Status.RUNNING);
+        assertSame(gameLoop.getStatus(), Animation.Status.RUNNING);
     }
 
     @Test
     void testSpawnEnemyUnits() throws Exception {
-        // Use reflection to access the private method spawnEnemyUnits
+        // Use reflection to access the private method spawnEnemyUnits, which runs one frame of the wave script
         Method spawnEnemyUnitsMethod = LevelOne.class.getDeclaredMethod("spawnEnemyUnits");
         spawnEnemyUnitsMethod.setAccessible(true);
 
-        // Invoke the spawnEnemyUnits method multiple times to ensure randomness is accounted for
-        int totalSpawnedEnemies = 0;
-        for (int i = 0; i < 100; i++) { // Run the method 100 times to account for randomness
+        spawnEnemyUnitsMethod.invoke(levelOne);
+        assertEquals(2, enemyUnits.size(), "The wave script spawns two enemies on the first frame.");
+
+        for (int frame = 1; frame < 45; frame++) {
             spawnEnemyUnitsMethod.invoke(levelOne);
-            totalSpawnedEnemies += enemyUnits.size();
-            enemyUnits.clear(); // Clear the list to simulate a new spawn cycle
         }
+        assertEquals(2, enemyUnits.size(), "No enemies are due before frame 45.");
 
-        // Calculate the average number of enemies spawned per invocation
-        double averageEnemiesPerSpawn = (double) totalSpawnedEnemies / 100;
-
-        // Check if the average number of enemies spawned is close to the expected value
-        assertTrue(averageEnemiesPerSpawn >= 5 * 0.2 - 1 &&
-                averageEnemiesPerSpawn <= 5 * 0.2 + 1);
+        spawnEnemyUnitsMethod.invoke(levelOne);
+        assertEquals(5, enemyUnits.size(), "The wave script spawns a line of three enemies at frame 45.");
     }
 
     @Test
     void testGoToNextLevel() {
         levelOne.goToNextLevel("Level2");
         assertEquals("Level2", levelOne.nextLevelProperty().get());
-        assertSame(timeline.getStatus(), Timeline.Status.STOPPED);
+        assertSame(gameLoop.getStatus(), Animation.Status.STOPPED);
     }
 
     @Test
     void testPauseGame() {
         levelOne.pauseGame();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus(), "Wrong pause test"); // Corrected assertion
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus(), "Wrong pause test"); // Corrected assertion
     }
 
     @Test
     void testResumeGame() {
         levelOne.resumeGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testCleanUp() {
         levelOne.cleanUp();
-        assertSame(timeline.getStatus(), Timeline.Status.STOPPED);
+        assertSame(gameLoop.getStatus(), Animation.Status.STOPPED);
         assertTrue(root.getChildren().isEmpty());
     }
 
@@ -0,0 +1,148 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.HeadlessMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelPreloaderTest {
+
+    private static final String LEVEL_TWO = "com.example.demo.level.LevelTwo";
+    private static final String LEVEL_BOSS = "com.example.demo.level.LevelBoss";
+
+    @BeforeEach
+    void setUp() {
+        // Levels are built without a scene, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testPreparedLevelIsTakenOnce() throws Exception {
+        LevelPreloader preloader = new LevelPreloader(750, 1300, Runnable::run);
+
+        preloader.preload(LEVEL_TWO);
+        assertTrue(preloader.isReady(LEVEL_TWO));
+        LevelParent prepared = preloader.take(LEVEL_TWO);
+
+        assertInstanceOf(LevelTwo.class, prepared);
+        assertFalse(preloader.isReady(LEVEL_TWO));
+        assertNotSame(prepared, preloader.take(LEVEL_TWO), "A taken level should not be handed out again.");
+    }
+
+    @Test
+    void testOtherLevelBuiltOnTheSpot() throws Exception {
+        LevelPreloader preloader = new LevelPreloader(750, 1300, Runnable::run);
+
+        preloader.preload(LEVEL_TWO);
+        LevelParent level = preloader.take(LEVEL_BOSS);
+
+        assertInstanceOf(LevelBoss.class, level);
+        assertFalse(preloader.isReady(LEVEL_TWO), "The unused preparation should be discarded.");
+    }
+
+    @Test
+    void testNullDiscardsPreparation() {
+        LevelPreloader preloader = new LevelPreloader(750, 1300, Runnable::run);
+
+        preloader.preload(LEVEL_TWO);
+        preloader.preload(null);
+
+        assertFalse(preloader.isReady(LEVEL_TWO));
+    }
+
+    @Test
+    void testFailedPreparationRetriedOnTake() {
+        LevelPreloader preloader = new LevelPreloader(750, 1300, Runnable::run);
+
+        preloader.preload("com.example.demo.level.Missing");
+
+        assertThrows(IllegalArgumentException.class, () -> preloader.take("com.example.demo.level.Missing"));
+    }
+
+    @Test
+    void testBackgroundPreparationLeavesRandomNumbersAlone() throws Exception {
+        GameRandom.getInstance().setRunSeed(42);
+        GameRandom reference = GameRandom.getInstance().forLevel(LevelTwo.class.getName());
+        double[] expected = {reference.nextDouble(), reference.nextDouble(), reference.nextDouble()};
+
+        LevelPreloader preloader = new LevelPreloader(750, 1300);
+        GameRandom random = preloader.take(LEVEL_TWO).getRandom(); // The level being played
+        preloader.preload(LEVEL_BOSS); // The boss level builds a boss with its shield and fire patterns
+        LevelParent level = preloader.take(LEVEL_BOSS);
+
+        assertInstanceOf(LevelBoss.class, level);
+        for (double value : expected) {
+            assertEquals(value, random.nextDouble(), "Building a level should not draw from the current level's random numbers.");
+        }
+    }
+
+    @Test
+    void testLevelPreparedForOldSeedRebuilt() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        LevelPreloader preloader = new LevelPreloader(750, 1300, tasks::add);
+
+        GameRandom.getInstance().setRunSeed(1);
+        preloader.preload(LEVEL_TWO);
+        LevelParent prepared = build(tasks.get(0));
+        GameRandom.getInstance().setRunSeed(2);
+        LevelParent level = preloader.take(LEVEL_TWO);
+
+        assertEquals(2, level.getRandom().getRunSeed(), "A level should draw from the current run seed.");
+        assertTrue(prepared.isDisposed(), "The level prepared for the old seed should be disposed of.");
+    }
+
+    @Test
+    void testDiscardedPreparedLevelDisposed() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        LevelPreloader preloader = new LevelPreloader(750, 1300, tasks::add);
+
+        preloader.preload(LEVEL_TWO);
+        LevelParent prepared = build(tasks.get(0));
+        preloader.preload(LEVEL_BOSS);
+
+        assertTrue(prepared.isDisposed(), "A built level that is not taken should be disposed of.");
+        assertFalse(build(tasks.get(1)).isDisposed());
+    }
+
+    @Test
+    void testPreloadedLevelPlaysLikeDirectlyBuiltLevel() throws Exception {
+        HeadlessSimulation.Result direct;
+        try (HeadlessSimulation simulation = new HeadlessSimulation(750, 1300, 7)) {
+            direct = simulation.run(LEVEL_BOSS, 100_000);
+        }
+
+        GameRandom.getInstance().setRunSeed(7);
+        LevelPreloader preloader = new LevelPreloader(750, 1300);
+        preloader.preload(LEVEL_BOSS);
+        LevelParent level = preloader.take(LEVEL_BOSS);
+        level.initializeScene();
+        level.startGame();
+        long frames = 0;
+        while (frames < 100_000 && level.getOutcome() == null) {
+            level.stepGame();
+            frames++;
+        }
+
+        assertSame(LevelParent.Outcome.LOST, direct.getOutcome(), "An idle player should lose against the boss.");
+        assertSame(direct.getOutcome(), level.getOutcome());
+        assertEquals(direct.getFrames(), frames, "A preloaded level should play out like a level built on the spot.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LevelParent build(Runnable task) throws Exception {
+        task.run();
+        return ((Future<LevelParent>) task).get();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.level;
+
+import com.example.demo.manager.HeadlessMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelRegistryTest {
+
+    private static final String LEVEL_ONE = "com.example.demo.level.LevelOne";
+    private static final String LEVEL_TWO = "com.example.demo.level.LevelTwo";
+    private static final String LEVEL_BOSS = "com.example.demo.level.LevelBoss";
+    private static final String LEVEL_FINAL_BOSS = "com.example.demo.level.LevelFinalBoss";
+
+    @BeforeEach
+    void setUp() {
+        // Levels are created without a scene, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testDefaultGraphLinksLevelsInOrder() {
+        LevelRegistry registry = LevelRegistry.getInstance();
+
+        assertEquals(LEVEL_ONE, registry.getStartLevel());
+        assertEquals(LEVEL_TWO, registry.getNextLevel(LEVEL_ONE));
+        assertEquals(LEVEL_BOSS, registry.getNextLevel(LEVEL_TWO));
+        assertEquals(LEVEL_FINAL_BOSS, registry.getNextLevel(LEVEL_BOSS));
+        assertNull(registry.getNextLevel(LEVEL_FINAL_BOSS), "The game should end with the final boss.");
+        assertEquals(LEVEL_ONE, registry.getRetryLevel(LEVEL_BOSS), "A lost game should restart from the first level.");
+    }
+
+    @Test
+    void testCreatesLevelsThroughFactories() {
+        LevelRegistry registry = LevelRegistry.getInstance();
+
+        assertInstanceOf(LevelOne.class, registry.create(LEVEL_ONE, 750, 1300));
+        assertInstanceOf(LevelFinalBoss.class, registry.create(LEVEL_FINAL_BOSS, 750, 1300));
+        assertThrows(IllegalArgumentException.class, () -> registry.create("com.example.demo.level.Missing", 750, 1300));
+    }
+
+    @Test
+    void testLevelsFollowTheGraph() {
+        LevelParent level = LevelRegistry.getInstance().create(LEVEL_TWO, 750, 1300);
+
+        assertEquals(LEVEL_BOSS, level.getNextLevelName());
+        assertEquals(LEVEL_ONE, level.getRetryLevelName());
+    }
+
+    @Test
+    void testBrokenLinksRejected() {
+        LevelRegistry registry = new LevelRegistry(LEVEL_ONE)
+                .register(LEVEL_ONE, LevelOne::new, "com.example.demo.level.LevelThree", LEVEL_ONE)
+                .addBranch(LEVEL_ONE, "secret", "com.example.demo.level.Secret");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, registry::validate);
+        assertTrue(error.getMessage().contains("LevelThree"));
+        assertTrue(error.getMessage().contains("Secret"), "All broken links should be reported at once.");
+    }
+
+    @Test
+    void testMissingStartAndRetryRejected() {
+        assertThrows(IllegalStateException.class, () -> new LevelRegistry(LEVEL_TWO)
+                .register(LEVEL_ONE, LevelOne::new, null, LEVEL_ONE)
+                .validate());
+        assertThrows(IllegalStateException.class, () -> new LevelRegistry(LEVEL_ONE)
+                .register(LEVEL_ONE, LevelOne::new, null, null)
+                .validate());
+    }
+
+    @Test
+    void testBranches() {
+        LevelRegistry registry = new LevelRegistry(LEVEL_ONE)
+                .register(LEVEL_ONE, LevelOne::new, LEVEL_TWO, LEVEL_ONE)
+                .register(LEVEL_TWO, LevelTwo::new, null, LEVEL_ONE)
+                .addBranch(LEVEL_ONE, "shortcut", LEVEL_TWO);
+
+        registry.validate();
+        assertEquals(LEVEL_TWO, registry.getBranch(LEVEL_ONE, "shortcut"));
+        assertNull(registry.getBranch(LEVEL_ONE, "secret"));
+    }
+
+    @Test
+    void testDuplicateLevelRejected() {
+        LevelRegistry registry = new LevelRegistry(LEVEL_ONE).register(LEVEL_ONE, LevelOne::new, null, LEVEL_ONE);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(LEVEL_ONE, LevelOne::new, null, LEVEL_ONE));
+    }
+}
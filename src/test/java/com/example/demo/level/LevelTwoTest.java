@@ -3,8 +3,8 @@ package com.example.demo.level;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.UserPlane;
 import com.example.demo.view.LevelView;
+import com.example.demo.manager.GameLoop;
 import javafx.animation.Animation;
-import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
@@ -23,7 +23,7 @@ public class LevelTwoTest {
     private Group root;
     private Scene scene;
     private UserPlane user;
-    private Timeline timeline;
+    private GameLoop gameLoop;
     private LevelView levelView;
     private ImageView background;
     private List<ActiveActorDestructible> enemyUnits;
@@ -40,7 +40,7 @@ public class LevelTwoTest {
         root = getPrivateField("root", levelTwo);
         scene = getPrivateField("scene", levelTwo);
         user = getPrivateField("user", levelTwo);
-        timeline = getPrivateField("timeline", levelTwo);
+        gameLoop = getPrivateField("gameLoop", levelTwo);
         levelView = getPrivateField("levelView", levelTwo);
         background = getPrivateField("background", levelTwo);
         enemyUnits = getPrivateField(LevelParent.class, "enemyUnits", levelTwo);
@@ -50,25 +50,26 @@ public class LevelTwoTest {
     void testConstructor() {
         assertNotNull(levelTwo);
         assertNotNull(root);
-        assertNotNull(scene);
+        assertNull(scene, "The constructor should leave the scene to initializeScene().");
         assertNotNull(user);
-        assertNotNull(timeline);
+        assertNotNull(gameLoop);
         assertNotNull(levelView);
         assertNotNull(background);
     }
 
     @Test
-    void testInitializeScene() {
+    void testInitializeScene() throws Exception {
         Scene initializedScene = levelTwo.initializeScene();
+        scene = getPrivateField("scene", levelTwo);
         assertNotNull(initializedScene);
-        assertEquals(scene, initializedScene);
+        assertSame(scene, initializedScene);
         assertTrue(root.getChildren().contains(background));
     }
 
     @Test
     void testStartGame() {
         levelTwo.startGame();
-        assertSame(timeline.getStatus(), Timeline.Status.RUNNING);
+        assertSame(gameLoop.getStatus(), Animation.Status.RUNNING);
     }
 
     @Test
@@ -97,26 +98,26 @@ public class LevelTwoTest {
     void testGoToNextLevel() {
         levelTwo.goToNextLevel("LevelBoss");
         assertEquals("LevelBoss", levelTwo.nextLevelProperty().get());
-        assertSame(timeline.getStatus(), Timeline.Status.STOPPED);
+        assertSame(gameLoop.getStatus(), Animation.Status.STOPPED);
     }
 
     @Test
     void testPauseGame() {
         levelTwo.pauseGame();
-        assertSame(Timeline.Status.STOPPED, timeline.getStatus());
+        assertSame(Animation.Status.STOPPED, gameLoop.getStatus());
     }
 
     @Test
     void testResumeGame() {
         levelTwo.pauseGame();
         levelTwo.resumeGame();
-        assertSame(Timeline.Status.RUNNING, timeline.getStatus());
+        assertSame(Animation.Status.RUNNING, gameLoop.getStatus());
     }
 
     @Test
     void testCleanUp() {
         levelTwo.cleanUp();
-        assertSame(timeline.getStatus(), Timeline.Status.STOPPED);
+        assertSame(gameLoop.getStatus(), Animation.Status.STOPPED);
         assertTrue(root.getChildren().isEmpty());
     }
 
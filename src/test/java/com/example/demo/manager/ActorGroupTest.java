@@ -18,6 +18,7 @@ class ActorGroupTest {
     private ActorGroup actorGroup;
     private List<ActiveActorDestructible> actors;
     private Group root;
+    private final GameRandom random = new GameRandom(42);
 
     @BeforeEach
     void setUp() {
@@ -29,8 +30,8 @@ class ActorGroupTest {
             actorGroup = new ActorGroup(actors, root);
 
             // Adding test actors
-            EnemyPlane enemyPlane1 = new EnemyPlane(100, 100);
-            EnemyPlane enemyPlane2 = new EnemyPlane(200, 200);
+            EnemyPlane enemyPlane1 = new EnemyPlane(100, 100, random);
+            EnemyPlane enemyPlane2 = new EnemyPlane(200, 200, random);
             actors.add(enemyPlane1);
             actors.add(enemyPlane2);
             root.getChildren().addAll(enemyPlane1, enemyPlane2);
@@ -48,7 +49,7 @@ class ActorGroupTest {
     @Test
     void testRemoveDestroyed() {
         Platform.runLater(() -> {
-            EnemyPlane enemyPlane = new EnemyPlane(300, 300);
+            EnemyPlane enemyPlane = new EnemyPlane(300, 300, random);
             enemyPlane.destroy(); // Mark this plane as destroyed
             actors.add(enemyPlane);
             root.getChildren().add(enemyPlane);
@@ -63,7 +64,7 @@ class ActorGroupTest {
     @Test
     void testRemoveOutOfBounds() {
         Platform.runLater(() -> {
-            EnemyPlane enemyPlane = new EnemyPlane(5000, 300); // Out of bounds position
+            EnemyPlane enemyPlane = new EnemyPlane(5000, 300, random); // Out of bounds position
             actors.add(enemyPlane);
             root.getChildren().add(enemyPlane);
 
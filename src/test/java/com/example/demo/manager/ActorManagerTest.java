@@ -20,6 +20,7 @@ class ActorManagerTest {
     private ActorGroup enemyGroup;
     private ActorGroup userProjectileGroup;
     private ActorGroup enemyProjectileGroup;
+    private final GameRandom random = new GameRandom(42);
 
     @BeforeEach
     void setUp() {
@@ -36,8 +37,8 @@ class ActorManagerTest {
     @Test
     void testUpdateAllActors() {
         Platform.runLater(() -> {
-            friendlyGroup.getActors().add(new EnemyPlane(100, 100));
-            enemyGroup.getActors().add(new EnemyPlane(200, 200));
+            friendlyGroup.getActors().add(new EnemyPlane(100, 100, random));
+            enemyGroup.getActors().add(new EnemyPlane(200, 200, random));
             userProjectileGroup.getActors().add(new UserProjectile(300, 300));
             enemyProjectileGroup.getActors().add(new UserProjectile(400, 400));
 
@@ -51,7 +52,7 @@ class ActorManagerTest {
     @Test
     void testRemoveDestroyedActors() {
         Platform.runLater(() -> {
-            EnemyPlane destroyedEnemy = new EnemyPlane(100, 100);
+            EnemyPlane destroyedEnemy = new EnemyPlane(100, 100, random);
             destroyedEnemy.destroy(); // Mark as destroyed
             enemyGroup.getActors().add(destroyedEnemy);
 
@@ -0,0 +1,143 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.actors.projectile.UserProjectile;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorRemovalBatchTest {
+
+    private Group root;
+    private Node background;
+    private List<ActiveActorDestructible> actors;
+    private ActorGroup actorGroup;
+    private ActorRemovalBatch batch;
+    private int changeCount;
+    private final GameRandom random = new GameRandom(42);
+
+    @BeforeEach
+    void setUp() {
+        // Actors are sized from their sprite metadata, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+        ProjectilePool.getInstance().clear();
+        root = new Group();
+        background = new Group();
+        root.getChildren().add(background);
+        actors = new ArrayList<>();
+        actorGroup = new ActorGroup(actors, root);
+        batch = new ActorRemovalBatch();
+        root.getChildren().addListener((ListChangeListener<Node>) change -> changeCount++);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectilePool.getInstance().clear();
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testDestroyedActorsRemovedInOneChange() {
+        EnemyPlane survivor = addActor(new EnemyPlane(100, 100, random));
+        EnemyPlane first = addActor(new EnemyPlane(200, 200, random));
+        EnemyPlane second = addActor(new EnemyPlane(300, 300, random));
+        first.destroy();
+        second.destroy();
+        changeCount = 0;
+
+        actorGroup.collectDestroyed(batch);
+        assertEquals(List.of(survivor), actors);
+        assertEquals(4, root.getChildren().size(), "The scene should not change before the flush.");
+
+        batch.flush();
+
+        assertEquals(List.of(background, survivor), root.getChildren());
+        assertEquals(1, changeCount, "All actors should be removed with a single change.");
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void testNothingDestroyedLeavesSceneUntouched() {
+        addActor(new EnemyPlane(100, 100, random));
+        changeCount = 0;
+
+        actorGroup.collectDestroyed(batch);
+        batch.flush();
+
+        assertEquals(0, changeCount);
+        assertEquals(1, actors.size());
+    }
+
+    @Test
+    void testSurvivorsKeepTheirOrder() {
+        EnemyPlane a = addActor(new EnemyPlane(100, 100, random));
+        EnemyPlane b = addActor(new EnemyPlane(200, 200, random));
+        EnemyPlane c = addActor(new EnemyPlane(300, 300, random));
+        EnemyPlane d = addActor(new EnemyPlane(400, 400, random));
+        b.destroy();
+
+        actorGroup.removeDestroyed();
+
+        assertEquals(List.of(a, c, d), actors);
+        assertEquals(List.of(background, a, c, d), root.getChildren());
+    }
+
+    @Test
+    void testActorsOfSeveralParentsDetached() {
+        Group otherRoot = new Group();
+        EnemyPlane inRoot = addActor(new EnemyPlane(100, 100, random));
+        EnemyPlane inOtherRoot = new EnemyPlane(200, 200, random);
+        otherRoot.getChildren().add(inOtherRoot);
+        EnemyPlane detached = new EnemyPlane(300, 300, random);
+
+        batch.add(inRoot);
+        batch.add(inOtherRoot);
+        batch.add(detached);
+        batch.flush();
+
+        assertNull(inRoot.getParent());
+        assertNull(inOtherRoot.getParent());
+        assertTrue(otherRoot.getChildren().isEmpty());
+        assertEquals(List.of(background), root.getChildren());
+    }
+
+    @Test
+    void testRemovedProjectilesReleasedToPool() {
+        UserProjectile projectile = addActor(new UserProjectile(100, 100));
+        projectile.destroy();
+
+        actorGroup.collectDestroyed(batch);
+        assertEquals(0, ProjectilePool.getInstance().getIdleCount(), "Projectiles should be released after they are detached.");
+        batch.flush();
+
+        assertEquals(1, ProjectilePool.getInstance().getIdleCount());
+        assertNull(projectile.getParent());
+    }
+
+    @Test
+    void testOutOfBoundsActorsCollected() {
+        EnemyPlane onScreen = addActor(new EnemyPlane(100, 100, random));
+        EnemyPlane offScreen = addActor(new EnemyPlane(5000, 100, random));
+
+        actorGroup.collectOutOfBounds(800, batch);
+        batch.flush();
+
+        assertEquals(List.of(onScreen), actors);
+        assertNull(offScreen.getParent());
+    }
+
+    private <T extends ActiveActorDestructible> T addActor(T actor) {
+        actors.add(actor);
+        root.getChildren().add(actor);
+        return actor;
+    }
+}
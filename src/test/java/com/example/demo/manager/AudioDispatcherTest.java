@@ -0,0 +1,98 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioDispatcherTest {
+
+    private BlockingQueue<SoundCue> played;
+    private AudioDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        played = new LinkedBlockingQueue<>();
+        dispatcher = new AudioDispatcher(played::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void testNothingPlayedBeforeFlush() throws InterruptedException {
+        dispatcher.trigger(SoundCue.EXPLOSION);
+
+        assertNull(played.poll(100, TimeUnit.MILLISECONDS), "Cues should wait for the end of the frame.");
+    }
+
+    @Test
+    void testDuplicateTriggersCoalescedPerFrame() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            dispatcher.trigger(SoundCue.EXPLOSION);
+        }
+        dispatcher.trigger(SoundCue.SHIELD);
+        dispatcher.flush();
+
+        assertEquals(SoundCue.EXPLOSION, played.poll(1, TimeUnit.SECONDS));
+        assertEquals(SoundCue.SHIELD, played.poll(1, TimeUnit.SECONDS));
+        assertNull(played.poll(100, TimeUnit.MILLISECONDS), "Ten explosions in one frame should play once.");
+    }
+
+    @Test
+    void testEachFramePlayedSeparately() throws InterruptedException {
+        dispatcher.trigger(SoundCue.USER_SHOOT);
+        dispatcher.flush();
+        dispatcher.trigger(SoundCue.USER_SHOOT);
+        dispatcher.flush();
+
+        assertEquals(SoundCue.USER_SHOOT, played.poll(1, TimeUnit.SECONDS));
+        assertEquals(SoundCue.USER_SHOOT, played.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPlayedOffCallingThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread[] playerThread = new Thread[1];
+        AudioDispatcher threadDispatcher = new AudioDispatcher(cue -> {
+            playerThread[0] = Thread.currentThread();
+            latch.countDown();
+        });
+
+        threadDispatcher.trigger(SoundCue.BOSS_SHOOT);
+        threadDispatcher.flush();
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), playerThread[0]);
+        assertTrue(playerThread[0].isDaemon(), "The worker should not keep the application alive.");
+        threadDispatcher.shutdown();
+    }
+
+    @Test
+    void testFailingPlaybackKeepsWorkerAlive() throws InterruptedException {
+        AudioDispatcher failingDispatcher = new AudioDispatcher(cue -> {
+            if (cue == SoundCue.EXPLOSION) {
+                throw new IllegalStateException("No audio device");
+            }
+            played.add(cue);
+        });
+
+        failingDispatcher.trigger(SoundCue.EXPLOSION);
+        failingDispatcher.flush();
+        failingDispatcher.trigger(SoundCue.SHIELD);
+        failingDispatcher.flush();
+
+        assertEquals(SoundCue.SHIELD, played.poll(1, TimeUnit.SECONDS));
+        assertEquals(List.of(), List.copyOf(played));
+        failingDispatcher.shutdown();
+    }
+}
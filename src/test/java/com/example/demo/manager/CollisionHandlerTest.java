@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class CollisionHandlerTest {
 
     private CollisionHandler collisionHandler;
+    private final GameRandom random = new GameRandom(42);
 
     @BeforeEach
     void setUp() {
@@ -31,9 +32,9 @@ class CollisionHandlerTest {
     void testDetectCollisionsUserProjectileEnemyPlane() {
         Platform.runLater(() -> {
             // Mock setup
-            EnemyPlane enemyPlane1 = new EnemyPlane(100,100, 1, "enemyplane.png");
-            EnemyPlane enemyPlane2 = new EnemyPlane(100, 200,2, "enemyplane.png");
-            EnemyPlane enemyPlane3 = new EnemyPlane(500, 500,2, "enemyplane.png");
+            EnemyPlane enemyPlane1 = new EnemyPlane(100,100, 1, "enemyplane.png", random);
+            EnemyPlane enemyPlane2 = new EnemyPlane(100, 200,2, "enemyplane.png", random);
+            EnemyPlane enemyPlane3 = new EnemyPlane(500, 500,2, "enemyplane.png", random);
 
             UserProjectile userProjectile1 = new UserProjectile(100, 100);
             UserProjectile userProjectile2 = new UserProjectile(100, 200);
@@ -144,8 +145,8 @@ class CollisionHandlerTest {
     void testDetectCollisionse() {
         Platform.runLater(() -> {
             // Mock setup
-            EnemyPlane enemyPlane1 = new EnemyPlane(100,100, 1, "enemyplane.png");
-            EnemyPlane enemyPlane2 = new EnemyPlane(100, 200,2, "enemyplane.png");
+            EnemyPlane enemyPlane1 = new EnemyPlane(100,100, 1, "enemyplane.png", random);
+            EnemyPlane enemyPlane2 = new EnemyPlane(100, 200,2, "enemyplane.png", random);
             UserProjectile userProjectile1 = new UserProjectile(100, 100);
             UserProjectile userProjectile2 = new UserProjectile(100, 200);
             // List setup
@@ -23,6 +23,7 @@ class EnemySpawnerTest {
     private List<ActiveActorDestructible> enemyUnits;
     private List<ActiveActorDestructible> enemyProjectiles;
     private static final double Y_LOWER_BOUND = 665.0;
+    private final GameRandom random = new GameRandom(42);
 
     @BeforeEach
     void setUp() {
@@ -32,7 +33,7 @@ class EnemySpawnerTest {
             root = new Group();
             enemyUnits = new ArrayList<>();
             enemyProjectiles = new ArrayList<>();
-            enemySpawner = new EnemySpawner(enemyUnits, root, enemyProjectiles);
+            enemySpawner = new EnemySpawner(enemyUnits, root, enemyProjectiles, random);
         });
     }
 
@@ -41,7 +42,7 @@ class EnemySpawnerTest {
     @Test
     void testAddEnemyUnit() {
         Platform.runLater(() -> {
-            EnemyPlane enemy = new EnemyPlane(100, 100);
+            EnemyPlane enemy = new EnemyPlane(100, 100, random);
             enemySpawner.addEnemyUnit(enemy);
             assertTrue(enemyUnits.contains(enemy), "Enemy should be added to the list.");
             assertTrue(root.getChildren().contains(enemy), "Enemy should be added to the root group.");
@@ -51,7 +52,7 @@ class EnemySpawnerTest {
     @Test
     void testRelocateEnemy() {
         Platform.runLater(() -> {
-            EnemyPlane enemy = new EnemyPlane(100, 100);
+            EnemyPlane enemy = new EnemyPlane(100, 100, random);
 
             double sceneWidth = 1300;
             double sceneHeight = 750;
@@ -0,0 +1,94 @@
+package com.example.demo.manager;
+
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExplosionEffectManagerTest {
+
+    private Group root;
+    private ExplosionEffectManager explosionEffects;
+
+    @BeforeEach
+    void setUp() {
+        // Sprites are created without their image, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+        root = new Group();
+        explosionEffects = new ExplosionEffectManager(root, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testExplosionShownAtPosition() {
+        explosionEffects.spawn(100, 200);
+
+        assertEquals(1, explosionEffects.getActiveCount());
+        assertSame(explosionEffects.getLayer(), root.getChildren().get(root.getChildren().size() - 1));
+        ImageView sprite = (ImageView) explosionEffects.getLayer().getChildren().stream()
+                .filter(node -> node.isVisible())
+                .findFirst()
+                .orElseThrow();
+        assertEquals(100, sprite.getX());
+        assertEquals(200, sprite.getY());
+    }
+
+    @Test
+    void testExplosionHiddenAfterDuration() {
+        explosionEffects.spawn(100, 200);
+
+        for (int i = 0; i < 29; i++) {
+            explosionEffects.update();
+        }
+        assertEquals(1, explosionEffects.getActiveCount(), "An explosion should last 500 ms of game time.");
+
+        explosionEffects.update();
+        assertEquals(0, explosionEffects.getActiveCount());
+    }
+
+    @Test
+    void testSpritesReused() {
+        int spriteCount = explosionEffects.getLayer().getChildren().size();
+
+        for (int i = 0; i < 100; i++) {
+            explosionEffects.spawn(i, i);
+        }
+
+        assertEquals(spriteCount, explosionEffects.getLayer().getChildren().size(), "No sprites should be created per explosion.");
+        assertEquals(spriteCount, explosionEffects.getActiveCount(), "The oldest explosions should be replaced.");
+    }
+
+    @Test
+    void testLayerKeptOnTop() {
+        explosionEffects.spawn(0, 0);
+        root.getChildren().add(new Group());
+
+        explosionEffects.spawn(0, 0);
+
+        assertSame(explosionEffects.getLayer(), root.getChildren().get(root.getChildren().size() - 1));
+        assertEquals(2, root.getChildren().size());
+    }
+
+    @Test
+    void testClear() {
+        explosionEffects.spawn(0, 0);
+        explosionEffects.spawn(10, 10);
+
+        explosionEffects.clear();
+
+        assertEquals(0, explosionEffects.getActiveCount());
+    }
+
+    @Test
+    void testInvalidFrameCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExplosionEffectManager(root, "/com/example/demo/images/explosion.png", 0, 500, 60));
+    }
+}
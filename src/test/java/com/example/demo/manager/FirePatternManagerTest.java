@@ -21,7 +21,7 @@ class FirePatternManagerTest {
     void setUp() {
         // Initialize JavaFX Toolkit
         new JFXPanel();
-        firePatternManager = new FirePatternManager(yPositionOffset);
+        firePatternManager = new FirePatternManager(yPositionOffset, new GameRandom(42));
     }
 
     @Test
@@ -0,0 +1,134 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoggerTest {
+
+    private final GameLogger logger = GameLogger.getLogger(GameLoggerTest.class);
+    private ByteArrayOutputStream output;
+    private AsyncLogAppender appender;
+    private AsyncLogAppender previousAppender;
+    private GameLogger.Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        appender = new AsyncLogAppender(new PrintStream(output, true, StandardCharsets.UTF_8), 16);
+        previousAppender = GameLogger.setAppender(appender);
+        previousLevel = GameLogger.getLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GameLogger.setAppender(previousAppender);
+        GameLogger.setLevel(previousLevel);
+        appender.shutdown();
+    }
+
+    @Test
+    void testEnabledMessageWritten() {
+        GameLogger.setLevel(GameLogger.Level.INFO);
+
+        logger.info("Level started.");
+
+        assertTrue(GameLogger.flush(5000));
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("INFO"), text);
+        assertTrue(text.contains("GameLoggerTest - Level started."), text);
+    }
+
+    @Test
+    void testMessagesBelowLevelIgnored() {
+        GameLogger.setLevel(GameLogger.Level.WARN);
+
+        logger.info("Ignored.");
+        logger.debug("Ignored too.");
+
+        assertTrue(GameLogger.flush(5000));
+        assertEquals("", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDisabledSupplierNotCalled() {
+        GameLogger.setLevel(GameLogger.Level.INFO);
+        AtomicInteger calls = new AtomicInteger();
+
+        logger.debug(() -> "Built " + calls.incrementAndGet());
+        assertEquals(0, calls.get(), "Disabled messages should not be built.");
+
+        GameLogger.setLevel(GameLogger.Level.DEBUG);
+        logger.debug(() -> "Built " + calls.incrementAndGet());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testOffDisablesEverything() {
+        GameLogger.setLevel(GameLogger.Level.OFF);
+
+        logger.error("Not written.");
+
+        assertFalse(logger.isEnabled(GameLogger.Level.ERROR));
+        assertTrue(GameLogger.flush(5000));
+        assertEquals("", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExceptionStackTraceWritten() {
+        GameLogger.setLevel(GameLogger.Level.ERROR);
+
+        logger.error("Failed.", new IllegalStateException("broken"));
+
+        assertTrue(GameLogger.flush(5000));
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("java.lang.IllegalStateException: broken"), text);
+    }
+
+    @Test
+    void testFullBufferDropsInsteadOfBlocking() throws InterruptedException {
+        // A stream that blocks until released stalls the writer after its first message
+        Object gate = new Object();
+        boolean[] released = {false};
+        PrintStream stalled = new PrintStream(new ByteArrayOutputStream()) {
+            @Override
+            public void println(String line) {
+                synchronized (gate) {
+                    while (!released[0]) {
+                        try {
+                            gate.wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }
+        };
+        AsyncLogAppender small = new AsyncLogAppender(stalled, 4);
+
+        for (int i = 0; i < 20; i++) {
+            small.append(GameLogger.Level.INFO, "Test", "Message " + i, null);
+        }
+
+        assertTrue(small.getDroppedMessageCount() > 0, "Messages over the capacity should be dropped.");
+        synchronized (gate) {
+            released[0] = true;
+            gate.notifyAll();
+        }
+        assertTrue(small.flush(5000));
+        small.shutdown();
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogAppender(System.err, 0));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.manager;
+
+import javafx.animation.Animation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopTest {
+
+    private static final long STEP_NANOS = 1_000_000_000L / 60;
+
+    private GameLoop gameLoop;
+    private int updates;
+    private double lastAlpha;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        updates = 0;
+        lastAlpha = -1;
+        gameLoop = new GameLoop(60, 5, () -> updates++, alpha -> lastAlpha = alpha);
+        // Mark the loop as running without starting the AnimationTimer, which needs the JavaFX toolkit
+        setPrivateField("status", gameLoop, Animation.Status.RUNNING);
+    }
+
+    @Test
+    void testFirstPulseOnlyRenders() {
+        gameLoop.pulse(0);
+        assertEquals(0, updates, "The first pulse should only establish the time base.");
+        assertEquals(0.0, lastAlpha);
+    }
+
+    @Test
+    void testRunsOneStepPerElapsedStep() {
+        gameLoop.pulse(0);
+        gameLoop.pulse(STEP_NANOS * 3);
+        assertEquals(3, updates);
+        assertEquals(3, gameLoop.getTickCount());
+    }
+
+    @Test
+    void testSimulationRateIndependentOfPulseRate() {
+        gameLoop.pulse(0);
+        // 144 Hz display for one second
+        long pulse = 1_000_000_000L / 144;
+        for (int i = 1; i <= 144; i++) {
+            gameLoop.pulse(pulse * i);
+        }
+        assertTrue(updates >= 59 && updates <= 60, "Simulation should run at 60 steps per second, was " + updates);
+    }
+
+    @Test
+    void testInterpolationFactor() {
+        gameLoop.pulse(0);
+        gameLoop.pulse(STEP_NANOS + STEP_NANOS / 2);
+        assertEquals(1, updates);
+        assertEquals(0.5, lastAlpha, 0.01);
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        gameLoop.pulse(0);
+        gameLoop.pulse(STEP_NANOS * 12);
+        assertEquals(5, updates, "Catch-up steps should be capped per pulse.");
+        assertTrue(gameLoop.getAlpha() < 1.0, "Backlog beyond the cap should be dropped.");
+    }
+
+    @Test
+    void testPauseStopsSimulation() {
+        gameLoop.pulse(0);
+        gameLoop.pause();
+        gameLoop.pulse(STEP_NANOS * 3);
+        assertEquals(0, updates);
+        assertSame(Animation.Status.PAUSED, gameLoop.getStatus());
+    }
+
+    @Test
+    void testStopDuringUpdateEndsPulse() throws Exception {
+        GameLoop[] loop = new GameLoop[1];
+        loop[0] = new GameLoop(60, 5, () -> {
+            updates++;
+            if (updates == 2) {
+                loop[0].stop();
+            }
+        }, alpha -> lastAlpha = alpha);
+        setPrivateField("status", loop[0], Animation.Status.RUNNING);
+
+        loop[0].pulse(0);
+        lastAlpha = -1;
+        loop[0].pulse(STEP_NANOS * 4);
+
+        assertEquals(2, updates, "No further steps should run once the loop is stopped.");
+        assertSame(Animation.Status.STOPPED, loop[0].getStatus());
+        assertEquals(-1, lastAlpha, "A stopped loop should not render.");
+        assertEquals(0.0, loop[0].getAlpha(), "Stopping should leave no accumulated time behind.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(0, 5, () -> { }, alpha -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(60, 0, () -> { }, alpha -> { }));
+    }
+
+    // Helper method to set private fields using reflection
+    private void setPrivateField(String fieldName, Object instance, Object value) throws Exception {
+        Field field = GameLoop.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void testSingletonInstance() {
+        assertSame(GameRandom.getInstance(), GameRandom.getInstance());
+    }
+
+    @Test
+    void testSingletonOnlyHoldsRunSeed() {
+        GameRandom shared = GameRandom.getInstance();
+
+        assertThrows(IllegalStateException.class, shared::nextDouble);
+        assertThrows(IllegalStateException.class, () -> shared.nextInt(10));
+        assertThrows(IllegalStateException.class, () -> shared.chance(0.5));
+        assertThrows(IllegalStateException.class, () -> shared.shuffle(new ArrayList<>(List.of(1, 2))));
+        assertEquals(shared.getRunSeed(), shared.forLevel("com.example.demo.level.LevelOne").getRunSeed());
+    }
+
+    @Test
+    void testSameSeedSameSequence() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble());
+            assertEquals(first.nextInt(10), second.nextInt(10));
+        }
+    }
+
+    @Test
+    void testLevelSeedIndependentOfEarlierDraws() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+        for (int i = 0; i < 50; i++) {
+            second.nextDouble();
+        }
+
+        GameRandom firstLevel = first.forLevel("com.example.demo.level.LevelTwo");
+        GameRandom secondLevel = second.forLevel("com.example.demo.level.LevelTwo");
+
+        assertEquals(firstLevel.nextDouble(), secondLevel.nextDouble(), "A level should replay the same whatever came before it.");
+    }
+
+    @Test
+    void testLevelGeneratorIsIndependent() {
+        GameRandom run = new GameRandom(42);
+        GameRandom expected = new GameRandom(42);
+        GameRandom level = run.forLevel("com.example.demo.level.LevelOne");
+
+        level.nextDouble();
+
+        assertNotSame(run, level);
+        assertEquals(42, level.getRunSeed(), "A level generator should keep the run seed.");
+        assertEquals(expected.nextDouble(), run.nextDouble(), "Drawing for a level should not advance the run generator.");
+    }
+
+    @Test
+    void testLevelsGetDifferentSequences() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+
+        assertNotEquals(first.forLevel("com.example.demo.level.LevelOne").nextDouble(),
+                second.forLevel("com.example.demo.level.LevelTwo").nextDouble());
+    }
+
+    @Test
+    void testChanceBounds() {
+        GameRandom random = new GameRandom(7);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(random.chance(0));
+            assertTrue(random.chance(1));
+        }
+    }
+
+    @Test
+    void testShuffleKeepsElements() {
+        GameRandom random = new GameRandom(7);
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+
+        random.shuffle(list);
+
+        assertEquals(8, list.size());
+        assertTrue(list.containsAll(List.of(1, 2, 3, 4, 5, 6, 7, 8)));
+    }
+
+    @Test
+    void testRunSeedKept() {
+        GameRandom random = new GameRandom(1);
+
+        random.setRunSeed(99);
+
+        assertEquals(99, random.getRunSeed());
+        assertEquals(new GameRandom(99).forLevel("com.example.demo.level.LevelOne").nextDouble(),
+                random.forLevel("com.example.demo.level.LevelOne").nextDouble(), "Levels should derive from the new run seed.");
+    }
+}
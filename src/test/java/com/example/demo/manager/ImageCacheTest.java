@@ -0,0 +1,79 @@
+package com.example.demo.manager;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest {
+
+    private static final String USER_FIRE = "/com/example/demo/images/userfire.png";
+    private static final String NOT_AN_IMAGE = "/com/example/demo/waves/level_one.txt";
+
+    private ImageCache imageCache;
+
+    @BeforeEach
+    void setUp() {
+        // Initialize JavaFX environment
+        new JFXPanel();
+        imageCache = ImageCache.getInstance();
+        imageCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageCache.clear();
+    }
+
+    @Test
+    void testImageIsShared() {
+        Image first = imageCache.getImage(USER_FIRE);
+        Image second = imageCache.getImage(USER_FIRE);
+
+        assertSame(first, second, "The same image should be returned for the same resource path.");
+        assertTrue(imageCache.isCached(USER_FIRE));
+    }
+
+    @Test
+    void testPreloadCachesImage() {
+        imageCache.preload(USER_FIRE);
+
+        assertTrue(imageCache.isCached(USER_FIRE));
+        assertNotNull(imageCache.getImage(USER_FIRE));
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        Image first = imageCache.getImage(USER_FIRE);
+        imageCache.evict(USER_FIRE);
+
+        assertFalse(imageCache.isCached(USER_FIRE));
+        assertNotSame(first, imageCache.getImage(USER_FIRE), "An evicted image should be decoded again.");
+    }
+
+    @Test
+    void testLoadedImageReportedLoaded() {
+        imageCache.getImage(USER_FIRE);
+
+        assertTrue(imageCache.isLoaded(USER_FIRE));
+        assertFalse(imageCache.isLoaded(NOT_AN_IMAGE), "An image that is not cached should not count as loaded.");
+    }
+
+    @Test
+    void testFailedImageDecodedAgain() {
+        Image failed = imageCache.getImage(NOT_AN_IMAGE);
+
+        assertTrue(failed.isError());
+        assertFalse(imageCache.isLoaded(NOT_AN_IMAGE));
+        assertNotSame(failed, imageCache.getImage(NOT_AN_IMAGE), "A failed image should not be handed out from the cache.");
+    }
+
+    @Test
+    void testMissingImage() {
+        assertThrows(NullPointerException.class, () -> imageCache.getImage("/com/example/demo/images/missing.png"));
+        assertFalse(imageCache.isCached("/com/example/demo/images/missing.png"), "A missing image should not be cached.");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.manager;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecorderTest {
+
+    private static final String LEVEL_ONE = "com.example.demo.level.LevelOne";
+
+    private final InputRecorder recorder = InputRecorder.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        recorder.stop();
+    }
+
+    @Test
+    void testPassesInputThroughWhenOff() {
+        int keys = KeyStateTracker.toKeyMask(KeyCode.UP, KeyCode.SPACE);
+
+        assertEquals(keys, recorder.nextKeyMask(keys));
+        assertSame(InputRecorder.Mode.OFF, recorder.getMode());
+    }
+
+    @Test
+    void testRecordsEveryStep() {
+        recorder.startRecording(42, LEVEL_ONE);
+        recorder.nextKeyMask(KeyStateTracker.toKeyMask(KeyCode.UP));
+        recorder.nextKeyMask(0);
+
+        InputRecording recording = recorder.stop();
+
+        assertEquals(2, recording.size());
+        assertTrue(KeyStateTracker.isKeyPressed(recording.getKeyMask(0), KeyCode.UP));
+        assertEquals(0, recording.getKeyMask(1));
+        assertEquals(42, GameRandom.getInstance().getRunSeed(), "Recording should seed the game.");
+    }
+
+    @Test
+    void testReplayOverridesLiveInput() {
+        InputRecording recording = new InputRecording(7, LEVEL_ONE);
+        recording.add(KeyStateTracker.toKeyMask(KeyCode.SPACE));
+
+        recorder.startReplay(recording);
+
+        assertEquals(KeyStateTracker.toKeyMask(KeyCode.SPACE), recorder.nextKeyMask(KeyStateTracker.toKeyMask(KeyCode.DOWN)));
+        assertEquals(0, recorder.nextKeyMask(KeyStateTracker.toKeyMask(KeyCode.DOWN)), "No keys are pressed after the recording ends.");
+        assertEquals(7, GameRandom.getInstance().getRunSeed());
+    }
+
+    @Test
+    void testRestartKeepsLatestRun() {
+        recorder.startRecording(1, LEVEL_ONE);
+        recorder.nextKeyMask(0);
+
+        recorder.restartRecording();
+        recorder.nextKeyMask(KeyStateTracker.toKeyMask(KeyCode.LEFT));
+
+        assertEquals(1, recorder.getRecording().size());
+    }
+
+    @Test
+    void testRecordingFileRoundTrip(@TempDir Path directory) throws IOException {
+        InputRecording recording = new InputRecording(123456789L, LEVEL_ONE);
+        for (int i = 0; i < 5000; i++) {
+            recording.add(i < 4000 ? 0 : KeyStateTracker.toKeyMask(KeyCode.RIGHT, KeyCode.SPACE));
+        }
+        Path file = directory.resolve("run.rec");
+
+        recording.write(file);
+        InputRecording loaded = InputRecording.read(file);
+
+        assertEquals(recording.getSeed(), loaded.getSeed());
+        assertEquals(LEVEL_ONE, loaded.getStartLevel());
+        assertEquals(5000, loaded.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(recording.getKeyMask(i), loaded.getKeyMask(i));
+        }
+        assertTrue(Files.size(file) < 200, "Held keys should be stored as runs.");
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("other.rec");
+        Files.writeString(file, "not a recording");
+
+        assertThrows(IOException.class, () -> InputRecording.read(file));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceMonitorTest {
+
+    private PerformanceMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new PerformanceMonitor();
+    }
+
+    @Test
+    void testDisabledMonitorRecordsNothing() {
+        monitor.beginStep();
+        monitor.mark(PerformanceMonitor.Stage.SPAWN);
+        monitor.endStep();
+        monitor.recordFrame(0);
+        monitor.recordFrame(1_000_000_000L);
+
+        assertEquals(0, monitor.getStepCount());
+        assertEquals(0, monitor.getAverageStepMillis());
+        assertEquals(0, monitor.getFramesPerSecond());
+    }
+
+    @Test
+    void testStageTimesAddUpToStepTime() {
+        monitor.setEnabled(true);
+
+        monitor.beginStep();
+        busyWait(2_000_000);
+        monitor.mark(PerformanceMonitor.Stage.UPDATE);
+        busyWait(1_000_000);
+        monitor.mark(PerformanceMonitor.Stage.CLEANUP);
+        monitor.endStep();
+
+        assertEquals(1, monitor.getStepCount());
+        assertTrue(monitor.getAverageStageMillis(PerformanceMonitor.Stage.UPDATE) >= 2);
+        assertTrue(monitor.getAverageStageMillis(PerformanceMonitor.Stage.CLEANUP) >= 1);
+        assertEquals(0, monitor.getAverageStageMillis(PerformanceMonitor.Stage.SPAWN));
+        assertTrue(monitor.getAverageStepMillis() >= 3);
+        assertEquals(monitor.getAverageStepMillis(), monitor.getMaxStepMillis());
+    }
+
+    @Test
+    void testStageMarkedTwiceAddsUp() {
+        monitor.setEnabled(true);
+
+        monitor.beginStep();
+        busyWait(1_000_000);
+        monitor.mark(PerformanceMonitor.Stage.UPDATE);
+        monitor.mark(PerformanceMonitor.Stage.FIRE);
+        busyWait(1_000_000);
+        monitor.mark(PerformanceMonitor.Stage.UPDATE);
+        monitor.endStep();
+
+        assertTrue(monitor.getAverageStageMillis(PerformanceMonitor.Stage.UPDATE) >= 2);
+    }
+
+    @Test
+    void testRingBufferKeepsRecentSteps() {
+        monitor.setEnabled(true);
+
+        for (int i = 0; i < PerformanceMonitor.SAMPLE_COUNT * 3; i++) {
+            monitor.beginStep();
+            monitor.mark(PerformanceMonitor.Stage.INPUT);
+            monitor.endStep();
+        }
+
+        assertEquals(PerformanceMonitor.SAMPLE_COUNT, monitor.getStepCount());
+    }
+
+    @Test
+    void testFramesPerSecond() {
+        monitor.setEnabled(true);
+
+        for (int i = 0; i <= 60; i++) {
+            monitor.recordFrame(i * 1_000_000_000L / 60);
+        }
+
+        assertEquals(60, monitor.getFramesPerSecond(), 0.01);
+    }
+
+    @Test
+    void testEnablingDiscardsOldMeasurements() {
+        monitor.setEnabled(true);
+        monitor.beginStep();
+        monitor.endStep();
+        monitor.recordFrame(0);
+
+        monitor.setEnabled(false);
+        monitor.setEnabled(true);
+
+        assertEquals(0, monitor.getStepCount());
+        assertEquals(0, monitor.getFramesPerSecond());
+    }
+
+    @Test
+    void testCounters() {
+        List<String> actors = new ArrayList<>();
+        monitor.addCounter("Actors", actors::size);
+        actors.add("plane");
+
+        assertEquals(1, monitor.getCounterCount());
+        assertEquals("Actors", monitor.getCounterName(0));
+        assertEquals(1, monitor.getCounterValue(0));
+    }
+
+    @Test
+    void testMemoryStatistics() {
+        assertTrue(PerformanceMonitor.getUsedHeapMegabytes() > 0);
+        assertTrue(PerformanceMonitor.getMaxHeapMegabytes() >= PerformanceMonitor.getUsedHeapMegabytes());
+        assertTrue(PerformanceMonitor.getGcCount() >= 0);
+    }
+
+    private static void busyWait(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
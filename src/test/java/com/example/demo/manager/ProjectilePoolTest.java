@@ -0,0 +1,141 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.actors.projectile.UserProjectile;
+import javafx.scene.Group;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest {
+
+    private ProjectilePool pool;
+    private final GameRandom random = new GameRandom(42);
+
+    @BeforeEach
+    void setUp() {
+        // Projectiles are created without decoding their images, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+        pool = ProjectilePool.getInstance();
+        pool.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.clear();
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testCreatesProjectileWhenEmpty() {
+        UserProjectile projectile = pool.acquireUserProjectile(100, 200);
+
+        assertNotNull(projectile);
+        assertEquals(100, projectile.getLayoutX());
+        assertEquals(200, projectile.getLayoutY());
+    }
+
+    @Test
+    void testReleasedProjectileIsReusedAndReset() {
+        EnemyProjectile projectile = pool.acquireEnemyProjectile(300, 150);
+        projectile.updateActor();
+        projectile.destroy();
+        pool.release(projectile);
+
+        EnemyProjectile reused = pool.acquireEnemyProjectile(50, 60);
+
+        assertSame(projectile, reused, "A released projectile should be recycled.");
+        assertEquals(50, reused.getLayoutX());
+        assertEquals(60, reused.getLayoutY());
+        assertEquals(0, reused.getTranslateX());
+        assertFalse(reused.isDestroyed(), "A recycled projectile should no longer be destroyed.");
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testBossProjectileVelocitiesReset() {
+        BossProjectile projectile = pool.acquireBossProjectile(500, 300, -5, -5);
+        pool.release(projectile);
+
+        BossProjectile reused = pool.acquireBossProjectile(400, 200, -5, 5);
+
+        assertSame(projectile, reused);
+        assertEquals(-5, reused.getXVelocity());
+        assertEquals(5, reused.getYVelocity());
+    }
+
+    @Test
+    void testReleaseIgnoresPlanesAndDuplicates() {
+        UserProjectile projectile = pool.acquireUserProjectile(0, 0);
+        pool.release(projectile);
+        pool.release(projectile);
+        pool.release(new EnemyPlane(100, 100, random));
+
+        assertEquals(1, pool.getIdleCount(), "Planes and repeated releases should not be pooled.");
+    }
+
+    @Test
+    void testReacquiredProjectileCanBeReleasedAgain() {
+        UserProjectile projectile = pool.acquireUserProjectile(0, 0);
+        pool.release(projectile);
+        assertTrue(projectile.isPooled());
+
+        assertSame(projectile, pool.acquireUserProjectile(0, 0));
+        assertFalse(projectile.isPooled(), "A projectile back in play should no longer count as pooled.");
+        pool.release(projectile);
+        pool.clear();
+        pool.release(projectile);
+
+        assertEquals(1, pool.getIdleCount(), "A projectile should be pooled again after being acquired or cleared.");
+    }
+
+    @Test
+    void testTypesAreKeptApart() {
+        pool.release(pool.acquireUserProjectile(0, 0));
+
+        assertNotNull(pool.acquireEnemyProjectile(0, 0));
+        assertEquals(1, pool.getIdleCount(), "An enemy shot should not take a pooled user projectile.");
+    }
+
+    @Test
+    void testSwitchingHeadlessModeDiscardsIdleProjectiles() {
+        UserProjectile projectile = pool.acquireUserProjectile(0, 0);
+        pool.release(projectile);
+        HeadlessMode.setEnabled(true);
+
+        assertEquals(1, pool.getIdleCount(), "Keeping the same mode should keep the idle projectiles.");
+
+        HeadlessMode.setEnabled(false);
+
+        assertEquals(0, pool.getIdleCount(), "A projectile built without its image should not be handed out for rendering.");
+        assertFalse(projectile.isPooled());
+    }
+
+    @Test
+    void testActorGroupReleasesRemovedProjectiles() {
+        Group root = new Group();
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        ActorGroup group = new ActorGroup(actors, root);
+        UserProjectile destroyed = pool.acquireUserProjectile(100, 100);
+        UserProjectile offScreen = pool.acquireUserProjectile(5000, 100);
+        actors.add(destroyed);
+        actors.add(offScreen);
+        root.getChildren().addAll(destroyed, offScreen);
+
+        destroyed.destroy();
+        group.removeDestroyed();
+        group.removeOutOfBounds(1300);
+
+        assertTrue(actors.isEmpty());
+        assertTrue(root.getChildren().isEmpty());
+        assertEquals(2, pool.getIdleCount());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileStoreTest {
+
+    private ProjectileStore store;
+
+    @BeforeEach
+    void setUp() {
+        // Target actors are created without their images, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+        store = new ProjectileStore(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testUpdateMovesByVelocity() {
+        store.spawn(100, 200, -5, 2, 10, 10);
+
+        store.update();
+        store.update();
+
+        assertEquals(90, store.getX(0), 1e-9);
+        assertEquals(204, store.getY(0), 1e-9);
+        assertEquals(92.5, store.getInterpolatedX(0, 0.5), 1e-9, "Interpolation should run from the previous step.");
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 5000; i++) {
+            store.spawn(i, 0, -1, 0, 10, 10);
+        }
+
+        store.update();
+
+        assertEquals(5000, store.size());
+        assertEquals(4998, store.getX(4999), 1e-9);
+    }
+
+    @Test
+    void testSpawnCopiesProjectileState() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 4);
+
+        store.spawn(projectile);
+
+        assertEquals(1, store.size());
+        assertEquals(projectile.getAbsoluteX(), store.getX(0), 1e-9);
+        assertEquals(projectile.getLayoutBounds().getHeight(), store.getHeight(0), 1e-9);
+        store.update();
+        assertEquals(projectile.getAbsoluteX() - 10, store.getX(0), 1e-9);
+        assertEquals(projectile.getAbsoluteY() + 4, store.getY(0), 1e-9);
+    }
+
+    @Test
+    void testCollideDamagesTargetsAndRemovesHits() {
+        EnemyProjectile target = new EnemyProjectile(500, 300);
+        double targetX = target.getBoundsInParent().getMinX();
+        double targetY = target.getBoundsInParent().getMinY();
+        List<ActiveActorDestructible> targets = new ArrayList<>();
+        targets.add(target);
+        store.spawn(targetX, targetY, 0, 0, 5, 5);
+        store.spawn(0, 0, 0, 0, 5, 5);
+
+        int hits = store.collide(targets);
+
+        assertEquals(1, hits);
+        assertTrue(target.isDestroyed());
+        assertEquals(1, store.size(), "Only the projectile that hit should be removed.");
+        assertEquals(0, store.getX(0), 1e-9);
+    }
+
+    @Test
+    void testProjectileHitsOnlyOnce() {
+        EnemyProjectile first = new EnemyProjectile(500, 300);
+        EnemyProjectile second = new EnemyProjectile(500, 300);
+        List<ActiveActorDestructible> targets = new ArrayList<>(List.of(first, second));
+        store.spawn(first.getBoundsInParent().getMinX(), first.getBoundsInParent().getMinY(), 0, 0, 5, 5);
+
+        assertEquals(1, store.collide(targets));
+        assertTrue(first.isDestroyed());
+        assertFalse(second.isDestroyed(), "A projectile should be consumed by its first hit.");
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testRemoveOutOfBounds() {
+        store.spawn(-20, 0, 0, 0, 10, 10);
+        store.spawn(-5, 0, 0, 0, 10, 10);
+        store.spawn(1400, 0, 0, 0, 10, 10);
+        store.spawn(600, 0, 0, 0, 10, 10);
+
+        store.removeOutOfBounds(1300);
+
+        assertEquals(2, store.size());
+        store.clear();
+        assertEquals(0, store.size());
+    }
+}
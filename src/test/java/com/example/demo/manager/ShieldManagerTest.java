@@ -19,7 +19,7 @@ public class ShieldManagerTest {
         // Necessary to initialize the JavaFX toolkit and environment
         new JFXPanel();
         root = new Group();
-        shieldManager = new ShieldManager(root, 100.0, 100.0);
+        shieldManager = new ShieldManager(root, 100.0, 100.0, new GameRandom(42));
     }
 
     @Test
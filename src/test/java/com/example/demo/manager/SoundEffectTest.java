@@ -0,0 +1,28 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectTest {
+
+    private static final String EXPLOSION = "/com/example/demo/sounds/explosion.mp3";
+
+    @Test
+    void testVoicesPreloaded() {
+        SoundEffect effect = new SoundEffect(EXPLOSION, 3);
+
+        assertEquals(3, effect.getVoiceCount());
+        assertEquals(0, effect.getPlayingVoiceCount(), "No voice should play before the effect is triggered.");
+    }
+
+    @Test
+    void testInvalidVoiceCount() {
+        assertThrows(IllegalArgumentException.class, () -> new SoundEffect(EXPLOSION, 0));
+    }
+
+    @Test
+    void testMissingSound() {
+        assertThrows(NullPointerException.class, () -> new SoundEffect("/com/example/demo/sounds/missing.mp3", 1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    private SpatialGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialGrid(100);
+    }
+
+    @Test
+    void testQueryFindsOverlappingItem() {
+        grid.insert(10, 10, 50, 50);
+        grid.insert(500, 500, 550, 550);
+
+        int count = grid.query(40, 40, 60, 60);
+
+        assertEquals(1, count, "Only the nearby item should be reported.");
+        assertEquals(0, grid.getCandidate(0));
+    }
+
+    @Test
+    void testTouchingEdgesIntersect() {
+        grid.insert(0, 0, 100, 100);
+        assertEquals(1, grid.query(100, 100, 120, 120), "Touching edges should count as an intersection.");
+    }
+
+    @Test
+    void testItemSpanningCellsReportedOnce() {
+        grid.insert(50, 50, 350, 350);
+        assertEquals(1, grid.query(0, 0, 400, 400), "An item covering several cells should be reported once.");
+    }
+
+    @Test
+    void testCandidatesInInsertionOrder() {
+        grid.insert(250, 0, 260, 10);
+        grid.insert(0, 0, 10, 10);
+        grid.insert(120, 0, 130, 10);
+
+        int count = grid.query(0, 0, 300, 10);
+
+        assertEquals(3, count);
+        assertEquals(0, grid.getCandidate(0));
+        assertEquals(1, grid.getCandidate(1));
+        assertEquals(2, grid.getCandidate(2));
+    }
+
+    @Test
+    void testNegativeCoordinates() {
+        grid.insert(-150, -150, -120, -120);
+        assertEquals(1, grid.query(-130, -130, -100, -100));
+        assertEquals(0, grid.query(10, 10, 20, 20));
+    }
+
+    @Test
+    void testEmptyBoxesNeverIntersect() {
+        grid.insert(10, 10, 5, 5);
+        assertEquals(0, grid.query(0, 0, 20, 20));
+        assertEquals(0, grid.query(20, 20, 0, 0));
+    }
+
+    @Test
+    void testClearRemovesItems() {
+        grid.insert(0, 0, 10, 10);
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.query(0, 0, 10, 10));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 500; i++) {
+            grid.insert(i * 2, 0, i * 2 + 1, 1);
+        }
+        assertEquals(500, grid.size());
+        assertEquals(500, grid.query(0, 0, 1000, 1));
+    }
+
+    @Test
+    void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialGrid(0));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+
+    // Sizes of the sprites shipped with the game
+    private static final int[] SPRITE_WIDTHS = {594, 122, 647, 635, 299, 568, 800, 658, 250, 800};
+    private static final int[] SPRITE_HEIGHTS = {156, 26, 214, 143, 93, 111, 318, 658, 250, 600};
+
+    @Test
+    void testSpritesDoNotOverlapAndKeepPadding() {
+        int count = SPRITE_WIDTHS.length;
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+
+        int[] size = TextureAtlas.pack(SPRITE_WIDTHS, SPRITE_HEIGHTS, TextureAtlas.MAX_WIDTH, TextureAtlas.PADDING, xs, ys);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(xs[i] >= TextureAtlas.PADDING && ys[i] >= TextureAtlas.PADDING);
+            assertTrue(xs[i] + SPRITE_WIDTHS[i] + TextureAtlas.PADDING <= size[0], "Sprite " + i + " should fit the width.");
+            assertTrue(ys[i] + SPRITE_HEIGHTS[i] + TextureAtlas.PADDING <= size[1], "Sprite " + i + " should fit the height.");
+            for (int j = i + 1; j < count; j++) {
+                boolean apart = xs[i] + SPRITE_WIDTHS[i] + TextureAtlas.PADDING <= xs[j]
+                        || xs[j] + SPRITE_WIDTHS[j] + TextureAtlas.PADDING <= xs[i]
+                        || ys[i] + SPRITE_HEIGHTS[i] + TextureAtlas.PADDING <= ys[j]
+                        || ys[j] + SPRITE_HEIGHTS[j] + TextureAtlas.PADDING <= ys[i];
+                assertTrue(apart, "Sprites " + i + " and " + j + " should be separated by padding.");
+            }
+        }
+        assertTrue(size[0] <= TextureAtlas.MAX_WIDTH);
+        assertTrue(size[1] <= TextureAtlas.MAX_WIDTH, "All sprites should fit a square texture of the maximum width.");
+    }
+
+    @Test
+    void testTallestSpritesShareTheFirstShelf() {
+        int[] xs = new int[3];
+        int[] ys = new int[3];
+
+        int[] size = TextureAtlas.pack(new int[]{10, 10, 10}, new int[]{5, 20, 10}, 100, 1, xs, ys);
+
+        assertArrayEquals(new int[]{1, 1, 1}, ys);
+        assertEquals(1, xs[1], "The tallest sprite should be placed first.");
+        assertArrayEquals(new int[]{34, 22}, size);
+    }
+
+    @Test
+    void testNewShelfWhenRowIsFull() {
+        int[] xs = new int[2];
+        int[] ys = new int[2];
+
+        int[] size = TextureAtlas.pack(new int[]{60, 60}, new int[]{20, 10}, 100, 2, xs, ys);
+
+        assertEquals(2, xs[1]);
+        assertEquals(24, ys[1], "The second sprite should start below the first shelf and its padding.");
+        assertArrayEquals(new int[]{64, 36}, size);
+    }
+
+    @Test
+    void testSpriteWiderThanAtlasRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TextureAtlas.pack(new int[]{200}, new int[]{10}, 100, 2, new int[1], new int[1]));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UiDispatcherTest {
+
+    private boolean onUiThread;
+    private List<Runnable> scheduled;
+    private UiDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        scheduled = new ArrayList<>();
+        dispatcher = new UiDispatcher(() -> onUiThread, scheduled::add);
+    }
+
+    @Test
+    void testUpdateAppliedImmediatelyOnUiThread() {
+        onUiThread = true;
+        int[] runs = {0};
+
+        dispatcher.submit(() -> runs[0]++);
+
+        assertEquals(1, runs[0]);
+        assertTrue(scheduled.isEmpty(), "Nothing should be posted when already on the UI thread.");
+    }
+
+    @Test
+    void testRepeatedUpdateCoalescedToLatestValue() {
+        double[] target = {0};
+        double[] applied = {-1};
+        int[] runs = {0};
+        Runnable apply = () -> {
+            applied[0] = target[0];
+            runs[0]++;
+        };
+
+        for (int frame = 1; frame <= 5; frame++) {
+            target[0] = frame;
+            dispatcher.submit(apply);
+        }
+        assertEquals(1, scheduled.size(), "Only one flush should be posted per pulse.");
+        assertEquals(1, dispatcher.getPendingCount());
+
+        runScheduled();
+
+        assertEquals(1, runs[0]);
+        assertEquals(5, applied[0]);
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void testDistinctUpdatesAppliedInSubmissionOrder() {
+        List<String> applied = new ArrayList<>();
+
+        dispatcher.submit(() -> applied.add("position"));
+        dispatcher.submit(() -> applied.add("visibility"));
+        runScheduled();
+
+        assertEquals(List.of("position", "visibility"), applied);
+    }
+
+    @Test
+    void testNewFlushPostedAfterPreviousOne() {
+        int[] runs = {0};
+        Runnable apply = () -> runs[0]++;
+
+        dispatcher.submit(apply);
+        runScheduled();
+        dispatcher.submit(apply);
+
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(2, runs[0]);
+    }
+
+    private void runScheduled() {
+        List<Runnable> flushes = new ArrayList<>(scheduled);
+        scheduled.clear();
+        flushes.forEach(Runnable::run);
+    }
+}
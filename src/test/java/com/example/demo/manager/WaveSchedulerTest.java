@@ -0,0 +1,175 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.plane.EnemyPlane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveSchedulerTest {
+
+    private static final double SPAWN_X = 1300;
+    private static final double MAX_Y = 600;
+
+    private final GameRandom random = new GameRandom(42);
+    private final Map<String, WaveScheduler.EnemyFactory> types = Map.of("basic", (x, y) -> new EnemyPlane(x, y, random));
+
+    private List<ActiveActorDestructible> spawned;
+
+    @BeforeEach
+    void setUp() {
+        // Enemy planes are sized from their sprite metadata, no JavaFX toolkit needed
+        HeadlessMode.setEnabled(true);
+        spawned = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testEventsFireAtTheirFrameInOrder() {
+        WaveScheduler waves = parse(
+                "20 basic line 1 0.5",
+                "5  basic line 2 0.1",
+                "20 basic line 1 0.9");
+
+        assertEquals(0, runFrames(waves, 5));
+        assertEquals(2, waves.update(0, spawned::add), "The event at frame 5 should fire on the sixth update.");
+        assertEquals(0, runFrames(waves, 14));
+        assertEquals(2, waves.update(0, spawned::add));
+
+        assertEquals(0.5 * MAX_Y, spawned.get(2).getLayoutY(), 1e-9, "Events of the same frame should keep script order.");
+        assertEquals(0.9 * MAX_Y, spawned.get(3).getLayoutY(), 1e-9);
+        assertTrue(waves.isFinished());
+        assertEquals(0, runFrames(waves, 100));
+    }
+
+    @Test
+    void testFormationsPlaceEnemies() {
+        WaveScheduler waves = parse(
+                "0 basic line 3 0.2 90",
+                "0 basic row  2 0.5 200",
+                "0 basic vee  3 0.5 100");
+
+        waves.update(0, spawned::add);
+
+        assertEquals(8, spawned.size());
+        assertPosition(spawned.get(0), SPAWN_X, 120);
+        assertPosition(spawned.get(2), SPAWN_X, 300);
+        assertPosition(spawned.get(4), SPAWN_X + 200, 300);
+        assertPosition(spawned.get(5), SPAWN_X, 300);
+        assertPosition(spawned.get(6), SPAWN_X + 100, 200);
+        assertPosition(spawned.get(7), SPAWN_X + 100, 400);
+    }
+
+    @Test
+    void testFormationClampedToEnemyArea() {
+        WaveScheduler waves = parse("0 basic line 3 1.0 90");
+
+        waves.update(0, spawned::add);
+
+        spawned.forEach(enemy -> assertEquals(MAX_Y, enemy.getLayoutY(), 1e-9));
+    }
+
+    @Test
+    void testDueEventsWaitForRoom() {
+        WaveScheduler waves = parse(
+                "max 4",
+                "0 basic random 2",
+                "0 basic random 2");
+
+        assertEquals(2, waves.update(2, spawned::add), "Only the first event should fit next to two enemies on screen.");
+        assertEquals(0, waves.update(3, spawned::add), "The second event should wait while it does not fit.");
+        assertEquals(2, waves.update(2, spawned::add));
+        assertTrue(waves.isFinished());
+    }
+
+    @Test
+    void testFormationNeverExceedsMaximum() {
+        WaveScheduler waves = parse(
+                "max 5",
+                "0 basic line 3",
+                "1 basic random 1");
+
+        assertEquals(0, waves.update(3, spawned::add), "The formation should wait until all its enemies fit.");
+        assertEquals(0, waves.update(3, spawned::add), "Later events should wait behind it.");
+        assertEquals(4, waves.update(1, spawned::add));
+        assertTrue(waves.isFinished());
+    }
+
+    @Test
+    void testScriptRepeats() {
+        WaveScheduler waves = parse(
+                "repeat 10",
+                "0 basic random 1",
+                "4 basic random 1");
+
+        assertEquals(6, runFrames(waves, 30));
+        assertFalse(waves.isFinished());
+    }
+
+    @Test
+    void testRandomFormationIsReproducible() {
+        WaveScheduler.parse(List.of("0 basic random 4"), types, SPAWN_X, MAX_Y, new GameRandom(3)).update(0, spawned::add);
+        List<Double> first = spawned.stream().map(ActiveActorDestructible::getLayoutY).toList();
+
+        spawned.clear();
+        WaveScheduler.parse(List.of("0 basic random 4"), types, SPAWN_X, MAX_Y, new GameRandom(3)).update(0, spawned::add);
+
+        assertEquals(first, spawned.stream().map(ActiveActorDestructible::getLayoutY).toList());
+        first.forEach(y -> assertTrue(y >= 0 && y <= MAX_Y));
+    }
+
+    @Test
+    void testInvalidLinesNamed() {
+        assertInvalid("line 2", "# comment", "0 ghost random 1");
+        assertInvalid("line 1", "0 basic circle 1");
+        assertInvalid("line 1", "0 basic line 0");
+        assertInvalid("line 1", "0 basic line 1 1.5");
+        assertInvalid("line 1", "-1 basic line 1");
+        assertInvalid("line 1", "max");
+        assertInvalid("repeat period", "repeat 10", "10 basic line 1");
+        assertInvalid("exceeds the maximum", "max 2", "0 basic line 3");
+    }
+
+    @Test
+    void testLevelScriptsLoad() {
+        for (String script : List.of("level_one", "level_two", "level_final_boss")) {
+            WaveScheduler waves = WaveScheduler.load("/com/example/demo/waves/" + script + ".txt",
+                    Map.of("basic", types.get("basic"), "heavy", types.get("basic")), SPAWN_X, MAX_Y, random);
+            assertTrue(runFrames(waves, 60) > 0, script + " should spawn enemies within its first second.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> WaveScheduler.load("/com/example/demo/waves/missing.txt", types, SPAWN_X, MAX_Y, random));
+    }
+
+    private WaveScheduler parse(String... lines) {
+        return WaveScheduler.parse(List.of(lines), types, SPAWN_X, MAX_Y, random);
+    }
+
+    private int runFrames(WaveScheduler waves, int frames) {
+        int total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += waves.update(0, spawned::add);
+        }
+        return total;
+    }
+
+    private static void assertPosition(ActiveActorDestructible enemy, double x, double y) {
+        assertEquals(x, enemy.getLayoutX(), 1e-9);
+        assertEquals(y, enemy.getLayoutY(), 1e-9);
+    }
+
+    private void assertInvalid(String expectedInMessage, String... lines) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> WaveScheduler.parse(List.of(lines), types, SPAWN_X, MAX_Y, random));
+        assertTrue(e.getMessage().contains(expectedInMessage), e.getMessage());
+    }
+}
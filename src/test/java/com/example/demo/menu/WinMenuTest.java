@@ -0,0 +1,70 @@
+package com.example.demo.menu;
+
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.event.Event;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinMenuTest {
+
+    private Scene scene;
+    private WinMenu winMenu;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        new JFXPanel(); // Initialize JavaFX environment
+        runAndWait(() -> {
+            scene = new Scene(new Group(), 800, 600);
+            winMenu = new WinMenu(scene);
+        });
+    }
+
+    @Test
+    void testSpaceBlockedWhileShown() throws Exception {
+        runAndWait(winMenu::show);
+
+        assertFalse(spaceReachesMenu(), "The win menu should keep the space key from its buttons.");
+    }
+
+    @Test
+    void testDisposeRemovesKeyFilter() throws Exception {
+        runAndWait(() -> {
+            winMenu.show();
+            winMenu.show(); // Showing the menu again should not add its filter twice
+            winMenu.dispose();
+        });
+
+        assertTrue(spaceReachesMenu(), "A disposed win menu should leave no key filter on the scene.");
+    }
+
+    private boolean spaceReachesMenu() throws Exception {
+        boolean[] delivered = new boolean[1];
+        runAndWait(() -> {
+            scene.getRoot().addEventHandler(KeyEvent.KEY_PRESSED, event -> delivered[0] = true);
+            Event.fireEvent(scene.getRoot(), new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.SPACE, false, false, false, false));
+        });
+        return delivered[0];
+    }
+
+    private static void runAndWait(Runnable action) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The JavaFX application thread did not run the action.");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.manager.HeadlessMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanvasRendererTest {
+
+    private CanvasRenderer canvasRenderer;
+    private List<ActiveActorDestructible> actors;
+
+    @BeforeEach
+    void setUp() {
+        // Actors are created without their images, so nothing needs the JavaFX toolkit
+        HeadlessMode.setEnabled(true);
+        canvasRenderer = new CanvasRenderer(1300, 750);
+        actors = new ArrayList<>();
+        canvasRenderer.addLayer(actors);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testCanvasCoversScreen() {
+        assertEquals(1300, canvasRenderer.getCanvas().getWidth());
+        assertEquals(750, canvasRenderer.getCanvas().getHeight());
+        assertTrue(canvasRenderer.getCanvas().isMouseTransparent(), "The canvas should not take input from the background.");
+    }
+
+    @Test
+    void testPositionsInterpolatedBetweenSteps() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 4);
+        actors.add(projectile);
+
+        canvasRenderer.savePreviousPositions();
+        projectile.updateActor();
+
+        assertEquals(500, projectile.getInterpolatedX(0), 1e-9);
+        assertEquals(495, projectile.getInterpolatedX(0.5), 1e-9);
+        assertEquals(490, projectile.getInterpolatedX(1), 1e-9);
+        assertEquals(302, projectile.getInterpolatedY(0.5), 1e-9);
+    }
+
+    @Test
+    void testNewActorStartsWithoutInterpolation() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 0);
+
+        assertEquals(500, projectile.getInterpolatedX(0.5), 1e-9, "A new actor has no previous position to move from.");
+    }
+
+    @Test
+    void testRenderSkipsActorsWithoutImage() {
+        actors.add(new BossProjectile(500, 300));
+        assertDoesNotThrow(() -> canvasRenderer.render(0.5));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.manager.HeadlessMode;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeInterpolatorTest {
+
+    private NodeInterpolator nodeInterpolator;
+    private List<ActiveActorDestructible> actors;
+
+    @BeforeEach
+    void setUp() {
+        // Actors are created without their images, so nothing needs the JavaFX toolkit
+        HeadlessMode.setEnabled(true);
+        nodeInterpolator = new NodeInterpolator();
+        actors = new ArrayList<>();
+        nodeInterpolator.addLayer(actors);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+    }
+
+    @Test
+    void testNodeShownAtInterpolatedPosition() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 4);
+        actors.add(projectile);
+
+        nodeInterpolator.savePreviousPositions();
+        projectile.updateActor();
+        nodeInterpolator.render(0.5);
+
+        Bounds shown = projectile.getBoundsInParent();
+        assertEquals(495, shown.getMinX(), 1e-9);
+        assertEquals(302, shown.getMinY(), 1e-9);
+    }
+
+    @Test
+    void testSimulatedBoundsUnaffected() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 4);
+        actors.add(projectile);
+
+        nodeInterpolator.savePreviousPositions();
+        projectile.updateActor();
+        nodeInterpolator.render(0.25);
+
+        assertEquals(490, projectile.getBoundsMinX(), 1e-9, "Collisions should use the simulated position.");
+        assertEquals(304, projectile.getBoundsMinY(), 1e-9);
+    }
+
+    @Test
+    void testStationaryActorGetsNoTransform() {
+        BossProjectile projectile = new BossProjectile(500, 300, 0, 0);
+        actors.add(projectile);
+
+        nodeInterpolator.savePreviousPositions();
+        projectile.updateActor();
+        nodeInterpolator.render(0.5);
+
+        assertTrue(projectile.getTransforms().isEmpty());
+    }
+
+    @Test
+    void testOffsetClearedOnceCaughtUp() {
+        BossProjectile projectile = new BossProjectile(500, 300, -10, 0);
+        actors.add(projectile);
+
+        nodeInterpolator.savePreviousPositions();
+        projectile.updateActor();
+        nodeInterpolator.render(0.5);
+        nodeInterpolator.savePreviousPositions(); // Next step, the projectile stopped
+        nodeInterpolator.render(0.5);
+
+        assertEquals(490, projectile.getBoundsInParent().getMinX(), 1e-9);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.view;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneLayersTest {
+
+    @Test
+    void testLayersStackedInOrder() {
+        Group root = new Group();
+        SceneLayers layers = new SceneLayers(root, true);
+        ImageView background = new ImageView();
+
+        layers.setBackground(background);
+
+        assertEquals(List.of(background, layers.getActorLayer(), layers.getEffectsLayer(), layers.getHudLayer()),
+                root.getChildren());
+        assertEquals(List.of(layers.getFriendlyLayer(), layers.getEnemyLayer(), layers.getProjectileLayer()),
+                layers.getActorLayer().getChildren());
+    }
+
+    @Test
+    void testStaticLayersCached() {
+        Group root = new Group();
+        SceneLayers layers = new SceneLayers(root, true);
+        ImageView background = new ImageView();
+
+        layers.setBackground(background);
+
+        assertTrue(background.isCache());
+        assertTrue(layers.getHudLayer().isCache());
+        assertFalse(layers.getActorLayer().isCache(), "Actors move every frame and should not be cached.");
+    }
+
+    @Test
+    void testCanvasTakesPlaceOfActorLayers() {
+        Group root = new Group();
+        SceneLayers layers = new SceneLayers(root, false);
+        ImageView background = new ImageView();
+        Node canvas = new Group();
+
+        layers.setBackground(background);
+        layers.setActorCanvas(canvas);
+
+        assertEquals(List.of(background, canvas, layers.getEffectsLayer(), layers.getHudLayer()), root.getChildren());
+        assertNull(layers.getActorLayer().getParent(), "Actor layers should stay outside the scene.");
+    }
+
+    @Test
+    void testAddingActorTouchesOnlyItsLayer() {
+        Group root = new Group();
+        SceneLayers layers = new SceneLayers(root, true);
+        int[] rootChanges = {0};
+        root.getChildren().addListener((ListChangeListener<Node>) change -> rootChanges[0]++);
+
+        layers.getEnemyLayer().getChildren().add(new Group());
+        layers.getEnemyLayer().getChildren().clear();
+
+        assertEquals(0, rootChanges[0]);
+    }
+
+    @Test
+    void testClear() {
+        Group root = new Group();
+        SceneLayers layers = new SceneLayers(root, true);
+        layers.getFriendlyLayer().getChildren().add(new Group());
+        layers.getProjectileLayer().getChildren().add(new Group());
+        layers.getHudLayer().getChildren().add(new Group());
+
+        layers.clear();
+
+        assertTrue(layers.getFriendlyLayer().getChildren().isEmpty());
+        assertTrue(layers.getProjectileLayer().getChildren().isEmpty());
+        assertTrue(layers.getHudLayer().getChildren().isEmpty());
+    }
+}